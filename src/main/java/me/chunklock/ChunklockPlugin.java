@@ -337,6 +337,9 @@ public class ChunklockPlugin extends JavaPlugin implements Listener {
             // Now safe to initialize SingleWorldManager since ChunkPreAllocationService is ready
             this.singleWorldManager = new me.chunklock.managers.SingleWorldManager(this);
             
+            // Enabled-world flags depend on the SingleWorldManager's world name
+            this.worldManager.refreshWorldCache();
+            
             // Initialize economy manager after biome registry and chunk evaluator
             this.economyManager = new me.chunklock.economy.EconomyManager(this, biomeUnlockRegistry, progressTracker, chunkEvaluator);
             
@@ -440,6 +443,7 @@ public class ChunklockPlugin extends JavaPlugin implements Listener {
         try {
             logSection("Event Listeners", "👂");
             
+            Bukkit.getPluginManager().registerEvents(worldManager, this);
             Bukkit.getPluginManager().registerEvents(playerListener, this);
             Bukkit.getPluginManager().registerEvents(joinQuitListener, this);
             Bukkit.getPluginManager().registerEvents(unlockGuiListener, this);
@@ -616,6 +620,7 @@ public class ChunklockPlugin extends JavaPlugin implements Listener {
             
             if (hologramService != null) hologramService.cleanup();
             if (chunkBorderManager != null) chunkBorderManager.cleanup();
+            if (worldManager != null) worldManager.cleanup();
             if (chunkPreAllocationService != null) chunkPreAllocationService.stop(); // NEW: Stop pre-allocation service
             if (costDatabase != null) costDatabase.close(); // Close database connection
             
@@ -868,7 +873,7 @@ public class ChunklockPlugin extends JavaPlugin implements Listener {
             
             if (chunkBorderManager != null) {
                 var borderStats = chunkBorderManager.getBorderStats();
-                stats.append("Players with glass borders: ").append(borderStats.get("playersWithBorders")).append("\n");
+                stats.append("Border holders: ").append(borderStats.get("holdersWithBorders")).append("\n");
                 stats.append("Total border blocks: ").append(borderStats.get("totalBorderBlocks")).append("\n");
                 stats.append("Border system enabled: ").append(borderStats.get("enabled")).append("\n");
             }
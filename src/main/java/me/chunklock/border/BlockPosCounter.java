@@ -0,0 +1,99 @@
+package me.chunklock.border;
+
+/**
+ * Open-addressing multiset of packed block positions (see {@link BlockPosMap#pack}), used to
+ * count how many players have a border at each position of a world. Not thread-safe.
+ */
+public final class BlockPosCounter {
+
+    private long[] keys = new long[16];
+    private int[] counts = new int[16]; // 0 marks an empty slot
+    private int mask = 15;
+    private int size;
+
+    public boolean contains(long pos) {
+        return counts[find(pos)] != 0;
+    }
+
+    public int count(long pos) {
+        return counts[find(pos)];
+    }
+
+    /**
+     * @return the new count
+     */
+    public int increment(long pos) {
+        int slot = find(pos);
+        if (counts[slot] != 0) {
+            return ++counts[slot];
+        }
+        keys[slot] = pos;
+        counts[slot] = 1;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+        return 1;
+    }
+
+    /**
+     * @return the new count; the position is dropped when it reaches zero
+     */
+    public int decrement(long pos) {
+        int slot = find(pos);
+        if (counts[slot] == 0) {
+            return 0;
+        }
+        if (--counts[slot] > 0) {
+            return counts[slot];
+        }
+        removeAt(slot);
+        return 0;
+    }
+
+    /** Number of distinct positions. */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int find(long pos) {
+        int slot = BlockPosMap.slotFor(pos, mask);
+        while (counts[slot] != 0 && keys[slot] != pos) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void removeAt(int gap) {
+        int slot = (gap + 1) & mask;
+        while (counts[slot] != 0) {
+            int home = BlockPosMap.slotFor(keys[slot], mask);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                counts[gap] = counts[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        counts[gap] = 0;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[capacity];
+        counts = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldCounts.length; i++) {
+            if (oldCounts[i] != 0) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package me.chunklock.border;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from packed block positions to values, so border lookups on block
+ * events need neither a {@link org.bukkit.Location} nor a boxed key. Values may be null.
+ * Not thread-safe; border state is only changed on the main thread.
+ */
+public final class BlockPosMap<V> {
+
+    /**
+     * Receives each entry of the map.
+     */
+    @FunctionalInterface
+    public interface EntryVisitor<V> {
+        void visit(long pos, V value);
+    }
+
+    // Marks an occupied slot whose value is null
+    private static final Object NULL_VALUE = new Object();
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public BlockPosMap() {
+        this(16);
+    }
+
+    public BlockPosMap(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Packs block coordinates the same way Minecraft does: 26 bits of x and z, 12 bits of y.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
+    }
+
+    /**
+     * The packed position {@code dy} blocks above {@code pos}, in the same column.
+     */
+    public static long offsetY(long pos, int dy) {
+        return (pos & ~0xFFFL) | ((pos + dy) & 0xFFFL);
+    }
+
+    public static int unpackX(long pos) {
+        return (int) (pos >> 38);
+    }
+
+    public static int unpackY(long pos) {
+        return (int) (pos << 52 >> 52);
+    }
+
+    public static int unpackZ(long pos) {
+        return (int) (pos << 26 >> 38);
+    }
+
+    public boolean containsKey(long pos) {
+        return values[find(pos)] != null;
+    }
+
+    public V get(long pos) {
+        return unmask(values[find(pos)]);
+    }
+
+    /**
+     * @return the previous value, or null if there was none (or it was null)
+     */
+    public V put(long pos, V value) {
+        int slot = find(pos);
+        Object previous = values[slot];
+        values[slot] = value != null ? value : NULL_VALUE;
+        if (previous != null) {
+            return unmask(previous);
+        }
+        keys[slot] = pos;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    public V remove(long pos) {
+        int slot = find(pos);
+        Object previous = values[slot];
+        if (previous == null) {
+            return null;
+        }
+        removeAt(slot);
+        return unmask(previous);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    public void forEach(EntryVisitor<? super V> visitor) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                visitor.visit(keys[i], unmask(values[i]));
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the keys, for callers that modify the map while walking it.
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[n++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    // Slot holding the key, or the empty slot where it would go
+    private int find(long pos) {
+        int slot = slotFor(pos, mask);
+        while (values[slot] != null && keys[slot] != pos) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones
+    private void removeAt(int gap) {
+        int slot = (gap + 1) & mask;
+        while (values[slot] != null) {
+            int home = slotFor(keys[slot], mask);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[gap] = null;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    static int slotFor(long pos, int mask) {
+        long h = pos * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unmask(Object value) {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+}
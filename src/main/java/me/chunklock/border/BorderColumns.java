@@ -0,0 +1,124 @@
+package me.chunklock.border;
+
+/**
+ * Vertical border bands keyed by block column: for each (x, z) the lowest and highest y of the
+ * band. Border placement emits one range per column rather than one position per block, so
+ * collecting and planning a side costs the same whatever the band's height. A column added
+ * twice keeps the union of both ranges. Not thread-safe.
+ */
+public final class BorderColumns {
+
+    /**
+     * Receives each column and its inclusive y range.
+     */
+    @FunctionalInterface
+    public interface ColumnVisitor {
+        void visit(int x, int z, int minY, int maxY);
+    }
+
+    // Marks an occupied slot, so 0 can stay the empty marker for any range
+    private static final int OCCUPIED = 1 << 24;
+
+    private long[] keys = new long[16];
+    private int[] ranges = new int[16]; // 0 marks an empty slot
+    private int mask = 15;
+    private int size;
+    private int blocks;
+
+    /**
+     * Adds the blocks minY..maxY (inclusive) of a column; an empty range is ignored.
+     */
+    public void add(int x, int z, int minY, int maxY) {
+        if (minY > maxY) return;
+        long key = BlockPosMap.pack(x, 0, z);
+        int slot = find(key);
+        if (ranges[slot] != 0) {
+            int oldMin = minY(ranges[slot]);
+            int oldMax = maxY(ranges[slot]);
+            minY = Math.min(minY, oldMin);
+            maxY = Math.max(maxY, oldMax);
+            blocks += (maxY - minY) - (oldMax - oldMin);
+            ranges[slot] = range(minY, maxY);
+            return;
+        }
+        keys[slot] = key;
+        ranges[slot] = range(minY, maxY);
+        blocks += maxY - minY + 1;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Whether a packed position ({@link BlockPosMap#pack}) lies inside its column's band.
+     */
+    public boolean contains(long pos) {
+        int range = ranges[find(columnOf(pos))];
+        if (range == 0) return false;
+        int y = BlockPosMap.unpackY(pos);
+        return y >= minY(range) && y <= maxY(range);
+    }
+
+    /** Number of columns. */
+    public int size() {
+        return size;
+    }
+
+    /** Number of blocks covered by all bands. */
+    public int blockCount() {
+        return blocks;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(ColumnVisitor visitor) {
+        for (int i = 0; i < ranges.length; i++) {
+            if (ranges[i] != 0) {
+                long key = keys[i];
+                visitor.visit(BlockPosMap.unpackX(key), BlockPosMap.unpackZ(key), minY(ranges[i]), maxY(ranges[i]));
+            }
+        }
+    }
+
+    private static long columnOf(long pos) {
+        return pos & ~0xFFFL;
+    }
+
+    // Both ends fit the 12 bits of y that BlockPosMap packs
+    private static int range(int minY, int maxY) {
+        return OCCUPIED | (minY & 0xFFF) << 12 | (maxY & 0xFFF);
+    }
+
+    private static int minY(int range) {
+        return range << 8 >> 20;
+    }
+
+    private static int maxY(int range) {
+        return range << 20 >> 20;
+    }
+
+    private int find(long key) {
+        int slot = BlockPosMap.slotFor(key, mask);
+        while (ranges[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldRanges = ranges;
+        keys = new long[capacity];
+        ranges = new int[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldRanges.length; i++) {
+            if (oldRanges[i] != 0) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                ranges[slot] = oldRanges[i];
+            }
+        }
+    }
+}
@@ -8,6 +8,10 @@ public class BorderConfig {
     public int borderHeight;
     public int minYOffset;
     public int maxYOffset;
+    public boolean useHeightmap;
+    public int heightmapBelow;
+    public int heightmapAbove;
+    public boolean shareTeamBorders;
     public int scanRange;
     public long updateDelay;
     public long updateCooldown;
@@ -16,6 +20,18 @@ public class BorderConfig {
     public boolean restoreOriginalBlocks;
     public boolean debugLogging;
     public Material borderMaterial;
+    public BorderRenderMode renderMode;
     public int borderUpdateDelayTicks;
     public int maxBorderUpdatesPerTick;
+    public long borderTickBudgetNanos;
+    public int borderBatchBlocks;
+    public int particleIntervalTicks;
+    public double particleViewDistance;
+    public double particleFovDegrees;
+    public int particleSegmentsPerEdge;
+    public int particlesPerSegment;
+    public int particleRows;
+    public double particleRowSpacing;
+    public float particleSize;
+    public int particleColor;
 }
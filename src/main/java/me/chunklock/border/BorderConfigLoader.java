@@ -31,6 +31,10 @@ public class BorderConfigLoader {
             c.borderHeight = bordersConfig.getBorderHeight();
             c.minYOffset = bordersConfig.getMinYOffset();
             c.maxYOffset = bordersConfig.getMaxYOffset();
+            c.useHeightmap = bordersConfig.isUseHeightmap();
+            c.heightmapBelow = bordersConfig.getHeightmapBelow();
+            c.heightmapAbove = bordersConfig.getHeightmapAbove();
+            c.shareTeamBorders = bordersConfig.isShareTeamBorders();
             c.scanRange = bordersConfig.getScanRange();
             c.updateDelay = bordersConfig.getUpdateDelay();
             c.updateCooldown = bordersConfig.getUpdateCooldown();
@@ -39,6 +43,16 @@ public class BorderConfigLoader {
             c.restoreOriginalBlocks = bordersConfig.isRestoreOriginalBlocks();
             c.debugLogging = bordersConfig.isDebugLogging();
             c.borderMaterial = bordersConfig.getBorderMaterial();
+            c.renderMode = bordersConfig.getRenderMode();
+            c.particleIntervalTicks = bordersConfig.getParticleIntervalTicks();
+            c.particleViewDistance = bordersConfig.getParticleViewDistance();
+            c.particleFovDegrees = bordersConfig.getParticleFovDegrees();
+            c.particleSegmentsPerEdge = bordersConfig.getParticleSegmentsPerEdge();
+            c.particlesPerSegment = bordersConfig.getParticlesPerSegment();
+            c.particleRows = bordersConfig.getParticleRows();
+            c.particleRowSpacing = bordersConfig.getParticleRowSpacing();
+            c.particleSize = bordersConfig.getParticleSize();
+            c.particleColor = bordersConfig.getParticleColor();
         } else {
             // Fallback defaults
             c.enabled = true;
@@ -46,6 +60,10 @@ public class BorderConfigLoader {
             c.borderHeight = 3;
             c.minYOffset = -2;
             c.maxYOffset = 4;
+            c.useHeightmap = false;
+            c.heightmapBelow = 1;
+            c.heightmapAbove = 3;
+            c.shareTeamBorders = true;
             c.scanRange = 8;
             c.updateDelay = 20L;
             c.updateCooldown = 2000L;
@@ -54,6 +72,16 @@ public class BorderConfigLoader {
             c.restoreOriginalBlocks = true;
             c.debugLogging = false;
             c.borderMaterial = org.bukkit.Material.LIGHT_GRAY_STAINED_GLASS;
+            c.renderMode = BorderRenderMode.BLOCKS;
+            c.particleIntervalTicks = 10;
+            c.particleViewDistance = 48.0;
+            c.particleFovDegrees = 140.0;
+            c.particleSegmentsPerEdge = 4;
+            c.particlesPerSegment = 6;
+            c.particleRows = 3;
+            c.particleRowSpacing = 1.0;
+            c.particleSize = 1.0f;
+            c.particleColor = 0xD0D0D0;
         }
         
         // Debug logging: check master debug switch first, then specific border debug setting
@@ -65,9 +93,13 @@ public class BorderConfigLoader {
         if (performanceConfig != null) {
             c.borderUpdateDelayTicks = performanceConfig.getBorderUpdateDelay();
             c.maxBorderUpdatesPerTick = performanceConfig.getMaxBorderUpdatesPerTick();
+            c.borderTickBudgetNanos = performanceConfig.getBorderTickBudgetNanos();
+            c.borderBatchBlocks = performanceConfig.getBorderBatchBlocks();
         } else {
             c.borderUpdateDelayTicks = 2;
             c.maxBorderUpdatesPerTick = 10;
+            c.borderTickBudgetNanos = 2_000_000L;
+            c.borderBatchBlocks = 512;
         }
         
         return c;
@@ -0,0 +1,155 @@
+package me.chunklock.border;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A planned border change for one or more holders: per holder, column runs to remove and to
+ * add. A run is a packed start position ({@link BlockPosMap#pack}) and a height, covering that
+ * many blocks upwards in one column. Segments are applied in the order they were planned, so
+ * each holder's removals come before its additions. The diff remembers how far it has been
+ * applied, so {@link BorderPlacementService#applyBatch} can spread it over several ticks.
+ */
+public final class BorderDiff {
+
+    static final class Segment {
+        final BorderHolder holder;
+        final String worldName;
+        final long[] starts;
+        final int[] heights;
+        final boolean add;
+
+        Segment(BorderHolder holder, Runs runs, boolean add) {
+            this.holder = holder;
+            this.worldName = holder.getWorldName();
+            this.starts = Arrays.copyOf(runs.starts, runs.size);
+            this.heights = Arrays.copyOf(runs.heights, runs.size);
+            this.add = add;
+        }
+    }
+
+    /**
+     * Collects column runs for one segment. Positions added in ascending y within a column
+     * are merged into one run.
+     */
+    static final class Runs {
+        private long[] starts = new long[16];
+        private int[] heights = new int[16];
+        private int size;
+        private int blocks;
+
+        void add(long pos) {
+            if (size > 0) {
+                long last = BlockPosMap.offsetY(starts[size - 1], heights[size - 1]);
+                if (pos == last && BlockPosMap.unpackY(pos) > BlockPosMap.unpackY(starts[size - 1])) {
+                    heights[size - 1]++;
+                    blocks++;
+                    return;
+                }
+            }
+            addRun(pos, 1);
+        }
+
+        void addRun(long start, int height) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size << 1);
+                heights = Arrays.copyOf(heights, size << 1);
+            }
+            starts[size] = start;
+            heights[size] = height;
+            size++;
+            blocks += height;
+        }
+
+        /**
+         * Adds loose positions, ordered by column and ascending y so that each column's blocks
+         * become as few runs as possible. The array is sorted in place.
+         */
+        void addAll(long[] positions, int count) {
+            // Flipping y's sign bit makes the unsigned 12-bit y field sort like a signed one
+            for (int i = 0; i < count; i++) {
+                positions[i] ^= 0x800L;
+            }
+            Arrays.sort(positions, 0, count);
+            for (int i = 0; i < count; i++) {
+                add(positions[i] ^ 0x800L);
+            }
+        }
+    }
+
+    private final List<Segment> segments = new ArrayList<>();
+    private int totalBlocks;
+    private int segmentIndex;
+    private int offset;
+    private int added;
+    private int removed;
+
+    void addRemovals(BorderHolder holder, Runs runs) {
+        addSegment(holder, runs, false);
+    }
+
+    void addAdditions(BorderHolder holder, Runs runs) {
+        addSegment(holder, runs, true);
+    }
+
+    private void addSegment(BorderHolder holder, Runs runs, boolean add) {
+        if (runs.size > 0) {
+            segments.add(new Segment(holder, runs, add));
+            totalBlocks += runs.blocks;
+        }
+    }
+
+    Segment current() {
+        return segments.get(segmentIndex);
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    /**
+     * @param newOffset index of the first run of the current segment not yet applied
+     */
+    void advance(int newOffset, int addedBlocks, int removedBlocks) {
+        added += addedBlocks;
+        removed += removedBlocks;
+        offset = newOffset;
+        if (offset >= current().starts.length) {
+            segmentIndex++;
+            offset = 0;
+        }
+    }
+
+    public boolean isDone() {
+        return segmentIndex >= segments.size();
+    }
+
+    /**
+     * Holders with segments not yet (fully) applied, in plan order.
+     */
+    public Set<BorderHolder> getPendingHolders() {
+        Set<BorderHolder> holders = new LinkedHashSet<>();
+        for (int i = segmentIndex; i < segments.size(); i++) {
+            holders.add(segments.get(i).holder);
+        }
+        return holders;
+    }
+
+    /** Blocks planned in total (removals plus additions). */
+    public int getTotalBlocks() {
+        return totalBlocks;
+    }
+
+    /** Border blocks added so far. */
+    public int getAdded() {
+        return added;
+    }
+
+    /** Border blocks removed so far. */
+    public int getRemoved() {
+        return removed;
+    }
+}
@@ -0,0 +1,308 @@
+package me.chunklock.border;
+
+import me.chunklock.managers.ChunkLockManager;
+import me.chunklock.util.chunk.ChunkLockMemo;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Outline of unlocked territory: for every unlocked chunk, which of its four sides face a
+ * locked chunk. Kept per world and indexed per owner, updated incrementally as chunks are
+ * locked and unlocked, so border rendering is a range query with no lock-state lookups.
+ * Chunks that are not in the model are locked (or never seen, which is the same thing).
+ */
+public class BorderEdgeModel implements ChunkLockManager.ChunkLockListener {
+
+    /** Side bits, matching {@code 1 << BorderPlacementService.BorderDirection.ordinal()}. */
+    public static final int NORTH = 1;
+    public static final int EAST = 1 << 1;
+    public static final int SOUTH = 1 << 2;
+    public static final int WEST = 1 << 3;
+
+    // Owner key for unlocked chunks without an owner
+    public static final UUID UNOWNED = new UUID(0L, 0L);
+
+    private static final int[] SIDE_DX = {0, 1, 0, -1};
+    private static final int[] SIDE_DZ = {-1, 0, 1, 0};
+
+    /**
+     * Receives each unlocked chunk that has at least one locked side.
+     */
+    @FunctionalInterface
+    public interface EdgeVisitor {
+        void visit(int chunkX, int chunkZ, int lockedSides, UUID owner);
+    }
+
+    private static final class Cell {
+        UUID owner;
+        int lockedSides;
+
+        Cell(UUID owner) {
+            this.owner = owner;
+        }
+    }
+
+    private static final class WorldEdges {
+        final Map<Long, Cell> cells = new HashMap<>();
+        final Map<UUID, Set<Long>> territories = new HashMap<>();
+    }
+
+    private final Map<String, WorldEdges> worlds = new HashMap<>();
+    private final ChunkLockManager chunkLockManager;
+
+    /**
+     * @param chunkLockManager source for rebuilds after bulk resets; may be null if the caller rebuilds itself
+     */
+    public BorderEdgeModel(ChunkLockManager chunkLockManager) {
+        this.chunkLockManager = chunkLockManager;
+    }
+
+    /**
+     * Replaces the model with the given unlocked chunks ("world:x:z" keys mapped to owners).
+     */
+    public synchronized void rebuild(Map<String, UUID> unlockedChunkOwners) {
+        worlds.clear();
+        for (Map.Entry<String, UUID> entry : unlockedChunkOwners.entrySet()) {
+            String key = entry.getKey();
+            int second = key.lastIndexOf(':');
+            int first = second > 0 ? key.lastIndexOf(':', second - 1) : -1;
+            if (first <= 0) continue;
+            try {
+                String world = key.substring(0, first);
+                int x = Integer.parseInt(key.substring(first + 1, second));
+                int z = Integer.parseInt(key.substring(second + 1));
+                addCell(worlds.computeIfAbsent(world, w -> new WorldEdges()), x, z, entry.getValue());
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        // Sides are computed once every cell is known
+        for (WorldEdges edges : worlds.values()) {
+            for (Map.Entry<Long, Cell> entry : edges.cells.entrySet()) {
+                long key = entry.getKey();
+                int x = (int) (key >> 32);
+                int z = (int) key;
+                int sides = 0;
+                for (int side = 0; side < 4; side++) {
+                    if (!edges.cells.containsKey(ChunkLockMemo.pack(x + SIDE_DX[side], z + SIDE_DZ[side]))) {
+                        sides |= 1 << side;
+                    }
+                }
+                entry.getValue().lockedSides = sides;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onChunkLockChanged(String worldName, int chunkX, int chunkZ, boolean locked, UUID ownerId) {
+        if (locked) {
+            lock(worldName, chunkX, chunkZ);
+        } else {
+            unlock(worldName, chunkX, chunkZ, ownerId);
+        }
+    }
+
+    @Override
+    public void onLocksReset() {
+        if (chunkLockManager != null) {
+            rebuild(chunkLockManager.getUnlockedChunkOwners());
+        }
+    }
+
+    public synchronized void unlock(String worldName, int chunkX, int chunkZ, UUID ownerId) {
+        WorldEdges edges = worlds.computeIfAbsent(worldName, w -> new WorldEdges());
+        long key = ChunkLockMemo.pack(chunkX, chunkZ);
+        Cell cell = edges.cells.get(key);
+        if (cell != null) {
+            // Already unlocked; only the owner can change
+            moveTerritory(edges, key, cell, ownerKey(ownerId));
+            return;
+        }
+
+        cell = addCell(edges, chunkX, chunkZ, ownerId);
+        for (int side = 0; side < 4; side++) {
+            Cell neighbor = edges.cells.get(ChunkLockMemo.pack(chunkX + SIDE_DX[side], chunkZ + SIDE_DZ[side]));
+            if (neighbor == null) {
+                cell.lockedSides |= 1 << side;
+            } else {
+                neighbor.lockedSides &= ~(1 << opposite(side));
+            }
+        }
+    }
+
+    public synchronized void lock(String worldName, int chunkX, int chunkZ) {
+        WorldEdges edges = worlds.get(worldName);
+        if (edges == null) return;
+
+        long key = ChunkLockMemo.pack(chunkX, chunkZ);
+        Cell cell = edges.cells.remove(key);
+        if (cell == null) return;
+
+        removeFromTerritory(edges, key, cell.owner);
+        for (int side = 0; side < 4; side++) {
+            Cell neighbor = edges.cells.get(ChunkLockMemo.pack(chunkX + SIDE_DX[side], chunkZ + SIDE_DZ[side]));
+            if (neighbor != null) {
+                neighbor.lockedSides |= 1 << opposite(side);
+            }
+        }
+    }
+
+    public synchronized boolean isUnlocked(String worldName, int chunkX, int chunkZ) {
+        WorldEdges edges = worlds.get(worldName);
+        return edges != null && edges.cells.containsKey(ChunkLockMemo.pack(chunkX, chunkZ));
+    }
+
+    /**
+     * Owner key of an unlocked chunk ({@link #UNOWNED} if it has none), or null if it is locked.
+     */
+    public synchronized UUID getOwner(String worldName, int chunkX, int chunkZ) {
+        WorldEdges edges = worlds.get(worldName);
+        if (edges == null) return null;
+        Cell cell = edges.cells.get(ChunkLockMemo.pack(chunkX, chunkZ));
+        return cell != null ? cell.owner : null;
+    }
+
+    /**
+     * Owner keys with unlocked chunks in a world (copy).
+     */
+    public synchronized Set<UUID> getOwners(String worldName) {
+        WorldEdges edges = worlds.get(worldName);
+        return edges != null ? new HashSet<>(edges.territories.keySet()) : new HashSet<>();
+    }
+
+    /**
+     * Locked-side bits for an unlocked chunk, or 0 if it is locked or fully enclosed.
+     */
+    public synchronized int getLockedSides(String worldName, int chunkX, int chunkZ) {
+        WorldEdges edges = worlds.get(worldName);
+        if (edges == null) return 0;
+        Cell cell = edges.cells.get(ChunkLockMemo.pack(chunkX, chunkZ));
+        return cell != null ? cell.lockedSides : 0;
+    }
+
+    /**
+     * Visits every boundary chunk within {@code radius} chunks (square) of the centre.
+     * Walks whichever is smaller: the query square or the world's unlocked set.
+     *
+     * @return the number of boundary chunks visited
+     */
+    public synchronized int forEachEdgeInRange(String worldName, int centerX, int centerZ, int radius, EdgeVisitor visitor) {
+        return forEachEdgeInArea(worldName, centerX - radius, centerZ - radius, centerX + radius, centerZ + radius, visitor);
+    }
+
+    /**
+     * Visits every boundary chunk in the rectangle between the given chunk corners, inclusive.
+     * Walks whichever is smaller: the rectangle or the world's unlocked set.
+     *
+     * @return the number of boundary chunks visited
+     */
+    public synchronized int forEachEdgeInArea(String worldName, int minX, int minZ, int maxX, int maxZ, EdgeVisitor visitor) {
+        WorldEdges edges = worlds.get(worldName);
+        if (edges == null || edges.cells.isEmpty()) return 0;
+
+        int visited = 0;
+        long area = ((long) maxX - minX + 1) * ((long) maxZ - minZ + 1);
+        if (edges.cells.size() <= area) {
+            for (Map.Entry<Long, Cell> entry : edges.cells.entrySet()) {
+                long key = entry.getKey();
+                int x = (int) (key >> 32);
+                int z = (int) key;
+                Cell cell = entry.getValue();
+                if (cell.lockedSides != 0 && x >= minX && x <= maxX && z >= minZ && z <= maxZ) {
+                    visitor.visit(x, z, cell.lockedSides, cell.owner);
+                    visited++;
+                }
+            }
+        } else {
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    Cell cell = edges.cells.get(ChunkLockMemo.pack(x, z));
+                    if (cell != null && cell.lockedSides != 0) {
+                        visitor.visit(x, z, cell.lockedSides, cell.owner);
+                        visited++;
+                    }
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Visits every boundary chunk of one owner's territory in a world.
+     */
+    public synchronized int forEachEdgeOfOwner(String worldName, UUID ownerId, EdgeVisitor visitor) {
+        WorldEdges edges = worlds.get(worldName);
+        if (edges == null) return 0;
+        Set<Long> territory = edges.territories.get(ownerKey(ownerId));
+        if (territory == null) return 0;
+
+        int visited = 0;
+        for (long key : territory) {
+            Cell cell = edges.cells.get(key);
+            if (cell != null && cell.lockedSides != 0) {
+                visitor.visit((int) (key >> 32), (int) key, cell.lockedSides, cell.owner);
+                visited++;
+            }
+        }
+        return visited;
+    }
+
+    public synchronized int getUnlockedChunkCount() {
+        int count = 0;
+        for (WorldEdges edges : worlds.values()) {
+            count += edges.cells.size();
+        }
+        return count;
+    }
+
+    public synchronized int getEdgeCount() {
+        int count = 0;
+        for (WorldEdges edges : worlds.values()) {
+            for (Cell cell : edges.cells.values()) {
+                count += Integer.bitCount(cell.lockedSides);
+            }
+        }
+        return count;
+    }
+
+    public synchronized void clear() {
+        worlds.clear();
+    }
+
+    private static Cell addCell(WorldEdges edges, int chunkX, int chunkZ, UUID ownerId) {
+        long key = ChunkLockMemo.pack(chunkX, chunkZ);
+        Cell cell = new Cell(ownerKey(ownerId));
+        edges.cells.put(key, cell);
+        edges.territories.computeIfAbsent(cell.owner, o -> new HashSet<>()).add(key);
+        return cell;
+    }
+
+    private static void moveTerritory(WorldEdges edges, long key, Cell cell, UUID newOwner) {
+        if (cell.owner.equals(newOwner)) return;
+        removeFromTerritory(edges, key, cell.owner);
+        cell.owner = newOwner;
+        edges.territories.computeIfAbsent(newOwner, o -> new HashSet<>()).add(key);
+    }
+
+    private static void removeFromTerritory(WorldEdges edges, long key, UUID owner) {
+        Set<Long> territory = edges.territories.get(owner);
+        if (territory != null) {
+            territory.remove(key);
+            if (territory.isEmpty()) {
+                edges.territories.remove(owner);
+            }
+        }
+    }
+
+    private static UUID ownerKey(UUID ownerId) {
+        return ownerId != null ? ownerId : UNOWNED;
+    }
+
+    private static int opposite(int side) {
+        return (side + 2) & 3;
+    }
+}
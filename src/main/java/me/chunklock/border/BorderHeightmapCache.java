@@ -0,0 +1,179 @@
+package me.chunklock.border;
+
+import me.chunklock.util.chunk.ChunkLockMemo;
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Surface heights of the locked chunks that carry borders, for terrain-following borders.
+ * Heights are read from a {@link ChunkSnapshot} on an async thread, so the main thread only
+ * pays for taking the snapshot; until they arrive callers fall back to their default band.
+ * Players that asked for a chunk are handed to the ready callback once it is computed.
+ *
+ * Everything except the height scan itself runs on the main thread.
+ */
+public class BorderHeightmapCache {
+
+    private static final int MAX_CHUNKS_PER_WORLD = 4096;
+    // Terrain changes slowly compared to border updates; recompute occasionally
+    private static final long MAX_AGE_MS = 5 * 60 * 1000L;
+
+    /**
+     * Highest non-air block per column, indexed {@code (localZ << 4) | localX}.
+     */
+    private static final class Surface {
+        final short[] heights;
+        final long computedAt;
+
+        Surface(short[] heights, long computedAt) {
+            this.heights = heights;
+            this.computedAt = computedAt;
+        }
+    }
+
+    /**
+     * Column height source, so the scan can be fed by a snapshot or anything else.
+     */
+    @FunctionalInterface
+    public interface HeightSource {
+        int getHighestBlockYAt(int localX, int localZ);
+    }
+
+    private final JavaPlugin plugin;
+    private final Consumer<Set<UUID>> onReady;
+    private final Map<String, LinkedHashMap<Long, Surface>> worlds = new HashMap<>();
+    private final Map<String, Map<Long, Set<UUID>>> pending = new HashMap<>();
+
+    private long computed;
+
+    /**
+     * @param onReady receives the players waiting on a chunk once its heights are known (main thread)
+     */
+    public BorderHeightmapCache(JavaPlugin plugin, Consumer<Set<UUID>> onReady) {
+        this.plugin = plugin;
+        this.onReady = onReady;
+    }
+
+    /**
+     * Surface heights of a chunk, or null if they are not known yet. Missing or stale entries
+     * are (re)computed in the background if the chunk is loaded; chunks are never loaded for this.
+     * A stale entry is still returned while it is being refreshed.
+     */
+    public short[] getSurface(World world, int chunkX, int chunkZ, UUID requester) {
+        long key = ChunkLockMemo.pack(chunkX, chunkZ);
+        Map<Long, Surface> surfaces = worlds.get(world.getName());
+        Surface surface = surfaces != null ? surfaces.get(key) : null;
+
+        if (surface == null || System.currentTimeMillis() - surface.computedAt > MAX_AGE_MS) {
+            request(world, chunkX, chunkZ, key, requester);
+        }
+        return surface != null ? surface.heights : null;
+    }
+
+    /**
+     * Forgets a chunk's heights, e.g. after the terrain was edited.
+     */
+    public void invalidate(String worldName, int chunkX, int chunkZ) {
+        Map<Long, Surface> surfaces = worlds.get(worldName);
+        if (surfaces != null) {
+            surfaces.remove(ChunkLockMemo.pack(chunkX, chunkZ));
+        }
+    }
+
+    public void clear() {
+        worlds.clear();
+        pending.clear();
+    }
+
+    public int getCachedChunkCount() {
+        int count = 0;
+        for (Map<Long, Surface> surfaces : worlds.values()) {
+            count += surfaces.size();
+        }
+        return count;
+    }
+
+    public int getPendingChunkCount() {
+        int count = 0;
+        for (Map<Long, Set<UUID>> chunks : pending.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    public long getComputedChunkCount() {
+        return computed;
+    }
+
+    /**
+     * Scans the highest block of each of the 256 columns of a chunk.
+     */
+    public static short[] scanSurface(HeightSource source) {
+        short[] heights = new short[256];
+        for (int z = 0; z < 16; z++) {
+            for (int x = 0; x < 16; x++) {
+                heights[(z << 4) | x] = (short) source.getHighestBlockYAt(x, z);
+            }
+        }
+        return heights;
+    }
+
+    private void request(World world, int chunkX, int chunkZ, long key, UUID requester) {
+        String worldName = world.getName();
+        Map<Long, Set<UUID>> worldPending = pending.computeIfAbsent(worldName, w -> new HashMap<>());
+        Set<UUID> waiters = worldPending.get(key);
+        if (waiters != null) {
+            waiters.add(requester);
+            return;
+        }
+        if (!world.isChunkLoaded(chunkX, chunkZ)) {
+            return; // Asked again on the next border update once the chunk is around
+        }
+
+        ChunkSnapshot snapshot;
+        try {
+            snapshot = world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(true, false, false);
+        } catch (Exception e) {
+            return;
+        }
+
+        waiters = new HashSet<>();
+        waiters.add(requester);
+        worldPending.put(key, waiters);
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            short[] heights = scanSurface(snapshot::getHighestBlockYAt);
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> complete(worldName, key, heights));
+            }
+        });
+    }
+
+    private void complete(String worldName, long key, short[] heights) {
+        Map<Long, Set<UUID>> worldPending = pending.get(worldName);
+        Set<UUID> waiters = worldPending != null ? worldPending.remove(key) : null;
+        if (waiters == null) {
+            return; // Cleared while the scan was running
+        }
+
+        worlds.computeIfAbsent(worldName, w -> new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Surface> eldest) {
+                return size() > MAX_CHUNKS_PER_WORLD;
+            }
+        }).put(key, new Surface(heights, System.currentTimeMillis()));
+        computed++;
+
+        onReady.accept(waiters);
+    }
+}
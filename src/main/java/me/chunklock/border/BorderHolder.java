@@ -0,0 +1,91 @@
+package me.chunklock.border;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The thing a set of border blocks is computed for: a single player in one world when borders
+ * are not shared, or one tile of a territory (team leader, or {@link BorderEdgeModel#UNOWNED})
+ * when they are. Tiles are {@link #TILE_SIZE} chunks square, so a shared holder only ever
+ * covers the territory's edges near its viewers instead of the whole territory. Border state
+ * is tracked per holder and shown to the holder's viewers.
+ */
+public final class BorderHolder {
+
+    public static final int TILE_SHIFT = 3;
+    /** Side of a territory tile in chunks. */
+    public static final int TILE_SIZE = 1 << TILE_SHIFT;
+
+    private final UUID ownerId;
+    private final String worldName;
+    private final boolean tiled;
+    private final int tileX;
+    private final int tileZ;
+
+    /**
+     * A holder covering the owner's borders in the whole world.
+     */
+    public BorderHolder(UUID ownerId, String worldName) {
+        this(ownerId, worldName, false, 0, 0);
+    }
+
+    private BorderHolder(UUID ownerId, String worldName, boolean tiled, int tileX, int tileZ) {
+        this.ownerId = ownerId;
+        this.worldName = worldName;
+        this.tiled = tiled;
+        this.tileX = tileX;
+        this.tileZ = tileZ;
+    }
+
+    /**
+     * The tile of a territory containing the given chunk.
+     */
+    public static BorderHolder tile(UUID ownerId, String worldName, int chunkX, int chunkZ) {
+        return new BorderHolder(ownerId, worldName, true, chunkX >> TILE_SHIFT, chunkZ >> TILE_SHIFT);
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public boolean isTiled() {
+        return tiled;
+    }
+
+    /**
+     * Lowest chunk x of the tile; only meaningful for tiled holders.
+     */
+    public int getMinChunkX() {
+        return tileX << TILE_SHIFT;
+    }
+
+    /**
+     * Lowest chunk z of the tile; only meaningful for tiled holders.
+     */
+    public int getMinChunkZ() {
+        return tileZ << TILE_SHIFT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BorderHolder)) return false;
+        BorderHolder other = (BorderHolder) o;
+        return ownerId.equals(other.ownerId) && worldName.equals(other.worldName)
+            && tiled == other.tiled && tileX == other.tileX && tileZ == other.tileZ;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ownerId, worldName, tiled, tileX, tileZ);
+    }
+
+    @Override
+    public String toString() {
+        return ownerId + "@" + worldName + (tiled ? "[" + tileX + "," + tileZ + "]" : "");
+    }
+}
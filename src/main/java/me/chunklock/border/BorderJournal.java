@@ -0,0 +1,490 @@
+package me.chunklock.border;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Crash-safe record of the real border blocks in the world and the blocks they replaced.
+ *
+ * World-backed borders only keep the original blocks in {@link BorderStateManager}, so a crash
+ * would leave the walls standing. Every placement and removal is appended here instead, and on
+ * the next start {@link #open()} returns the borders that were still up so they can be reverted.
+ *
+ * The journal is an append-only, memory-mapped file. Records are queued by the main thread and
+ * written in batches by a single background thread, one {@code force()} per batch. A record's
+ * type byte is written last, after a terminator behind it, so a torn write reads as the end of
+ * the journal. Strings (worlds, materials) are stored once per file and referenced by id.
+ *
+ * Compaction rewrites the live borders into the other of two files and then bumps that file's
+ * generation; {@link #open()} trusts the valid file with the highest generation, so a crash
+ * during compaction falls back to the old file.
+ */
+public class BorderJournal {
+
+    /**
+     * A border block that was still up according to the journal.
+     */
+    public static final class Entry {
+        public final String worldName;
+        public final long pos;
+        public final String material;
+        public final String originalData; // null if nothing is to be restored
+
+        public Entry(String worldName, long pos, String material, String originalData) {
+            this.worldName = worldName;
+            this.pos = pos;
+            this.material = material;
+            this.originalData = originalData;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Op {
+        void write() throws IOException;
+    }
+
+    private static final int MAGIC = 0x434C424A; // "CLBJ"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16; // magic, version, generation
+    private static final byte END = 0;
+    private static final byte PLACE = 1;
+    private static final byte REMOVE = 2;
+    private static final byte STRING = 3;
+    private static final int INITIAL_CAPACITY = 1 << 20;
+    private static final int MIN_COMPACT_RECORDS = 8192;
+    private static final int COMPACT_RATIO = 4;
+
+    private final Path[] files;
+    private final Logger logger;
+    private final ExecutorService writer;
+    private final Queue<Op> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    // Writer state, only touched by the writer thread once open() has returned
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int active;
+    private long generation;
+    private int position;
+    private final Map<String, Integer> stringIds = new HashMap<>();
+
+    // Counters, updated by the writer thread
+    private volatile long records;
+    private volatile long live;
+    private volatile long batches;
+    private volatile long compactions;
+    private volatile boolean compactionQueued;
+
+    /**
+     * @param baseFile journal path without extension; two files {@code <base>-a.dat} and
+     *                 {@code <base>-b.dat} are used
+     */
+    public BorderJournal(Path baseFile, Logger logger) {
+        String name = baseFile.getFileName().toString();
+        this.files = new Path[] {
+            baseFile.resolveSibling(name + "-a.dat"),
+            baseFile.resolveSibling(name + "-b.dat")
+        };
+        this.logger = logger;
+        this.writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "Chunklock-BorderJournal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the journal for appending and returns the borders it still lists, grouped by world.
+     * The caller reverts what it can and passes the rest to {@link #compact}; until then the old
+     * records stay on disk, so a crash during the restore just replays them again.
+     */
+    public List<Entry> open() throws IOException {
+        Files.createDirectories(files[0].toAbsolutePath().getParent());
+        long[] generations = {readGeneration(files[0]), readGeneration(files[1])};
+        active = generations[1] > generations[0] ? 1 : 0;
+        generation = generations[active];
+
+        channel = FileChannel.open(files[active], StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(INITIAL_CAPACITY, channel.size()));
+        if (generation == 0) {
+            generation = 1;
+            writeHeader(buffer, generation);
+            buffer.put(HEADER_BYTES, END);
+            buffer.force();
+            position = HEADER_BYTES;
+            return new ArrayList<>();
+        }
+        return replay();
+    }
+
+    /**
+     * Queues a placed border block.
+     *
+     * @param originalData the replaced block as {@code BlockData#getAsString()}, or null
+     */
+    public void recordPlaced(String worldName, long pos, String material, String originalData) {
+        enqueue(() -> writePlace(worldName, pos, material, originalData));
+    }
+
+    /**
+     * Queues a border block that was reverted.
+     */
+    public void recordRemoved(String worldName, long pos) {
+        enqueue(() -> writeRemove(worldName, pos));
+    }
+
+    /**
+     * Whether removed borders make up most of the journal. The caller then takes a snapshot of
+     * the live borders and passes it to {@link #compact}.
+     */
+    public boolean needsCompaction() {
+        long total = records;
+        return !compactionQueued && total >= MIN_COMPACT_RECORDS && total > COMPACT_RATIO * Math.max(0, live);
+    }
+
+    /**
+     * Queues a rewrite of the journal down to {@code liveBorders}. Records queued before this
+     * call are superseded by the snapshot; later ones are appended after it.
+     */
+    public void compact(List<Entry> liveBorders) {
+        compactionQueued = true;
+        enqueue(() -> writeCompacted(liveBorders));
+    }
+
+    /**
+     * Blocks until everything queued so far is on disk.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::drain).get(10, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            // Already closed
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Timed out flushing the border journal", e);
+        }
+    }
+
+    /**
+     * Writes out everything queued and closes the files.
+     */
+    public void close() {
+        try {
+            writer.execute(() -> {
+                drain();
+                try {
+                    if (channel != null) channel.close();
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Error closing the border journal", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.warning("Border journal did not finish writing within 10s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getRecordCount() {
+        return records;
+    }
+
+    public long getLiveCount() {
+        return live;
+    }
+
+    public long getCompactionCount() {
+        return compactions;
+    }
+
+    @Override
+    public String toString() {
+        return "BorderJournal{records=" + records + ", live=" + live + ", batches=" + batches +
+            ", compactions=" + compactions + ", queued=" + queue.size() + "}";
+    }
+
+    private void enqueue(Op op) {
+        queue.add(op);
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                queue.clear(); // Closed: nothing left to write to
+            }
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        boolean wrote = false;
+        try {
+            Op op;
+            while ((op = queue.poll()) != null) {
+                op.write();
+                wrote = true;
+            }
+            if (wrote) {
+                buffer.force();
+                batches++;
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Error writing the border journal", e);
+        }
+    }
+
+    private List<Entry> replay() {
+        Map<Integer, String> strings = new HashMap<>();
+        Map<String, BlockPosMap<Entry>> byWorld = new LinkedHashMap<>();
+        int limit = buffer.capacity();
+        int pos = HEADER_BYTES;
+        long count = 0;
+
+        while (pos < limit) {
+            byte type = buffer.get(pos);
+            int length = recordLength(type, pos, limit);
+            if (length <= 0) {
+                break; // End of the journal, or a torn record
+            }
+            if (type == STRING) {
+                strings.put(buffer.getInt(pos + 1), readString(pos + 9, buffer.getInt(pos + 5)));
+            } else {
+                String world = strings.get(buffer.getInt(pos + 1));
+                long blockPos = buffer.getLong(pos + 5);
+                if (world == null) {
+                    break;
+                }
+                BlockPosMap<Entry> entries = byWorld.computeIfAbsent(world, k -> new BlockPosMap<>());
+                if (type == PLACE) {
+                    int dataLength = buffer.getInt(pos + 17);
+                    String data = dataLength < 0 ? null : readString(pos + 21, dataLength);
+                    entries.put(blockPos, new Entry(world, blockPos, strings.get(buffer.getInt(pos + 13)), data));
+                } else {
+                    entries.remove(blockPos);
+                }
+                count++;
+            }
+            pos += length;
+        }
+
+        position = pos;
+        buffer.put(position, END);
+        strings.forEach((id, value) -> stringIds.put(value, id));
+
+        List<Entry> result = new ArrayList<>();
+        for (BlockPosMap<Entry> entries : byWorld.values()) {
+            entries.forEach((blockPos, entry) -> result.add(entry));
+        }
+        records = count;
+        live = result.size();
+        return result;
+    }
+
+    /**
+     * Length of the complete record at {@code pos}, or 0 if there is none.
+     */
+    private int recordLength(byte type, int pos, int limit) {
+        long length;
+        switch (type) {
+            case STRING:
+                if (pos + 9 > limit || buffer.getInt(pos + 5) < 0) return 0;
+                length = 9L + buffer.getInt(pos + 5);
+                break;
+            case PLACE:
+                if (pos + 21 > limit) return 0;
+                length = 21L + Math.max(0, buffer.getInt(pos + 17));
+                break;
+            case REMOVE:
+                length = 13;
+                break;
+            default:
+                return 0;
+        }
+        return pos + length <= limit ? (int) length : 0;
+    }
+
+    private void writePlace(String worldName, long pos, String material, String originalData) throws IOException {
+        int worldId = stringId(worldName);
+        int materialId = stringId(material);
+        byte[] data = originalData != null ? originalData.getBytes(StandardCharsets.UTF_8) : null;
+        int length = 21 + (data != null ? data.length : 0);
+        ensureCapacity(length);
+        buffer.putInt(position + 1, worldId);
+        buffer.putLong(position + 5, pos);
+        buffer.putInt(position + 13, materialId);
+        buffer.putInt(position + 17, data != null ? data.length : -1);
+        if (data != null) {
+            buffer.put(position + 21, data);
+        }
+        commit(PLACE, length);
+        live++;
+    }
+
+    private void writeRemove(String worldName, long pos) throws IOException {
+        int worldId = stringId(worldName);
+        ensureCapacity(13);
+        buffer.putInt(position + 1, worldId);
+        buffer.putLong(position + 5, pos);
+        commit(REMOVE, 13);
+        live--;
+    }
+
+    private int stringId(String value) throws IOException {
+        Integer id = stringIds.get(value);
+        if (id != null) {
+            return id;
+        }
+        int newId = stringIds.size();
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(9 + bytes.length);
+        buffer.putInt(position + 1, newId);
+        buffer.putInt(position + 5, bytes.length);
+        buffer.put(position + 9, bytes);
+        stringIds.put(value, newId);
+        position += 9 + bytes.length;
+        buffer.put(position, END);
+        buffer.put(position - 9 - bytes.length, STRING);
+        return newId;
+    }
+
+    /**
+     * Makes the record written at the current position visible: terminator first, type last.
+     */
+    private void commit(byte type, int length) {
+        buffer.put(position + length, END);
+        buffer.put(position, type);
+        position += length;
+        records++;
+    }
+
+    private void ensureCapacity(int recordLength) throws IOException {
+        // One extra byte for the terminator behind the record
+        long needed = (long) position + recordLength + 1;
+        if (needed <= buffer.capacity()) {
+            return;
+        }
+        long capacity = Math.max((long) buffer.capacity() * 2, needed + INITIAL_CAPACITY);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IOException("Border journal is full");
+        }
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private void writeCompacted(List<Entry> liveBorders) throws IOException {
+        buffer.force();
+        int target = 1 - active;
+        FileChannel previousChannel = channel;
+        MappedByteBuffer previousBuffer = buffer;
+        int previousPosition = position;
+        Map<String, Integer> previousIds = new HashMap<>(stringIds);
+        long previousRecords = records;
+        long previousLive = live;
+
+        try {
+            FileChannel targetChannel = FileChannel.open(files[target], StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long estimate = HEADER_BYTES + (long) liveBorders.size() * 64;
+            channel = targetChannel;
+            buffer = targetChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(INITIAL_CAPACITY, Math.min(Integer.MAX_VALUE / 2, estimate)));
+
+            // Invalid until the rewrite is complete
+            writeHeader(buffer, 0L);
+            buffer.put(HEADER_BYTES, END);
+            buffer.force();
+
+            position = HEADER_BYTES;
+            stringIds.clear();
+            records = 0;
+            live = 0;
+            for (Entry entry : liveBorders) {
+                writePlace(entry.worldName, entry.pos, entry.material, entry.originalData);
+            }
+            buffer.force();
+
+            buffer.putLong(8, generation + 1);
+            buffer.force();
+        } catch (IOException | RuntimeException e) {
+            // Keep appending to the old file, which is still the valid one
+            if (channel != previousChannel) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+            channel = previousChannel;
+            buffer = previousBuffer;
+            position = previousPosition;
+            stringIds.clear();
+            stringIds.putAll(previousIds);
+            records = previousRecords;
+            live = previousLive;
+            throw e;
+        } finally {
+            compactionQueued = false;
+        }
+
+        generation++;
+        active = target;
+        previousChannel.close();
+        compactions++;
+    }
+
+    private static void writeHeader(MappedByteBuffer target, long generation) {
+        target.putInt(0, MAGIC);
+        target.putInt(4, VERSION);
+        target.putLong(8, generation);
+    }
+
+    /**
+     * Generation of a journal file, or 0 if it is missing or not a complete journal.
+     */
+    private static long readGeneration(Path file) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) < HEADER_BYTES) {
+            return 0L;
+        }
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && ch.read(header) >= 0) {
+                // Read the whole header
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                return 0L;
+            }
+            return Math.max(0L, header.getLong(8));
+        }
+    }
+
+    private String readString(int pos, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(pos, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
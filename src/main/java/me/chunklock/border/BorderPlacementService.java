@@ -2,111 +2,148 @@
 
 package me.chunklock.border;
 
-import me.chunklock.managers.ChunkLockManager;
-import me.chunklock.managers.TeamManager;
-import me.chunklock.util.chunk.ChunkCoordinate;
 import org.bukkit.*;
-import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.function.Function;
 
 public class BorderPlacementService {
-    private final ChunkLockManager chunkLockManager;
     private final BorderConfig config;
-
-    public BorderPlacementService(ChunkLockManager chunkLockManager, TeamManager teamManager, BorderConfig config) {
-        this.chunkLockManager = chunkLockManager;
+    private final BorderRenderer renderer;
+    private final BorderHeightmapCache heightmaps;
+
+    /**
+     * @param heightmaps surface heights for terrain-following borders; only used if enabled in the config
+     * @param journal crash journal for real border blocks; only used when borders are placed in the world
+     */
+    public BorderPlacementService(BorderConfig config, BorderHeightmapCache heightmaps, BorderJournal journal) {
         this.config = config;
+        this.heightmaps = config.useHeightmap ? heightmaps : null;
+        this.renderer = config.renderMode == BorderRenderMode.PACKETS
+            ? new PacketBorderRenderer(config)
+            : new WorldBlockBorderRenderer(config, journal);
     }
 
-    public void createBordersForChunk(Player player, Chunk chunk, BorderStateManager borderState) {
-        EnumSet<BorderDirection> sides = getSidesTouchingLockedChunks(chunk, player);
-        if (sides.isEmpty()) return;
-
-        UUID id = player.getUniqueId();
-
-        for (BorderDirection dir : sides) {
-            int lockedX = chunk.getX() + dir.dx;
-            int lockedZ = chunk.getZ() + dir.dz;
-            ChunkCoordinate lockedCoord = new ChunkCoordinate(lockedX, lockedZ, chunk.getWorld().getName());
+    public BorderRenderer getRenderer() {
+        return renderer;
+    }
 
-            for (Location loc : getBorderLocationsForSide(chunk, dir, player)) {
-                try {
-                    Block block = loc.getBlock();
-                    if (shouldSkipBlock(block)) continue;
-                    
-                    // CHANGED: Only check for the single border material from config
-                    if (block.getType() == config.borderMaterial) continue;
+    /**
+     * Computes the border columns for one boundary chunk of the edge model, without rendering
+     * or any lock lookups. Each side yields one y range per column, and each column lies inside
+     * the locked chunk it protects.
+     *
+     * @param player the viewer the borders are computed for; only its position matters, and only
+     *               for the player-relative band (or until terrain heights are known)
+     * @param lockedSides side bits from {@link BorderEdgeModel} ({@code 1 << BorderDirection.ordinal()})
+     * @param out receives the column ranges
+     */
+    public void collectBordersForEdges(Player player, World world, int chunkX, int chunkZ, int lockedSides,
+                                       BorderColumns out) {
+        for (BorderDirection dir : BorderDirection.values()) {
+            if ((lockedSides & (1 << dir.ordinal())) == 0) continue;
+            addBorderColumnsForSide(world, chunkX, chunkZ, dir, player, out);
+        }
+    }
 
-                    // Use BorderStateManager instead of direct map access
-                    borderState.addBorderBlock(id, loc, block.getBlockData().clone(), lockedCoord);
+    /**
+     * Plans the change from a holder's rendered borders to the desired set without touching
+     * anything: only borders that are no longer wanted are removed and only missing ones are
+     * added, both as column runs. The holder's segments are appended to {@code diff}, so several
+     * holders can be planned into one diff.
+     */
+    public void planBorderDiff(BorderHolder holder, BorderColumns desired, BorderStateManager borderState,
+                               BorderDiff diff) {
+        BlockPosMap<BlockData> current = borderState.getBorders(holder);
+
+        if (current != null) {
+            long[] removals = new long[current.size()];
+            int[] count = {0};
+            current.forEach((pos, ignored) -> {
+                if (!desired.contains(pos)) {
+                    removals[count[0]++] = pos;
+                }
+            });
+            BorderDiff.Runs runs = new BorderDiff.Runs();
+            runs.addAll(removals, count[0]);
+            diff.addRemovals(holder, runs);
+        }
 
-                    // CHANGED: Always use the same material from config regardless of ownership
-                    block.setType(config.borderMaterial);
-                    
-                } catch (Exception ignored) {
+        BorderDiff.Runs additions = new BorderDiff.Runs();
+        desired.forEach((x, z, minY, maxY) -> {
+            if (current == null || current.isEmpty()) {
+                additions.addRun(BlockPosMap.pack(x, minY, z), maxY - minY + 1);
+                return;
+            }
+            for (int y = minY; y <= maxY; y++) {
+                long pos = BlockPosMap.pack(x, y, z);
+                if (!current.containsKey(pos)) {
+                    additions.add(pos);
                 }
             }
-        }
+        });
+        diff.addAdditions(holder, additions);
     }
 
-    public void removeSharedBorders(Chunk chunk, Player player, BorderStateManager borderState) {
-        if (!borderState.hasPlayerBorders(player.getUniqueId())) return;
-
-        World world = chunk.getWorld();
-        UUID id = player.getUniqueId();
-
-        for (BorderDirection dir : BorderDirection.values()) {
-            try {
-                Chunk neighbor = world.getChunkAt(chunk.getX() + dir.dx, chunk.getZ() + dir.dz);
-                chunkLockManager.initializeChunk(neighbor, id);
-                if (!chunkLockManager.isLocked(neighbor)) {
-                    for (Location loc : getBorderLocationsForSide(chunk, dir, player)) {
-                        BlockData data = borderState.removeBorderBlock(id, loc);
-                        if (data != null) {
-                            Block block = loc.getBlock();
-                            // CHANGED: Only check for the single border material from config
-                            if (block.getType() == config.borderMaterial) {
-                                if (config.restoreOriginalBlocks) {
-                                    block.setBlockData(data);
-                                } else {
-                                    block.setType(Material.AIR);
-                                }
-                            }
+    /**
+     * Applies about {@code maxBlocks} blocks of a planned diff, fanning each holder's changes
+     * out to its current viewers. Runs are never split, so a batch can go over by less than one
+     * column. Additions for a holder nobody views any more are dropped, since it has been torn
+     * down in the meantime.
+     *
+     * @param viewers resolves a holder's online viewers
+     * @return the number of blocks processed
+     */
+    public int applyBatch(BorderDiff diff, int maxBlocks, BorderStateManager borderState,
+                          Function<BorderHolder, List<Player>> viewers) {
+        int processed = 0;
+
+        while (processed < maxBlocks && !diff.isDone()) {
+            BorderDiff.Segment segment = diff.current();
+            int from = diff.offset();
+            int to = from;
+            int blocks = 0;
+            while (to < segment.starts.length && processed + blocks < maxBlocks) {
+                blocks += segment.heights[to++];
+            }
+            boolean whole = from == 0 && to == segment.starts.length;
+            long[] starts = whole ? segment.starts : Arrays.copyOfRange(segment.starts, from, to);
+            int[] heights = whole ? segment.heights : Arrays.copyOfRange(segment.heights, from, to);
+            World world = Bukkit.getWorld(segment.worldName);
+            List<Player> holderViewers = viewers.apply(segment.holder);
+
+            int added = 0;
+            int removed = 0;
+            if (segment.add) {
+                if (world != null && !holderViewers.isEmpty()) {
+                    added = renderer.render(segment.holder, holderViewers, world, starts, heights, borderState);
+                }
+            } else {
+                BlockPosMap<BlockData> cleared = new BlockPosMap<>(blocks);
+                for (int i = 0; i < starts.length; i++) {
+                    for (int dy = 0; dy < heights[i]; dy++) {
+                        long pos = BlockPosMap.offsetY(starts[i], dy);
+                        if (borderState.isHolderBorderBlock(segment.holder, pos)) {
+                            cleared.put(pos, borderState.removeBorderBlock(segment.holder, pos));
                         }
                     }
                 }
-            } catch (Exception ignored) {
-            }
-        }
-    }
-
-    private EnumSet<BorderDirection> getSidesTouchingLockedChunks(Chunk chunk, Player player) {
-        EnumSet<BorderDirection> sides = EnumSet.noneOf(BorderDirection.class);
-        World world = chunk.getWorld();
-        UUID id = player.getUniqueId();
-
-        for (BorderDirection dir : BorderDirection.values()) {
-            try {
-                Chunk neighbor = world.getChunkAt(chunk.getX() + dir.dx, chunk.getZ() + dir.dz);
-                chunkLockManager.initializeChunk(neighbor, id);
-                if (chunkLockManager.isLocked(neighbor)) {
-                    sides.add(dir);
+                if (!cleared.isEmpty() && world != null) {
+                    renderer.clear(holderViewers, world, cleared);
                 }
-            } catch (Exception ignored) {
+                removed = cleared.size();
             }
+
+            processed += blocks;
+            diff.advance(to, added, removed);
         }
-        return sides;
+        return processed;
     }
 
-    private List<Location> getBorderLocationsForSide(Chunk chunk, BorderDirection dir, Player player) {
-        List<Location> locations = new ArrayList<>();
-        World world = chunk.getWorld();
-        
-        int chunkX = chunk.getX();
-        int chunkZ = chunk.getZ();
+    private void addBorderColumnsForSide(World world, int chunkX, int chunkZ, BorderDirection dir, Player player,
+                                         BorderColumns out) {
         int startX = chunkX * 16;
         int startZ = chunkZ * 16;
         
@@ -122,6 +159,25 @@ public class BorderPlacementService {
         } else if (dir == BorderDirection.EAST) {
             xOffset = 16;
         }
+
+        int worldMinY = world.getMinHeight();
+        int worldMaxY = world.getMaxHeight() - 1;
+        int minY;
+        int maxY;
+        if (config.useFullHeight && heightmaps == null) {
+            minY = worldMinY;
+            maxY = worldMaxY;
+        } else {
+            int baseY = (int) player.getLocation().getY();
+            minY = Math.max(worldMinY, baseY + config.minYOffset);
+            maxY = Math.min(worldMaxY, Math.min(baseY + config.maxYOffset, minY + config.borderHeight - 1));
+        }
+
+        // Terrain-following mode: one band per column around the surface of the locked chunk
+        // this side lies in. Until its heights are computed the player-relative band is used.
+        short[] surface = heightmaps != null
+            ? heightmaps.getSurface(world, chunkX + dir.dx, chunkZ + dir.dz, player.getUniqueId())
+            : null;
         
         for (int i = 0; i < 16; i++) {
             int x, z;
@@ -132,45 +188,17 @@ public class BorderPlacementService {
                 x = startX + xOffset;
                 z = startZ + i;
             }
-            
-            if (config.useFullHeight) {
-                int minY = world.getMinHeight();
-                int maxY = world.getMaxHeight() - 1;
-                for (int y = minY; y <= maxY; y++) {
-                    locations.add(new Location(world, x, y, z));
-                }
-            } else {
-                int baseY = (int) player.getLocation().getY();
-                int minY = Math.max(world.getMinHeight(), baseY + config.minYOffset);
-                int maxY = Math.min(world.getMaxHeight() - 1, baseY + config.maxYOffset);
-                
-                for (int y = minY; y <= minY + config.borderHeight - 1 && y <= maxY; y++) {
-                    locations.add(new Location(world, x, y, z));
-                }
+
+            int columnMinY = minY;
+            int columnMaxY = maxY;
+            if (surface != null) {
+                int top = surface[((z & 15) << 4) | (x & 15)];
+                columnMinY = Math.max(worldMinY, top - config.heightmapBelow);
+                columnMaxY = Math.min(worldMaxY, top + config.heightmapAbove);
             }
-        }
-        
-        return locations;
-    }
 
-    private boolean shouldSkipBlock(Block block) {
-        Material type = block.getType();
-        
-        // Only skip absolutely essential blocks that would break the game
-        if (type == Material.BEDROCK ||
-            type == Material.SPAWNER ||
-            type == Material.END_PORTAL ||
-            type == Material.END_PORTAL_FRAME ||
-            type == Material.NETHER_PORTAL) {
-            return true;
-        }
-        
-        // Skip if it's already a border material
-        if (type == config.borderMaterial) {
-            return true;
+            out.add(x, z, columnMinY, columnMaxY);
         }
-        
-        return false;
     }
 
     public enum BorderDirection {
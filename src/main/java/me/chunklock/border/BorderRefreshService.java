@@ -5,33 +5,121 @@ import me.chunklock.managers.ChunkBorderManager;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * Refreshes a player's borders when they move into another chunk.
+ *
+ * Called straight from the chunk-transition check of the move handler, on the main thread.
+ * Transitions are debounced per player over the border update cooldown: the first one
+ * refreshes right away, later ones within the window collapse into a single trailing refresh
+ * at the end of it, so the chunk the player finally stops in is always covered.
+ *
+ * Each trailing refresh gets a unique id and is dropped as stale if that is no longer the
+ * player's pending refresh, i.e. the player's state was reset (quit, reload) before it ran.
+ *
+ * Main thread only.
+ */
 public class BorderRefreshService {
+
+    private static final class RefreshState {
+        long pendingRefreshId; // 0 = no trailing refresh scheduled
+        long lastRefreshAt;
+    }
+
     private final ChunkBorderManager borderManager;
-    private static final long BORDER_UPDATE_COOLDOWN_MS = 5000L;
+    private final Map<UUID, RefreshState> states = new HashMap<>();
+    private long nextRefreshId;
+
+    // Metrics
+    private long transitions;
+    private long immediateRefreshes;
+    private long trailingRefreshes;
+    private long debounced;
+    private long staleDropped;
 
     public BorderRefreshService(ChunkBorderManager borderManager) {
         this.borderManager = borderManager;
     }
 
-    public void refreshBordersOnMove(Player player, Map<UUID, Long> lastUpdateMap) {
+    /**
+     * Handles a player entering a different chunk.
+     */
+    public void onChunkTransition(Player player) {
+        if (!borderManager.isAutoUpdateOnMovementEnabled()) {
+            return;
+        }
+        transitions++;
+
         UUID playerId = player.getUniqueId();
+        RefreshState state = states.computeIfAbsent(playerId, id -> new RefreshState());
         long now = System.currentTimeMillis();
-        Long last = lastUpdateMap.get(playerId);
-        if (last != null && (now - last) < BORDER_UPDATE_COOLDOWN_MS) {
+        long wait = state.lastRefreshAt + borderManager.getUpdateCooldown() - now;
+
+        if (wait <= 0 && state.pendingRefreshId == 0) {
+            refresh(player, state, now);
+            immediateRefreshes++;
+            return;
+        }
+
+        debounced++;
+        if (state.pendingRefreshId != 0) {
+            return; // The pending trailing refresh covers this transition too
+        }
+        long refreshId = ++nextRefreshId;
+        state.pendingRefreshId = refreshId;
+        long delayTicks = Math.max(1L, (wait + 49) / 50);
+        Bukkit.getScheduler().runTaskLater(ChunklockPlugin.getInstance(),
+            () -> runTrailing(playerId, refreshId), delayTicks);
+    }
+
+    private void runTrailing(UUID playerId, long refreshId) {
+        RefreshState state = states.get(playerId);
+        if (state == null || state.pendingRefreshId != refreshId) {
+            staleDropped++;
             return;
         }
-        if (borderManager.isAutoUpdateOnMovementEnabled()) {
-            Bukkit.getScheduler().runTaskAsynchronously(ChunklockPlugin.getInstance(), () ->
-                Bukkit.getScheduler().runTask(ChunklockPlugin.getInstance(), () -> {
-                    if (player.isOnline()) {
-                        borderManager.scheduleBorderUpdate(player);
-                        lastUpdateMap.put(playerId, System.currentTimeMillis());
-                    }
-                })
-            );
+        state.pendingRefreshId = 0;
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player == null || !player.isOnline()) {
+            staleDropped++;
+            states.remove(playerId);
+            return;
         }
+        refresh(player, state, System.currentTimeMillis());
+        trailingRefreshes++;
+    }
+
+    private void refresh(Player player, RefreshState state, long now) {
+        state.lastRefreshAt = now;
+        borderManager.scheduleBorderUpdate(player);
+    }
+
+    /**
+     * Drops a player's debounce state; a pending trailing refresh becomes stale.
+     */
+    public void forget(UUID playerId) {
+        states.remove(playerId);
+    }
+
+    /**
+     * Drops all debounce state, e.g. on reload.
+     */
+    public void clear() {
+        states.clear();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("trackedPlayers", states.size());
+        stats.put("chunkTransitions", transitions);
+        stats.put("immediateRefreshes", immediateRefreshes);
+        stats.put("trailingRefreshes", trailingRefreshes);
+        stats.put("debouncedTransitions", debounced);
+        stats.put("staleRefreshesDropped", staleDropped);
+        return stats;
     }
 }
@@ -0,0 +1,13 @@
+package me.chunklock.border;
+
+/**
+ * How border blocks are shown to players.
+ */
+public enum BorderRenderMode {
+    /** Real blocks placed in the world; original blocks are remembered and restored. */
+    BLOCKS,
+    /** Fake blocks sent only to the owning player; the world is never modified. */
+    PACKETS,
+    /** Chunk edges drawn with particles per player; no blocks at all, so borders cannot be clicked. */
+    PARTICLES
+}
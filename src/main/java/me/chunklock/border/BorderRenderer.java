@@ -0,0 +1,62 @@
+package me.chunklock.border;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+
+/**
+ * Strategy for showing and hiding a holder's border blocks to its viewers.
+ */
+public interface BorderRenderer {
+
+    /**
+     * Shows border blocks to the holder's viewers and records them in the border state under
+     * the holder. Blocks come as column runs: run i covers {@code heights[i]} blocks upwards
+     * from the packed position {@code starts[i]} ({@link BlockPosMap#pack}).
+     *
+     * @return the number of border blocks actually placed; positions that are unreplaceable or
+     *         already a border are skipped
+     */
+    int render(BorderHolder holder, Collection<? extends Player> viewers, World world, long[] starts, int[] heights,
+               BorderStateManager borderState);
+
+    /**
+     * Reverts border blocks that were removed from a holder, for the given viewers.
+     *
+     * @param borders packed positions mapped to their original block data (may be null for client-side borders)
+     * @return the number of border blocks reverted
+     */
+    int clear(Collection<? extends Player> viewers, World world, BlockPosMap<BlockData> borders);
+
+    /**
+     * Shows already tracked border blocks to one viewer: a viewer joining a holder that is
+     * already built, or borders lost client-side.
+     */
+    void refresh(Player viewer, World world, long[] positions);
+
+    /**
+     * Stops showing tracked border blocks to one viewer while the holder keeps them for others.
+     */
+    void hide(Player viewer, World world, long[] positions);
+
+    /**
+     * Whether border blocks exist in the world (and so can be found by material) or only on the client.
+     */
+    boolean isWorldBacked();
+
+    BorderRenderMode getMode();
+
+    /**
+     * Blocks that must never be covered by a border.
+     */
+    static boolean isUnreplaceable(Material type) {
+        return type == Material.BEDROCK
+            || type == Material.SPAWNER
+            || type == Material.END_PORTAL
+            || type == Material.END_PORTAL_FRAME
+            || type == Material.NETHER_PORTAL;
+    }
+}
@@ -6,178 +6,195 @@ import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Manages the state of all border blocks across all players.
- * Tracks which borders belong to which players and which chunks they protect.
+ * Manages the state of all border blocks across all holders.
+ * Tracks which borders belong to which holders, keyed by packed block position
+ * ({@link BlockPosMap#pack}) per world so lookups from block events allocate nothing.
+ *
+ * A border block always lies inside the locked chunk it protects, so the protected
+ * chunk is derived from the position instead of being stored.
  */
 public class BorderStateManager {
-    
-    // Store border blocks per player: Player UUID -> Location -> Original BlockData
-    private final Map<UUID, Map<Location, BlockData>> playerBorders = new ConcurrentHashMap<>();
-    
-    // Store which chunk each border block belongs to: Location -> Chunk coordinates
-    private final Map<Location, ChunkCoordinate> borderToChunk = new ConcurrentHashMap<>();
-    
+
+    // Holder -> packed position -> original BlockData (null for client-side borders)
+    private final Map<BorderHolder, BlockPosMap<BlockData>> holderBorders = new ConcurrentHashMap<>();
+
+    // World name -> packed position -> number of holders with a border there
+    private final Map<String, BlockPosCounter> worldBorders = new ConcurrentHashMap<>();
+
     /**
-     * Add a border block for a specific player.
+     * Add a border block for a holder.
      */
-    public void addBorderBlock(UUID playerId, Location location, BlockData originalData, ChunkCoordinate chunk) {
-        Map<Location, BlockData> playerMap = playerBorders.computeIfAbsent(playerId, k -> new HashMap<>());
-        playerMap.put(location, originalData);
-        borderToChunk.put(location, chunk);
+    public void addBorderBlock(BorderHolder holder, long pos, BlockData originalData) {
+        BlockPosMap<BlockData> blocks = holderBorders.computeIfAbsent(holder, k -> new BlockPosMap<>());
+        boolean existed = blocks.containsKey(pos);
+        blocks.put(pos, originalData);
+        if (!existed) {
+            worldBorders.computeIfAbsent(holder.getWorldName(), k -> new BlockPosCounter()).increment(pos);
+        }
     }
-    
+
     /**
-     * Get the original block data for a border at a specific location for a player.
+     * Get the chunk coordinate that a border block protects, or null if it is not a border.
      */
-    public BlockData getBorderData(UUID playerId, Location location) {
-        Map<Location, BlockData> playerMap = playerBorders.get(playerId);
-        return playerMap != null ? playerMap.get(location) : null;
+    public ChunkCoordinate getChunkForBorder(String worldName, int x, int y, int z) {
+        return isBorderBlock(worldName, x, y, z) ? new ChunkCoordinate(x >> 4, z >> 4, worldName) : null;
     }
-    
-    /**
-     * Get the chunk coordinate that a border block protects.
-     */
+
     public ChunkCoordinate getChunkForBorder(Location location) {
-        return borderToChunk.get(location);
+        return getChunkForBorder(location.getWorld().getName(),
+            location.getBlockX(), location.getBlockY(), location.getBlockZ());
     }
-    
+
     /**
-     * Get all border locations for a specific player.
+     * Get a holder's border positions (live view), or null if there are none.
      */
-    public Map<Location, BlockData> getPlayerBorders(UUID playerId) {
-        return playerBorders.get(playerId);
+    public BlockPosMap<BlockData> getBorders(BorderHolder holder) {
+        return holderBorders.get(holder);
     }
-    
+
     /**
-     * Remove a specific border block for a player.
+     * Remove a specific border block of a holder.
      */
-    public BlockData removeBorderBlock(UUID playerId, Location location) {
-        Map<Location, BlockData> playerMap = playerBorders.get(playerId);
-        if (playerMap != null) {
-            BlockData originalData = playerMap.remove(location);
-            borderToChunk.remove(location);
-            
-            // Clean up empty player map
-            if (playerMap.isEmpty()) {
-                playerBorders.remove(playerId);
-            }
-            
-            return originalData;
+    public BlockData removeBorderBlock(BorderHolder holder, long pos) {
+        BlockPosMap<BlockData> blocks = holderBorders.get(holder);
+        if (blocks == null || !blocks.containsKey(pos)) return null;
+
+        BlockData originalData = blocks.remove(pos);
+        release(holder.getWorldName(), pos);
+
+        // Clean up empty maps
+        if (blocks.isEmpty()) {
+            holderBorders.remove(holder);
         }
-        return null;
+        return originalData;
     }
-    
+
     /**
-     * Remove all borders for a specific player and return them.
+     * Remove a holder's borders and return them, or null if there were none.
      */
-    public Map<Location, BlockData> removeAllBordersForPlayer(UUID playerId) {
-        Map<Location, BlockData> borders = playerBorders.remove(playerId);
-        
-        if (borders != null) {
-            // Remove from chunk mapping
-            for (Location location : borders.keySet()) {
-                borderToChunk.remove(location);
-            }
+    public BlockPosMap<BlockData> removeBorders(BorderHolder holder) {
+        BlockPosMap<BlockData> blocks = holderBorders.remove(holder);
+        if (blocks != null) {
+            String worldName = holder.getWorldName();
+            blocks.forEach((pos, data) -> release(worldName, pos));
         }
-        
-        return borders != null ? borders : new HashMap<>();
+        return blocks;
     }
-    
+
     /**
-     * Check if a player has any borders.
+     * Check if a specific position is a tracked border block of a holder.
      */
-    public boolean hasPlayerBorders(UUID playerId) {
-        Map<Location, BlockData> borders = playerBorders.get(playerId);
-        return borders != null && !borders.isEmpty();
+    public boolean isHolderBorderBlock(BorderHolder holder, long pos) {
+        BlockPosMap<BlockData> blocks = holderBorders.get(holder);
+        return blocks != null && blocks.containsKey(pos);
     }
-    
+
     /**
-     * Check if a specific location is a tracked border block for a player.
+     * Check if a position is any border block (regardless of player).
      */
-    public boolean isPlayerBorderBlock(UUID playerId, Location location) {
-        Map<Location, BlockData> playerMap = playerBorders.get(playerId);
-        return playerMap != null && playerMap.containsKey(location);
+    public boolean isBorderBlock(String worldName, int x, int y, int z) {
+        BlockPosCounter counter = worldBorders.get(worldName);
+        return counter != null && counter.contains(BlockPosMap.pack(x, y, z));
     }
-    
-    /**
-     * Check if a location is any border block (regardless of player).
-     */
+
     public boolean isBorderBlock(Location location) {
-        return borderToChunk.containsKey(location);
+        return isBorderBlock(location.getWorld().getName(),
+            location.getBlockX(), location.getBlockY(), location.getBlockZ());
     }
-    
+
     /**
-     * Check if a block is a border block based on material and location tracking.
+     * Check if a block is a border block based on material and position tracking.
      */
     public boolean isBorderBlock(Block block, Material borderMaterial, Material ownBorderMaterial, Material enemyBorderMaterial) {
         if (block == null) return false;
-        
+
         Material type = block.getType();
         // CHANGED: Only check for the main border material from config
         if (type != borderMaterial) {
             return false;
         }
-        
-        return borderToChunk.containsKey(block.getLocation());
+
+        return isBorderBlock(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
     }
-    
+
     /**
-     * Get the player map for direct access (for cases where we need to modify it directly).
-     * Use with caution - prefer the other methods when possible.
+     * Visits every tracked border of every holder.
      */
-    public Map<Location, BlockData> getPlayerBorderMap(UUID playerId) {
-        return playerBorders.computeIfAbsent(playerId, k -> new HashMap<>());
+    public void forEachBorder(BorderVisitor visitor) {
+        for (Map.Entry<BorderHolder, BlockPosMap<BlockData>> entry : holderBorders.entrySet()) {
+            String worldName = entry.getKey().getWorldName();
+            entry.getValue().forEach((pos, data) -> visitor.visit(worldName, pos, data));
+        }
+    }
+
+    @FunctionalInterface
+    public interface BorderVisitor {
+        void visit(String worldName, long pos, BlockData originalData);
     }
-    
+
     /**
-     * Clear all borders for all players.
+     * Clear all borders of all holders.
      */
     public void clearAllBorders() {
-        playerBorders.clear();
-        borderToChunk.clear();
+        holderBorders.clear();
+        worldBorders.clear();
     }
-    
+
     /**
      * Get statistics about the border state.
      */
     public BorderStateStats getStats() {
         int totalBorderBlocks = 0;
-        for (Map<Location, BlockData> borders : playerBorders.values()) {
-            totalBorderBlocks += borders.size();
+        for (BlockPosMap<BlockData> blocks : holderBorders.values()) {
+            totalBorderBlocks += blocks.size();
+        }
+
+        int distinctPositions = 0;
+        for (BlockPosCounter counter : worldBorders.values()) {
+            distinctPositions += counter.size();
         }
-        
+
         return new BorderStateStats(
-            playerBorders.size(),
+            holderBorders.size(),
             totalBorderBlocks,
-            borderToChunk.size()
+            distinctPositions
         );
     }
-    
+
+    public static long pack(Location location) {
+        return BlockPosMap.pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    private void release(String worldName, long pos) {
+        BlockPosCounter counter = worldBorders.get(worldName);
+        if (counter != null && counter.decrement(pos) == 0 && counter.isEmpty()) {
+            worldBorders.remove(worldName);
+        }
+    }
+
     /**
      * Statistics about the border state.
      */
     public static class BorderStateStats {
-        public final int playersWithBorders;
+        public final int holdersWithBorders;
         public final int totalBorderBlocks;
-        public final int borderToChunkMappings;
-        
-        public BorderStateStats(int playersWithBorders, int totalBorderBlocks, int borderToChunkMappings) {
-            this.playersWithBorders = playersWithBorders;
+        public final int distinctBorderPositions;
+
+        public BorderStateStats(int holdersWithBorders, int totalBorderBlocks, int distinctBorderPositions) {
+            this.holdersWithBorders = holdersWithBorders;
             this.totalBorderBlocks = totalBorderBlocks;
-            this.borderToChunkMappings = borderToChunkMappings;
+            this.distinctBorderPositions = distinctBorderPositions;
         }
-        
+
         @Override
         public String toString() {
-            return "BorderState{players=" + playersWithBorders + 
-                   ", blocks=" + totalBorderBlocks + 
-                   ", mappings=" + borderToChunkMappings + "}";
+            return "BorderState{holders=" + holdersWithBorders +
+                   ", blocks=" + totalBorderBlocks +
+                   ", positions=" + distinctBorderPositions + "}";
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package me.chunklock.border;
+
+/**
+ * Horizontal view cone of a player, for culling border edges the player cannot see.
+ * Points further than the view distance are culled; points within the near radius are always
+ * kept (so turning around does not reveal an empty wall right next to the player); anything
+ * in between is kept if it lies within the field of view around the look direction.
+ *
+ * Pitch is ignored: borders are vertical walls, so looking up or down still shows them.
+ */
+public final class BorderViewFrustum {
+
+    private final double eyeX;
+    private final double eyeZ;
+    private final double forwardX;
+    private final double forwardZ;
+    private final double cosHalfFov;
+    private final double maxDistanceSq;
+    private final double nearDistanceSq;
+
+    /**
+     * @param yawDegrees Minecraft yaw (0 = south/+Z, 90 = west/-X)
+     * @param fovDegrees full horizontal angle kept; 360 or more disables direction culling
+     */
+    public BorderViewFrustum(double eyeX, double eyeZ, float yawDegrees, double fovDegrees,
+                             double maxDistance, double nearDistance) {
+        this.eyeX = eyeX;
+        this.eyeZ = eyeZ;
+        double yaw = Math.toRadians(yawDegrees);
+        this.forwardX = -Math.sin(yaw);
+        this.forwardZ = Math.cos(yaw);
+        this.cosHalfFov = fovDegrees >= 360 ? -1.0 : Math.cos(Math.toRadians(fovDegrees / 2.0));
+        this.maxDistanceSq = maxDistance * maxDistance;
+        this.nearDistanceSq = nearDistance * nearDistance;
+    }
+
+    public boolean contains(double x, double z) {
+        double dx = x - eyeX;
+        double dz = z - eyeZ;
+        double distanceSq = dx * dx + dz * dz;
+        if (distanceSq > maxDistanceSq) return false;
+        if (distanceSq <= nearDistanceSq || cosHalfFov <= -1.0) return true;
+        return dx * forwardX + dz * forwardZ >= cosHalfFov * Math.sqrt(distanceSq);
+    }
+}
@@ -0,0 +1,144 @@
+package me.chunklock.border;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Which players see which border holders. A holder's viewer count is its reference count:
+ * the holder's borders are built when it gets its first viewer and should be torn down
+ * when {@link #unsubscribe} reports that the last one left.
+ *
+ * Holders also carry a dirty flag, set when their territory changed (or they were just
+ * created) and cleared by whoever rebuilds them, so a territory seen by several players
+ * is recomputed once rather than once per viewer.
+ *
+ * Main thread only.
+ */
+public class BorderViewerRegistry {
+
+    private final Map<BorderHolder, Set<UUID>> viewersByHolder = new HashMap<>();
+    private final Map<UUID, Set<BorderHolder>> holdersByViewer = new HashMap<>();
+    private final Set<BorderHolder> dirty = new HashSet<>();
+
+    /**
+     * Adds a viewer to a holder. A holder gaining its first viewer is marked dirty.
+     *
+     * @return true if the viewer was not already subscribed
+     */
+    public boolean subscribe(UUID viewerId, BorderHolder holder) {
+        Set<UUID> viewers = viewersByHolder.computeIfAbsent(holder, h -> new HashSet<>());
+        if (!viewers.add(viewerId)) {
+            return false;
+        }
+        if (viewers.size() == 1) {
+            dirty.add(holder);
+        }
+        holdersByViewer.computeIfAbsent(viewerId, v -> new HashSet<>()).add(holder);
+        return true;
+    }
+
+    /**
+     * Removes a viewer from a holder.
+     *
+     * @return viewers left on the holder (0 means it should be torn down), or -1 if the
+     *         viewer was not subscribed
+     */
+    public int unsubscribe(UUID viewerId, BorderHolder holder) {
+        Set<UUID> viewers = viewersByHolder.get(holder);
+        if (viewers == null || !viewers.remove(viewerId)) {
+            return -1;
+        }
+
+        Set<BorderHolder> holders = holdersByViewer.get(viewerId);
+        if (holders != null) {
+            holders.remove(holder);
+            if (holders.isEmpty()) {
+                holdersByViewer.remove(viewerId);
+            }
+        }
+
+        if (viewers.isEmpty()) {
+            viewersByHolder.remove(holder);
+            dirty.remove(holder);
+            return 0;
+        }
+        return viewers.size();
+    }
+
+    /**
+     * Viewers of a holder (live view, do not modify).
+     */
+    public Set<UUID> getViewers(BorderHolder holder) {
+        Set<UUID> viewers = viewersByHolder.get(holder);
+        return viewers != null ? Collections.unmodifiableSet(viewers) : Collections.emptySet();
+    }
+
+    /**
+     * Holders a player currently sees (copy, safe to unsubscribe while iterating).
+     */
+    public Set<BorderHolder> getHolders(UUID viewerId) {
+        Set<BorderHolder> holders = holdersByViewer.get(viewerId);
+        return holders != null ? new HashSet<>(holders) : Collections.emptySet();
+    }
+
+    public boolean hasViewers(BorderHolder holder) {
+        return viewersByHolder.containsKey(holder);
+    }
+
+    public boolean hasHolders(UUID viewerId) {
+        return holdersByViewer.containsKey(viewerId);
+    }
+
+    /**
+     * Flags a holder for rebuilding; ignored for holders nobody is looking at.
+     */
+    public void markDirty(BorderHolder holder) {
+        if (viewersByHolder.containsKey(holder)) {
+            dirty.add(holder);
+        }
+    }
+
+    public void markAllDirty() {
+        dirty.addAll(viewersByHolder.keySet());
+    }
+
+    /**
+     * Clears a holder's dirty flag.
+     *
+     * @return whether it was set, i.e. whether the caller should rebuild the holder
+     */
+    public boolean clearDirty(BorderHolder holder) {
+        return dirty.remove(holder);
+    }
+
+    public boolean isDirty(BorderHolder holder) {
+        return dirty.contains(holder);
+    }
+
+    public void clear() {
+        viewersByHolder.clear();
+        holdersByViewer.clear();
+        dirty.clear();
+    }
+
+    public int getHolderCount() {
+        return viewersByHolder.size();
+    }
+
+    public int getViewerCount() {
+        return holdersByViewer.size();
+    }
+
+    /** Viewer/holder pairs, i.e. the sum of all reference counts. */
+    public int getSubscriptionCount() {
+        int count = 0;
+        for (Set<UUID> viewers : viewersByHolder.values()) {
+            count += viewers.size();
+        }
+        return count;
+    }
+}
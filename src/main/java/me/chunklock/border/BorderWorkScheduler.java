@@ -0,0 +1,306 @@
+package me.chunklock.border;
+
+import me.chunklock.util.math.LatencyStats;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Spreads border work over ticks within a time budget.
+ *
+ * Requests are coalesced per player: asking again before the player's turn comes is free,
+ * and asking while a diff is still being applied replans it on a later turn (after at least
+ * one more batch, so constant requests cannot starve the work itself). Work is
+ * split into units (one diff plan, or one batch of at most {@code batchBlocks} positions)
+ * and players take turns round-robin, one unit each, until the tick's nanosecond budget is
+ * spent. At least one unit runs every tick so the queue always drains. A diff that is dropped
+ * before it is done (replanned, cancelled, failed) is handed back to the handler so the holders
+ * it leaves half-built can be rebuilt.
+ *
+ * Main thread only.
+ */
+public class BorderWorkScheduler {
+
+    /**
+     * Does the actual work for a player.
+     */
+    public interface WorkHandler {
+        /**
+         * Plans the player's border change, or returns null if there is nothing to do
+         * (player offline, borders disabled, ...).
+         */
+        BorderDiff plan(UUID playerId);
+
+        /**
+         * Applies up to {@code maxBlocks} positions of the diff.
+         *
+         * @return positions processed; 0 drops the rest of the diff (e.g. the player left)
+         */
+        int apply(UUID playerId, BorderDiff diff, int maxBlocks);
+
+        /**
+         * Called when a diff is dropped with segments left to apply.
+         */
+        void discard(UUID playerId, BorderDiff diff);
+    }
+
+    private static final class PlayerWork {
+        final UUID playerId;
+        boolean needsPlan;
+        boolean queued;
+        boolean batchSincePlan; // a diff always gets one batch before it can be replanned
+        long requestedAt;  // oldest request not yet planned
+        long plannedFrom;  // request time behind the diff being applied
+        BorderDiff diff;
+
+        PlayerWork(UUID playerId) {
+            this.playerId = playerId;
+        }
+    }
+
+    private final WorkHandler handler;
+    private final Logger logger;
+    private final LongSupplier clock;
+    private final Map<UUID, PlayerWork> work = new HashMap<>();
+    private final ArrayDeque<PlayerWork> turns = new ArrayDeque<>();
+
+    private long budgetNanos;
+    private int batchBlocks;
+    private int maxPlansPerTick;
+    private BukkitTask task;
+
+    // Metrics
+    private final LatencyStats queueLatency = new LatencyStats(512);
+    private final LatencyStats completionLatency = new LatencyStats(512);
+    private final LatencyStats tickTime = new LatencyStats(200);
+    private long requests;
+    private long coalesced;
+    private long plans;
+    private long batches;
+    private long blocks;
+    private long budgetExhaustedTicks;
+    private long discarded;
+
+    public BorderWorkScheduler(WorkHandler handler, Logger logger, long budgetNanos, int batchBlocks, int maxPlansPerTick) {
+        this(handler, logger, budgetNanos, batchBlocks, maxPlansPerTick, System::nanoTime);
+    }
+
+    BorderWorkScheduler(WorkHandler handler, Logger logger, long budgetNanos, int batchBlocks, int maxPlansPerTick,
+                        LongSupplier clock) {
+        this.handler = handler;
+        this.logger = logger;
+        this.clock = clock;
+        configure(budgetNanos, batchBlocks, maxPlansPerTick);
+    }
+
+    /**
+     * Starts running {@link #tick()} every server tick.
+     */
+    public void start(JavaPlugin plugin) {
+        if (task == null || task.isCancelled()) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    public void configure(long budgetNanos, int batchBlocks, int maxPlansPerTick) {
+        this.budgetNanos = Math.max(1L, budgetNanos);
+        this.batchBlocks = Math.max(1, batchBlocks);
+        this.maxPlansPerTick = Math.max(1, maxPlansPerTick);
+    }
+
+    /**
+     * Requests a border update for a player. Duplicate requests are coalesced.
+     */
+    public void schedule(UUID playerId) {
+        requests++;
+        PlayerWork entry = work.computeIfAbsent(playerId, PlayerWork::new);
+        if (entry.needsPlan) {
+            coalesced++;
+            return;
+        }
+        entry.needsPlan = true;
+        entry.requestedAt = clock.getAsLong();
+        if (!entry.queued) {
+            entry.queued = true;
+            turns.addLast(entry);
+        }
+    }
+
+    /**
+     * Drops any pending or in-progress work for a player.
+     */
+    public void cancel(UUID playerId) {
+        PlayerWork entry = work.remove(playerId);
+        if (entry == null) return;
+        if (entry.queued) {
+            turns.remove(entry);
+        }
+        dropDiff(entry);
+    }
+
+    public boolean isPending(UUID playerId) {
+        return work.containsKey(playerId);
+    }
+
+    /**
+     * Runs work units round-robin until the budget is spent or nothing is left.
+     */
+    public void tick() {
+        if (turns.isEmpty()) return;
+
+        long start = clock.getAsLong();
+        long deadline = start + budgetNanos;
+        int units = 0;
+        int plansThisTick = 0;
+        int skipped = 0;
+
+        while (!turns.isEmpty() && skipped < turns.size()) {
+            if (units > 0 && clock.getAsLong() - deadline >= 0) {
+                budgetExhaustedTicks++;
+                break;
+            }
+
+            PlayerWork entry = turns.pollFirst();
+            entry.queued = false;
+            boolean plan = entry.needsPlan && (entry.diff == null || entry.batchSincePlan);
+
+            if (plan && plansThisTick >= maxPlansPerTick) {
+                // Plans are the expensive units; let batches of other players go first
+                requeue(entry);
+                skipped++;
+                continue;
+            }
+            skipped = 0;
+
+            try {
+                if (plan) {
+                    long now = clock.getAsLong();
+                    queueLatency.record(now - entry.requestedAt);
+                    entry.needsPlan = false;
+                    entry.batchSincePlan = false;
+                    entry.plannedFrom = entry.requestedAt;
+                    dropDiff(entry);
+                    entry.diff = handler.plan(entry.playerId);
+                    plans++;
+                    plansThisTick++;
+                } else if (entry.diff != null) {
+                    int processed = handler.apply(entry.playerId, entry.diff, batchBlocks);
+                    if (processed == 0) {
+                        dropDiff(entry);
+                    }
+                    blocks += processed;
+                    entry.batchSincePlan = true;
+                    batches++;
+                }
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Error processing border work for " + entry.playerId, e);
+                dropDiff(entry);
+            }
+            units++;
+
+            if (entry.diff != null && entry.diff.isDone()) {
+                completionLatency.record(clock.getAsLong() - entry.plannedFrom);
+                entry.diff = null;
+            }
+
+            if (entry.needsPlan || entry.diff != null) {
+                requeue(entry);
+            } else {
+                work.remove(entry.playerId);
+            }
+        }
+
+        tickTime.record(clock.getAsLong() - start);
+    }
+
+    private void dropDiff(PlayerWork entry) {
+        BorderDiff diff = entry.diff;
+        entry.diff = null;
+        if (diff == null || diff.isDone()) return;
+        discarded++;
+        try {
+            handler.discard(entry.playerId, diff);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Error discarding border work for " + entry.playerId, e);
+        }
+    }
+
+    private void requeue(PlayerWork entry) {
+        entry.queued = true;
+        turns.addLast(entry);
+    }
+
+    public int getPendingPlayers() {
+        return work.size();
+    }
+
+    public void clear() {
+        work.clear();
+        turns.clear();
+    }
+
+    public void shutdown() {
+        if (task != null && !task.isCancelled()) {
+            task.cancel();
+        }
+        clear();
+    }
+
+    public SchedulerStats getStats() {
+        return new SchedulerStats(work.size(), requests, coalesced, plans, batches, blocks, discarded,
+            budgetExhaustedTicks, budgetNanos, batchBlocks, queueLatency.toString(), completionLatency.toString(), tickTime.toString());
+    }
+
+    public static class SchedulerStats {
+        public final int pendingPlayers;
+        public final long requests;
+        public final long coalescedRequests;
+        public final long plans;
+        public final long batches;
+        public final long blocks;
+        public final long discardedDiffs;
+        public final long budgetExhaustedTicks;
+        public final long budgetNanos;
+        public final int batchBlocks;
+        public final String queueLatency;
+        public final String completionLatency;
+        public final String tickTime;
+
+        public SchedulerStats(int pendingPlayers, long requests, long coalescedRequests, long plans, long batches,
+                              long blocks, long discardedDiffs, long budgetExhaustedTicks, long budgetNanos,
+                              int batchBlocks,
+                              String queueLatency, String completionLatency, String tickTime) {
+            this.pendingPlayers = pendingPlayers;
+            this.requests = requests;
+            this.coalescedRequests = coalescedRequests;
+            this.plans = plans;
+            this.batches = batches;
+            this.blocks = blocks;
+            this.discardedDiffs = discardedDiffs;
+            this.budgetExhaustedTicks = budgetExhaustedTicks;
+            this.budgetNanos = budgetNanos;
+            this.batchBlocks = batchBlocks;
+            this.queueLatency = queueLatency;
+            this.completionLatency = completionLatency;
+            this.tickTime = tickTime;
+        }
+
+        @Override
+        public String toString() {
+            return "SchedulerStats{pending=" + pendingPlayers + ", requests=" + requests +
+                   ", coalesced=" + coalescedRequests + ", plans=" + plans + ", batches=" + batches +
+                   ", blocks=" + blocks + ", discarded=" + discardedDiffs + ", overBudgetTicks=" + budgetExhaustedTicks +
+                   ", budget=" + budgetNanos + "ns, batch=" + batchBlocks +
+                   ", queueLatency[" + queueLatency + "], completion[" + completionLatency +
+                   "], tick[" + tickTime + "]}";
+        }
+    }
+}
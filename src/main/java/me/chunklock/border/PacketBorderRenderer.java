@@ -0,0 +1,142 @@
+package me.chunklock.border;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Client-side borders: fake blocks are sent to the holder's viewers with multi-block-change
+ * packets ({@link Player#sendBlockChanges(Collection)}) and the world is never modified,
+ * so there is no lighting/physics work, no chunk saves and no original block data to keep.
+ * Removing a border re-sends the real block at each location. The block states are built
+ * once per batch and the same list is sent to every viewer.
+ */
+public class PacketBorderRenderer implements BorderRenderer {
+    private final BlockData borderData;
+
+    public PacketBorderRenderer(BorderConfig config) {
+        this.borderData = config.borderMaterial.createBlockData();
+    }
+
+    @Override
+    public int render(BorderHolder holder, Collection<? extends Player> viewers, World world, long[] starts,
+                      int[] heights, BorderStateManager borderState) {
+        List<BlockState> states = new ArrayList<>();
+
+        for (int i = 0; i < starts.length; i++) {
+            for (int dy = 0; dy < heights[i]; dy++) {
+                try {
+                    long pos = BlockPosMap.offsetY(starts[i], dy);
+                    if (borderState.isHolderBorderBlock(holder, pos)) continue;
+
+                    Block block = blockAt(world, pos);
+                    if (BorderRenderer.isUnreplaceable(block.getType())) continue;
+
+                    states.add(fakeState(block));
+                    // Nothing to restore: the real block is still in the world
+                    borderState.addBorderBlock(holder, pos, null);
+                } catch (Exception ignored) {
+                }
+            }
+        }
+
+        for (Player viewer : viewers) {
+            send(viewer, world, states);
+        }
+        return states.size();
+    }
+
+    @Override
+    public int clear(Collection<? extends Player> viewers, World world, BlockPosMap<BlockData> borders) {
+        boolean anyViewer = false;
+        for (Player viewer : viewers) {
+            anyViewer |= canSee(viewer, world);
+        }
+        if (!anyViewer) {
+            return 0; // Fake blocks vanish with the client session or world change
+        }
+
+        List<BlockState> states = new ArrayList<>(borders.size());
+        borders.forEach((pos, ignored) -> {
+            try {
+                states.add(blockAt(world, pos).getState());
+            } catch (Exception e) {
+                // Chunk might be unloaded
+            }
+        });
+
+        for (Player viewer : viewers) {
+            send(viewer, world, states);
+        }
+        return states.size();
+    }
+
+    @Override
+    public void hide(Player viewer, World world, long[] positions) {
+        if (!canSee(viewer, world)) return;
+
+        List<BlockState> states = new ArrayList<>(positions.length);
+        for (long pos : positions) {
+            try {
+                states.add(blockAt(world, pos).getState());
+            } catch (Exception ignored) {
+            }
+        }
+
+        send(viewer, world, states);
+    }
+
+    @Override
+    public void refresh(Player viewer, World world, long[] positions) {
+        if (!canSee(viewer, world)) return;
+
+        List<BlockState> states = new ArrayList<>(positions.length);
+        for (long pos : positions) {
+            try {
+                Block block = blockAt(world, pos);
+                if (BorderRenderer.isUnreplaceable(block.getType())) continue;
+                states.add(fakeState(block));
+            } catch (Exception ignored) {
+            }
+        }
+
+        send(viewer, world, states);
+    }
+
+    @Override
+    public boolean isWorldBacked() {
+        return false;
+    }
+
+    @Override
+    public BorderRenderMode getMode() {
+        return BorderRenderMode.PACKETS;
+    }
+
+    private BlockState fakeState(Block block) {
+        // Detached snapshot; never update()d, so the world stays untouched
+        BlockState state = block.getState();
+        state.setBlockData(borderData);
+        return state;
+    }
+
+    private static Block blockAt(World world, long pos) {
+        return world.getBlockAt(BlockPosMap.unpackX(pos), BlockPosMap.unpackY(pos), BlockPosMap.unpackZ(pos));
+    }
+
+    private static boolean canSee(Player viewer, World world) {
+        return viewer.isOnline() && world.equals(viewer.getWorld());
+    }
+
+    private static void send(Player viewer, World world, List<BlockState> states) {
+        if (!states.isEmpty() && canSee(viewer, world)) {
+            viewer.sendBlockChanges(states);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package me.chunklock.border;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.function.Predicate;
+
+/**
+ * Lightweight border strategy: chunk edges are drawn as dust particles for each player instead
+ * of placing blocks. Nothing is tracked or restored; every few ticks the edges around each
+ * player are read from the {@link BorderEdgeModel}, culled to the player's view
+ * ({@link BorderViewFrustum}) and drawn as one batched particle packet per segment and row.
+ *
+ * Particle borders cannot be clicked, so the border-click unlock GUI is not available in this mode.
+ */
+public class ParticleBorderRenderer {
+
+    // Segments this close are drawn whatever the player is facing
+    private static final double NEAR_DISTANCE = 6.0;
+
+    private final JavaPlugin plugin;
+    private final BorderEdgeModel edgeModel;
+    private final Predicate<Player> shouldSee;
+    private final ParticleEdgePlanner planner;
+    private final Particle.DustOptions dust;
+    private final int intervalTicks;
+    private final double viewDistance;
+    private final double fovDegrees;
+    private final int rows;
+    private final double rowSpacing;
+    private final int particlesPerSegment;
+    private BukkitTask task;
+
+    // Metrics
+    private long runs;
+    private long packets;
+    private long drawnSegments;
+    private long culledSegments;
+    private int lastRunPackets;
+
+    /**
+     * @param shouldSee whether a player gets borders drawn (enabled world, not bypassing, ...)
+     */
+    public ParticleBorderRenderer(JavaPlugin plugin, BorderEdgeModel edgeModel, BorderConfig config,
+                                  Predicate<Player> shouldSee) {
+        this.plugin = plugin;
+        this.edgeModel = edgeModel;
+        this.shouldSee = shouldSee;
+        this.planner = new ParticleEdgePlanner(config.particleSegmentsPerEdge);
+        this.dust = new Particle.DustOptions(Color.fromRGB(config.particleColor & 0xFFFFFF), config.particleSize);
+        this.intervalTicks = Math.max(1, config.particleIntervalTicks);
+        this.viewDistance = Math.max(NEAR_DISTANCE, config.particleViewDistance);
+        this.fovDegrees = config.particleFovDegrees;
+        this.rows = Math.max(1, config.particleRows);
+        this.rowSpacing = config.particleRowSpacing;
+        this.particlesPerSegment = Math.max(1, config.particlesPerSegment);
+    }
+
+    public void start() {
+        if (task == null || task.isCancelled()) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::drawAll, intervalTicks, intervalTicks);
+        }
+    }
+
+    public void stop() {
+        if (task != null && !task.isCancelled()) {
+            task.cancel();
+        }
+        task = null;
+    }
+
+    private void drawAll() {
+        int sent = 0;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (shouldSee.test(player)) {
+                sent += draw(player);
+            }
+        }
+        runs++;
+        packets += sent;
+        lastRunPackets = sent;
+    }
+
+    /**
+     * Draws the visible edges around one player.
+     *
+     * @return particle packets sent
+     */
+    public int draw(Player player) {
+        World world = player.getWorld();
+        Location eye = player.getEyeLocation();
+        BorderViewFrustum frustum = new BorderViewFrustum(eye.getX(), eye.getZ(), eye.getYaw(),
+            fovDegrees, viewDistance, NEAR_DISTANCE);
+        int radius = (int) Math.ceil(viewDistance / 16.0);
+        double baseY = player.getLocation().getY() + 0.5;
+        double spread = planner.getSegmentLength() / 4.0; // Gaussian spread, ~95% within the segment
+
+        int[] sent = {0};
+        int[] visible = {0};
+        edgeModel.forEachEdgeInRange(world.getName(), eye.getBlockX() >> 4, eye.getBlockZ() >> 4,
+            radius, (chunkX, chunkZ, lockedSides, owner) -> {
+                int drawn = planner.planEdges(frustum, chunkX, chunkZ, lockedSides, (x, z, alongX) -> {
+                    for (int row = 0; row < rows; row++) {
+                        player.spawnParticle(Particle.DUST, x, baseY + row * rowSpacing, z, particlesPerSegment,
+                            alongX ? spread : 0.0, 0.0, alongX ? 0.0 : spread, 0.0, dust);
+                        sent[0]++;
+                    }
+                });
+                visible[0] += drawn;
+                culledSegments += Integer.bitCount(lockedSides) * planner.getSegmentsPerEdge() - drawn;
+            });
+        drawnSegments += visible[0];
+        return sent[0];
+    }
+
+    /**
+     * Average particle packets per server tick since start.
+     */
+    public double getPacketsPerTick() {
+        return runs == 0 ? 0 : (double) packets / (runs * intervalTicks);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ParticleBorders{interval=%dt, packets/tick=%.1f, lastRun=%d, segments drawn=%d culled=%d}",
+            intervalTicks, getPacketsPerTick(), lastRunPackets, drawnSegments, culledSegments);
+    }
+}
@@ -0,0 +1,81 @@
+package me.chunklock.border;
+
+/**
+ * Splits chunk edges from the {@link BorderEdgeModel} into short segments for particle
+ * borders and keeps only the segments inside a player's {@link BorderViewFrustum}.
+ * Each segment becomes one batched particle burst (one packet per row), so the packet
+ * cost of a border is proportional to visible segments, not to blocks.
+ *
+ * Segments lie on the chunk boundary line itself, between the unlocked and the locked chunk.
+ */
+public final class ParticleEdgePlanner {
+
+    /**
+     * Receives the midpoint of each visible segment.
+     *
+     * @param alongX whether the segment runs along the X axis (north/south sides) or along Z
+     */
+    @FunctionalInterface
+    public interface SegmentVisitor {
+        void visit(double x, double z, boolean alongX);
+    }
+
+    private final int segmentsPerEdge;
+    private final double segmentLength;
+
+    /**
+     * @param segmentsPerEdge segments each 16-block edge is split into (1-16)
+     */
+    public ParticleEdgePlanner(int segmentsPerEdge) {
+        this.segmentsPerEdge = Math.max(1, Math.min(16, segmentsPerEdge));
+        this.segmentLength = 16.0 / this.segmentsPerEdge;
+    }
+
+    public int getSegmentsPerEdge() {
+        return segmentsPerEdge;
+    }
+
+    public double getSegmentLength() {
+        return segmentLength;
+    }
+
+    /**
+     * Visits the visible segments of one boundary chunk's locked sides.
+     *
+     * @param lockedSides side bits from {@link BorderEdgeModel}
+     * @return the number of segments visited (the rest were culled)
+     */
+    public int planEdges(BorderViewFrustum frustum, int chunkX, int chunkZ, int lockedSides, SegmentVisitor visitor) {
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        int visible = 0;
+
+        if ((lockedSides & BorderEdgeModel.NORTH) != 0) {
+            visible += planLine(frustum, minX, minZ, true, visitor);
+        }
+        if ((lockedSides & BorderEdgeModel.SOUTH) != 0) {
+            visible += planLine(frustum, minX, minZ + 16, true, visitor);
+        }
+        if ((lockedSides & BorderEdgeModel.WEST) != 0) {
+            visible += planLine(frustum, minX, minZ, false, visitor);
+        }
+        if ((lockedSides & BorderEdgeModel.EAST) != 0) {
+            visible += planLine(frustum, minX + 16, minZ, false, visitor);
+        }
+        return visible;
+    }
+
+    private int planLine(BorderViewFrustum frustum, double startX, double startZ, boolean alongX, SegmentVisitor visitor) {
+        int visible = 0;
+        for (int i = 0; i < segmentsPerEdge; i++) {
+            double along = (i + 0.5) * segmentLength;
+            double x = alongX ? startX + along : startX;
+            double z = alongX ? startZ : startZ + along;
+            if (frustum.contains(x, z)) {
+                visitor.visit(x, z, alongX);
+                visible++;
+            }
+        }
+        return visible;
+    }
+}
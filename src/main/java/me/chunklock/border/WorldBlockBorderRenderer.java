@@ -0,0 +1,117 @@
+package me.chunklock.border;
+
+import me.chunklock.managers.WorldManager;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+
+/**
+ * Places real border blocks in the world and restores the original blocks when removed.
+ * Every client sees the world, so viewers only matter to client-side renderers.
+ * Placements and restorations are written to the {@link BorderJournal}, if any, so the
+ * walls can be taken down after a crash.
+ */
+public class WorldBlockBorderRenderer implements BorderRenderer {
+    private final BorderConfig config;
+    private final BorderJournal journal;
+
+    public WorldBlockBorderRenderer(BorderConfig config) {
+        this(config, null);
+    }
+
+    public WorldBlockBorderRenderer(BorderConfig config, BorderJournal journal) {
+        this.config = config;
+        this.journal = journal;
+    }
+
+    @Override
+    public int render(BorderHolder holder, Collection<? extends Player> viewers, World world, long[] starts,
+                      int[] heights, BorderStateManager borderState) {
+        String worldName = world.getName();
+        int placed = 0;
+        for (int i = 0; i < starts.length; i++) {
+            int x = BlockPosMap.unpackX(starts[i]);
+            int minY = BlockPosMap.unpackY(starts[i]);
+            int z = BlockPosMap.unpackZ(starts[i]);
+            for (int dy = 0; dy < heights[i]; dy++) {
+                try {
+                    long pos = BlockPosMap.offsetY(starts[i], dy);
+                    Block block = world.getBlockAt(x, minY + dy, z);
+                    Material type = block.getType();
+                    if (BorderRenderer.isUnreplaceable(type) || type == config.borderMaterial) continue;
+
+                    BlockData originalData = block.getBlockData().clone();
+                    borderState.addBorderBlock(holder, pos, originalData);
+                    block.setType(config.borderMaterial);
+                    if (journal != null) {
+                        journal.recordPlaced(worldName, pos, config.borderMaterial.name(), originalData.getAsString());
+                    }
+                    placed++;
+                } catch (Exception ignored) {
+                }
+            }
+        }
+        return placed;
+    }
+
+    @Override
+    public int clear(Collection<? extends Player> viewers, World world, BlockPosMap<BlockData> borders) {
+        String worldName = world.getName();
+
+        // Skip restoration in disabled worlds, but stop tracking the blocks so the next start
+        // does not revert them either
+        if (!WorldManager.isEnabled(world)) {
+            if (journal != null) {
+                borders.forEach((pos, originalData) -> journal.recordRemoved(worldName, pos));
+            }
+            return 0;
+        }
+
+        int[] restoredCount = {0};
+        borders.forEach((pos, originalData) -> {
+            if (journal != null) {
+                journal.recordRemoved(worldName, pos);
+            }
+            try {
+                Block block = world.getBlockAt(BlockPosMap.unpackX(pos), BlockPosMap.unpackY(pos), BlockPosMap.unpackZ(pos));
+                // Only touch blocks that are still our border material
+                if (block.getType() != config.borderMaterial) {
+                    return;
+                }
+                if (config.restoreOriginalBlocks && originalData != null) {
+                    block.setBlockData(originalData);
+                } else {
+                    block.setType(Material.AIR);
+                }
+                restoredCount[0]++;
+            } catch (Exception e) {
+                // Skip blocks that can't be restored (chunk might be unloaded)
+            }
+        });
+        return restoredCount[0];
+    }
+
+    @Override
+    public void refresh(Player viewer, World world, long[] positions) {
+        // Real blocks are seen by every client, nothing to re-send
+    }
+
+    @Override
+    public void hide(Player viewer, World world, long[] positions) {
+        // Real blocks stay until the holder removes them
+    }
+
+    @Override
+    public boolean isWorldBacked() {
+        return true;
+    }
+
+    @Override
+    public BorderRenderMode getMode() {
+        return BorderRenderMode.BLOCKS;
+    }
+}
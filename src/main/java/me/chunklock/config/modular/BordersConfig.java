@@ -1,5 +1,6 @@
 package me.chunklock.config.modular;
 
+import me.chunklock.border.BorderRenderMode;
 import org.bukkit.Material;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -48,6 +49,22 @@ public class BordersConfig {
         return config.getInt("max-y-offset", 4);
     }
 
+    public boolean isUseHeightmap() {
+        return config.getBoolean("use-heightmap", false);
+    }
+
+    public int getHeightmapBelow() {
+        return Math.max(0, config.getInt("heightmap-below", 1));
+    }
+
+    public int getHeightmapAbove() {
+        return Math.max(0, config.getInt("heightmap-above", 3));
+    }
+
+    public boolean isShareTeamBorders() {
+        return config.getBoolean("share-team-borders", true);
+    }
+
     public int getScanRange() {
         return config.getInt("scan-range", 8);
     }
@@ -86,6 +103,58 @@ public class BordersConfig {
         }
     }
 
+    public BorderRenderMode getRenderMode() {
+        String modeName = config.getString("render-mode", "BLOCKS");
+        try {
+            return BorderRenderMode.valueOf(modeName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid border render-mode '" + modeName + "', using BLOCKS");
+            return BorderRenderMode.BLOCKS;
+        }
+    }
+
+    public int getParticleIntervalTicks() {
+        return Math.max(1, config.getInt("particles.interval-ticks", 10));
+    }
+
+    public double getParticleViewDistance() {
+        return Math.max(8.0, config.getDouble("particles.view-distance", 48.0));
+    }
+
+    public double getParticleFovDegrees() {
+        return Math.max(30.0, Math.min(360.0, config.getDouble("particles.fov-degrees", 140.0)));
+    }
+
+    public int getParticleSegmentsPerEdge() {
+        return Math.max(1, Math.min(16, config.getInt("particles.segments-per-edge", 4)));
+    }
+
+    public int getParticlesPerSegment() {
+        return Math.max(1, config.getInt("particles.particles-per-segment", 6));
+    }
+
+    public int getParticleRows() {
+        return Math.max(1, config.getInt("particles.rows", 3));
+    }
+
+    public double getParticleRowSpacing() {
+        return config.getDouble("particles.row-spacing", 1.0);
+    }
+
+    public float getParticleSize() {
+        return (float) Math.max(0.1, config.getDouble("particles.size", 1.0));
+    }
+
+    public int getParticleColor() {
+        String color = config.getString("particles.color", "#D0D0D0");
+        try {
+            return Integer.parseInt(color.startsWith("#") ? color.substring(1) : color, 16) & 0xFFFFFF;
+        } catch (NumberFormatException e) {
+            plugin.getLogger().warning("Invalid border particle color '" + color + "', using #D0D0D0");
+            return 0xD0D0D0;
+        }
+    }
+
     public FileConfiguration getRawConfig() {
         return config;
     }
@@ -72,7 +72,15 @@ public class HologramsConfig {
     }
 
     public long getCullingSweepPeriod() {
-        return config.getLong("performance.culling-sweep-period", 60L);
+        return config.getLong("performance.culling-sweep-period", 200L);
+    }
+
+    public int getMaxOpsPerTick() {
+        return config.getInt("performance.max-ops-per-tick", 32);
+    }
+
+    public long getOpBudgetNanos() {
+        return config.getLong("performance.op-budget-nanos", 1_000_000L);
     }
 
     public int getScanRange() {
@@ -95,6 +103,10 @@ public class HologramsConfig {
         return config.getBoolean("display.fixed-billboard", true);
     }
 
+    public boolean isSharedWalls() {
+        return config.getBoolean("display.shared-walls", false);
+    }
+
     public boolean isShowDistance() {
         return config.getBoolean("display.show-distance", true);
     }
@@ -35,6 +35,14 @@ public class PerformanceConfig {
         return config.getInt("max-border-updates-per-tick", 10);
     }
 
+    public long getBorderTickBudgetNanos() {
+        return Math.max(100_000L, config.getLong("border-tick-budget-nanos", 2_000_000L));
+    }
+
+    public int getBorderBatchBlocks() {
+        return Math.max(16, config.getInt("border-batch-blocks", 512));
+    }
+
     public FileConfiguration getRawConfig() {
         return config;
     }
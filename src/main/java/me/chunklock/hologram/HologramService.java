@@ -5,14 +5,24 @@ import me.chunklock.hologram.config.HologramConfiguration;
 import me.chunklock.hologram.core.*;
 import me.chunklock.hologram.core.HologramData;
 import me.chunklock.hologram.provider.FancyHologramsProvider;
+import me.chunklock.hologram.provider.SharedWallHologramProvider;
+import me.chunklock.hologram.provider.TextDisplayHologramProvider;
+import me.chunklock.hologram.tracking.FrontierTracker;
+import me.chunklock.hologram.tracking.MaterialCountTracker;
+import me.chunklock.hologram.util.HologramLineRenderer;
 import me.chunklock.hologram.util.HologramLocationUtils;
+import me.chunklock.hologram.util.WallAnchorGrid;
 import me.chunklock.managers.BiomeUnlockRegistry;
 import me.chunklock.managers.ChunkLockManager;
 import me.chunklock.managers.WorldManager;
 import me.chunklock.ChunklockPlugin;
+import me.chunklock.util.chunk.ChunkLockMemo;
+import me.chunklock.util.math.LatencyStats;
+import me.chunklock.util.math.TopKSelector;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
@@ -22,6 +32,7 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntBinaryOperator;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
 
@@ -31,8 +42,11 @@ import java.util.stream.Collectors;
  */
 public final class HologramService {
 
-    private static final int WALL_LOCATION_CACHE_SOFT_LIMIT = 20_000;
-    private static final int WALL_LOCATION_CACHE_TRIM_BATCH = 2_000;
+    private static final int WALL_ANCHOR_CAPACITY = 20_000;
+    // Chunks whose wall anchors are snapshotted per tick
+    private static final int WALL_ANCHOR_BATCH = 32;
+    // Upper bound on the chunk scan range around a player
+    private static final int MAX_SCAN_RANGE = 8;
 
     private final HologramConfiguration config;
     private final HologramProvider provider;
@@ -41,6 +55,10 @@ public final class HologramService {
     private final WorldManager worldManager;
     private final me.chunklock.economy.EconomyManager economyManager;
     private final HologramDebouncer debouncer;
+    private final HologramLineRenderer lineRenderer;
+    private final HologramOpScheduler opScheduler;
+    private final FrontierTracker frontier;
+    private final ChunkLockManager.ChunkLockListener refreshTrigger;
     private final boolean available;
 
     // Core state tracking
@@ -50,12 +68,35 @@ public final class HologramService {
     // Player-specific active sets for distance culling
     private final Map<UUID, Set<HologramId>> activeHologramSets = new ConcurrentHashMap<>();
     private final Map<UUID, Location> lastPlayerLocations = new ConcurrentHashMap<>();
+
+    // Event-driven refresh: players queued by triggers, and when each was last refreshed
+    private final Set<UUID> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Long> lastRefreshTicks = new ConcurrentHashMap<>();
+    private long refreshesTriggered;
+    private long refreshesSwept;
+    private long refreshesSkipped;
+
+    // Material progress: what each hologram shows, and inventory counts for just those materials
+    private final Map<HologramId, DisplayedCost> displayedCosts = new ConcurrentHashMap<>();
+    private final MaterialCountTracker materialCounts = new MaterialCountTracker();
+    private final Map<UUID, Set<Material>> changedMaterials = new HashMap<>();
+    private final Set<UUID> pendingResyncs = new HashSet<>();
+    private long progressRerenders;
     
-    // Cached wall locations per chunk to avoid recomputation
-    private final Map<String, Map<HologramLocationUtils.WallSide, Location>> cachedWallLocations = new ConcurrentHashMap<>();
+    // Wall anchor heights per chunk (least recently used evicted), and chunks queued for async computation
+    private final WallAnchorGrid wallAnchors = new WallAnchorGrid(WALL_ANCHOR_CAPACITY);
+    private final Set<AnchorRequest> anchorRequests = new HashSet<>();
+    private final Deque<AnchorRequest> anchorQueue = new ArrayDeque<>();
+    private long wallAnchorsComputed;
     
+    // Provider call latencies, to compare providers under the same load
+    private final LatencyStats createLatency = new LatencyStats(512);
+    private final LatencyStats updateLatency = new LatencyStats(512);
+    private final LatencyStats removeLatency = new LatencyStats(512);
+    private long invalidHologramsDropped;
+
     // Background tasks
-    private BukkitTask distanceCullingTask;
+    private BukkitTask refreshTask;
     private BukkitTask cleanupTask;
 
     private HologramService(Builder builder) {
@@ -66,9 +107,33 @@ public final class HologramService {
         this.worldManager = builder.worldManager;
         this.economyManager = builder.economyManager;
         this.debouncer = new HologramDebouncer(config.getDebounceDelayTicks());
+        // Templates compiled here; a reload creates a new service and so recompiles them
+        this.lineRenderer = HologramLineRenderer.fromLanguage();
+        this.opScheduler = new HologramOpScheduler(ChunklockPlugin.getInstance().getLogger(),
+            config.getMaxOpsPerTick(), config.getOpBudgetNanos());
+        this.frontier = new FrontierTracker(chunkLockManager);
+        this.refreshTrigger = new ChunkLockManager.ChunkLockListener() {
+            @Override
+            public void onChunkLockChanged(String worldName, int chunkX, int chunkZ, boolean locked, UUID ownerId) {
+                if (ownerId != null) {
+                    pendingRefreshes.add(ownerId);
+                }
+                requestRefreshNear(worldName, chunkX, chunkZ);
+            }
+
+            @Override
+            public void onLocksReset() {
+                pendingRefreshes.addAll(lastPlayerLocations.keySet());
+            }
+        };
         this.available = provider.isAvailable() && config.isEnabled();
         
         if (available) {
+            // Frontier kept current by lock/unlock notifications from then on
+            frontier.rebuild(chunkLockManager.getUnlockedChunkOwners());
+            chunkLockManager.addLockListener(frontier);
+            // Registered after the frontier so refreshes see the updated frontier
+            chunkLockManager.addLockListener(refreshTrigger);
             startBackgroundTasks();
             cleanupOrphanedHolograms();
         }
@@ -103,7 +168,8 @@ public final class HologramService {
         
         // Use debouncing to coalesce rapid updates
         debouncer.scheduleUpdate(hologramId, location, lines, () -> {
-            performCreateOrUpdate(hologramId, location, lines, player);
+            submitOp(hologramId, HologramOpScheduler.OpType.SPAWN,
+                () -> performCreateOrUpdate(hologramId, location, lines, player));
         });
     }
 
@@ -120,7 +186,7 @@ public final class HologramService {
         }
         
         debouncer.scheduleUpdate(hologramId, currentState.getLocation(), newLines, () -> {
-            performUpdateLines(hologramId, newLines);
+            submitOp(hologramId, HologramOpScheduler.OpType.UPDATE, () -> performUpdateLines(hologramId, newLines));
         });
     }
 
@@ -131,10 +197,11 @@ public final class HologramService {
         if (!isAvailable()) return;
         
         debouncer.cancelUpdate(hologramId);
+        opScheduler.cancel(hologramId);
         
         me.chunklock.hologram.api.Hologram hologram = spawnedHolograms.remove(hologramId);
         if (hologram != null) {
-            provider.removeHologram(hologram);
+            timedRemove(hologram);
             ChunklockPlugin.getInstance().getLogger().fine("Despawned hologram: " + hologramId);
         }
         
@@ -157,6 +224,7 @@ public final class HologramService {
         
         UUID playerId = player.getUniqueId();
         debouncer.cancelPlayerUpdates(playerId);
+        opScheduler.cancelPlayer(playerId);
         
         // Find all holograms for this player
         List<HologramId> playerHolograms = hologramStates.keySet().stream()
@@ -165,11 +233,17 @@ public final class HologramService {
         
         for (HologramId hologramId : playerHolograms) {
             despawnHologram(hologramId);
+            displayedCosts.remove(hologramId);
         }
         
         // Clean up player-specific data
         activeHologramSets.remove(playerId);
         lastPlayerLocations.remove(playerId);
+        lastRefreshTicks.remove(playerId);
+        pendingRefreshes.remove(playerId);
+        materialCounts.remove(playerId);
+        changedMaterials.remove(playerId);
+        pendingResyncs.remove(playerId);
         
         ChunklockPlugin.getInstance().getLogger().fine("Despawned " + playerHolograms.size() + " holograms for player " + player.getName());
     }
@@ -185,8 +259,8 @@ public final class HologramService {
             despawnHologram(hologramId);
         }
         
-        // Remove cached wall locations for this chunk
-        cachedWallLocations.remove(getChunkKey(chunk));
+        // Remove cached wall anchors for this chunk
+        wallAnchors.remove(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
     }
 
     /**
@@ -201,6 +275,141 @@ public final class HologramService {
      * Update active holograms for a player with optional delayed refresh
      */
     public void updateActiveHologramsForPlayer(Player player, boolean delayedRefresh) {
+        refreshActiveHolograms(player, delayedRefresh);
+
+        // Schedule delayed refresh for initial world join (ISSUE A FIX)
+        if (delayedRefresh) {
+            Bukkit.getScheduler().runTaskLater(ChunklockPlugin.getInstance(), () -> {
+                if (player.isOnline() && worldManager.isWorldEnabled(player.getWorld())) {
+                    if (ChunklockPlugin.getInstance().getLogger().isLoggable(Level.FINE)) {
+                        ChunklockPlugin.getInstance().getLogger().fine(
+                            "Executing delayed hologram refresh for " + player.getName());
+                    }
+                    updateActiveHologramsForPlayer(player, false);
+                }
+            }, 20L); // 1 second delay to ensure data is loaded
+        }
+    }
+
+    /**
+     * Queues a hologram refresh for the player, run on the next tick. Callers trigger this on
+     * whatever changes the player's holograms (chunk transitions, teleports, inventory changes);
+     * lock changes are picked up automatically. Repeated requests before then coalesce.
+     */
+    public void requestRefresh(Player player) {
+        if (!isAvailable()) return;
+        pendingRefreshes.add(player.getUniqueId());
+    }
+
+    /**
+     * Applies a known inventory change. Only materials shown on the player's holograms are
+     * tracked; if the count changed, the holograms showing it are re-rendered on the next tick.
+     */
+    public void onInventoryDelta(Player player, Material material, int delta) {
+        if (!isAvailable()) return;
+        UUID playerId = player.getUniqueId();
+        if (materialCounts.applyDelta(playerId, material, delta)) {
+            changedMaterials.computeIfAbsent(playerId, id -> EnumSet.noneOf(Material.class)).add(material);
+        }
+    }
+
+    /**
+     * Notes an inventory change whose delta is unknown; the tracked counts are recounted on the
+     * next tick and only holograms whose material count changed are re-rendered.
+     */
+    public void onInventoryChanged(Player player) {
+        if (!isAvailable()) return;
+        UUID playerId = player.getUniqueId();
+        if (materialCounts.isTracking(playerId)) {
+            pendingResyncs.add(playerId);
+        }
+    }
+
+    /**
+     * Queues a refresh for every tracked player close enough to a chunk to have it in range.
+     */
+    private void requestRefreshNear(String worldName, int chunkX, int chunkZ) {
+        for (Map.Entry<UUID, Location> entry : lastPlayerLocations.entrySet()) {
+            Location location = entry.getValue();
+            World world = location.getWorld();
+            if (world == null || !world.getName().equals(worldName)) continue;
+            // Frontier chunks sit one step outside the scanned range
+            if (Math.abs((location.getBlockX() >> 4) - chunkX) <= MAX_SCAN_RANGE + 1
+                && Math.abs((location.getBlockZ() >> 4) - chunkZ) <= MAX_SCAN_RANGE + 1) {
+                pendingRefreshes.add(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Runs queued refreshes, then the safety sweep: each player in an enabled world comes up
+     * once per sweep period, on a tick picked from their UUID so the sweep is spread out, and
+     * is only refreshed if nothing else refreshed them during the last period and they have
+     * moved since their last refresh, so idle players cost nothing.
+     */
+    private void processRefreshes() {
+        long tick = getCurrentTick();
+        dispatchWallAnchorRequests();
+
+        if (!pendingResyncs.isEmpty()) {
+            for (UUID playerId : pendingResyncs) {
+                Player player = Bukkit.getPlayer(playerId);
+                if (player == null) continue;
+                Set<Material> changed = materialCounts.resync(playerId, player.getInventory().getContents());
+                if (!changed.isEmpty()) {
+                    changedMaterials.computeIfAbsent(playerId, id -> EnumSet.noneOf(Material.class)).addAll(changed);
+                }
+            }
+            pendingResyncs.clear();
+        }
+
+        if (!changedMaterials.isEmpty()) {
+            for (Map.Entry<UUID, Set<Material>> entry : changedMaterials.entrySet()) {
+                Player player = Bukkit.getPlayer(entry.getKey());
+                if (player != null) {
+                    rerenderMaterialProgress(player, entry.getValue());
+                }
+            }
+            changedMaterials.clear();
+        }
+
+        if (!pendingRefreshes.isEmpty()) {
+            Iterator<UUID> iterator = pendingRefreshes.iterator();
+            while (iterator.hasNext()) {
+                UUID playerId = iterator.next();
+                iterator.remove();
+                Player player = Bukkit.getPlayer(playerId);
+                if (player != null && player.isOnline()) {
+                    refreshesTriggered++;
+                    refreshActiveHolograms(player, true);
+                }
+            }
+        }
+
+        long period = Math.max(1L, config.getCullingSweepPeriod());
+        long slot = tick % period;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID playerId = player.getUniqueId();
+            if (Math.floorMod(playerId.hashCode(), period) != slot || !worldManager.isWorldEnabled(player.getWorld())) {
+                continue;
+            }
+            Long lastRefresh = lastRefreshTicks.get(playerId);
+            if (lastRefresh != null && tick - lastRefresh < period) {
+                refreshesSkipped++;
+                continue;
+            }
+            refreshesSwept++;
+            refreshActiveHolograms(player, false);
+        }
+
+        opScheduler.tick();
+    }
+
+    /**
+     * Recomputes the player's active holograms. Unless forced, skipped when the player has not
+     * moved since the last refresh.
+     */
+    private void refreshActiveHolograms(Player player, boolean force) {
         if (!isAvailable()) {
             despawnPlayerHolograms(player);
             return;
@@ -226,67 +435,63 @@ public final class HologramService {
         UUID playerId = player.getUniqueId();
         Location currentLocation = player.getLocation();
 
-        // Check if player moved significantly since last update (skip for delayed refresh)
-        if (!delayedRefresh) {
+        // Check if player moved significantly since last update (skip for forced refreshes)
+        if (!force) {
             Location lastLocation = lastPlayerLocations.get(playerId);
-            if (lastLocation != null && currentLocation.distanceSquared(lastLocation) < 16.0) { // 4 block threshold
+            if (lastLocation != null && lastLocation.getWorld() == currentLocation.getWorld()
+                && currentLocation.distanceSquared(lastLocation) < 16.0) { // 4 block threshold
+                refreshesSkipped++;
                 return; // Skip update if player hasn't moved much
             }
         }
 
         lastPlayerLocations.put(playerId, currentLocation.clone());
+        lastRefreshTicks.put(playerId, getCurrentTick());
 
         // Find candidate chunks and their holograms
         Set<HologramId> newActiveSet = findActiveHologramCandidates(player);
-        Set<HologramId> currentActiveSet = activeHologramSets.getOrDefault(playerId, new HashSet<>());
+        Set<HologramId> currentActiveSet = activeHologramSets.get(playerId);
+        if (currentActiveSet == null) {
+            currentActiveSet = Collections.emptySet();
+        }
 
         // Apply hologram limit per player
         if (newActiveSet.size() > config.getMaxActiveHologramsPerPlayer()) {
             newActiveSet = prioritizeHolograms(player, newActiveSet);
         }
 
-        // Determine what needs to be spawned/despawned
-        Set<HologramId> toSpawn = new HashSet<>(newActiveSet);
-        toSpawn.removeAll(currentActiveSet);
+        // Catch inventory changes no event reported before existing holograms are refreshed
+        materialCounts.resync(playerId, player.getInventory().getContents());
 
-        Set<HologramId> toDespawn = new HashSet<>(currentActiveSet);
-        toDespawn.removeAll(newActiveSet);
-        
-        // Find holograms that need content updates (when inventory changes)
-        Set<HologramId> toUpdate = new HashSet<>(newActiveSet);
-        toUpdate.retainAll(currentActiveSet); // Only existing holograms
-
-        // Execute spawn/despawn operations
-        for (HologramId hologramId : toDespawn) {
-            hideOrDespawnHologram(hologramId);
+        // Diff in place: despawn what dropped out, then spawn or refresh what is active
+        int despawned = 0;
+        for (HologramId hologramId : currentActiveSet) {
+            if (!newActiveSet.contains(hologramId)) {
+                submitOp(hologramId, HologramOpScheduler.OpType.DESPAWN, () -> hideOrDespawnHologram(hologramId));
+                despawned++;
+            }
         }
 
-        for (HologramId hologramId : toSpawn) {
-            showOrSpawnHologram(hologramId, player);
-        }
-        
-        // Update content of existing holograms to reflect current inventory/material counts
-        for (HologramId hologramId : toUpdate) {
-            updateExistingHologramContent(hologramId, player);
+        int spawned = 0;
+        int updated = 0;
+        for (HologramId hologramId : newActiveSet) {
+            if (currentActiveSet.contains(hologramId)) {
+                // Update content of existing holograms to reflect current inventory/material counts
+                updateExistingHologramContent(hologramId, player);
+                updated++;
+            } else {
+                submitOp(hologramId, HologramOpScheduler.OpType.SPAWN, () -> showOrSpawnHologram(hologramId, player));
+                spawned++;
+            }
         }
 
         activeHologramSets.put(playerId, newActiveSet);
+        retainShownMaterials(playerId, newActiveSet);
 
         if (ChunklockPlugin.getInstance().getLogger().isLoggable(Level.FINE)) {
             ChunklockPlugin.getInstance().getLogger().fine("Updated active holograms for " + player.getName() + 
-                ": +" + toSpawn.size() + " -" + toDespawn.size() + " ~" + toUpdate.size() + 
-                " (total: " + newActiveSet.size() + ", eligibility-based: " + !delayedRefresh + ")");
-        }        // Schedule delayed refresh for initial world join (ISSUE A FIX)
-        if (delayedRefresh) {
-            Bukkit.getScheduler().runTaskLater(ChunklockPlugin.getInstance(), () -> {
-                if (player.isOnline() && worldManager.isWorldEnabled(player.getWorld())) {
-                    if (ChunklockPlugin.getInstance().getLogger().isLoggable(Level.FINE)) {
-                        ChunklockPlugin.getInstance().getLogger().fine(
-                            "Executing delayed hologram refresh for " + player.getName());
-                    }
-                    updateActiveHologramsForPlayer(player, false);
-                }
-            }, 20L); // 1 second delay to ensure data is loaded
+                ": +" + spawned + " -" + despawned + " ~" + updated + 
+                " (total: " + newActiveSet.size() + ", forced: " + force + ")");
         }
     }
     
@@ -314,25 +519,37 @@ public final class HologramService {
      * Global cleanup - removes all holograms and stops background tasks.
      */
     public void cleanup() {
-        if (distanceCullingTask != null && !distanceCullingTask.isCancelled()) {
-            distanceCullingTask.cancel();
+        if (refreshTask != null && !refreshTask.isCancelled()) {
+            refreshTask.cancel();
         }
         if (cleanupTask != null && !cleanupTask.isCancelled()) {
             cleanupTask.cancel();
         }
         
         debouncer.cleanup();
+        opScheduler.clear();
+        chunkLockManager.removeLockListener(refreshTrigger);
+        chunkLockManager.removeLockListener(frontier);
+        frontier.clear();
         
         // Despawn all holograms
         for (me.chunklock.hologram.api.Hologram hologram : spawnedHolograms.values()) {
-            provider.removeHologram(hologram);
+            timedRemove(hologram);
         }
         
         spawnedHolograms.clear();
         hologramStates.clear();
         activeHologramSets.clear();
         lastPlayerLocations.clear();
-        cachedWallLocations.clear();
+        lastRefreshTicks.clear();
+        pendingRefreshes.clear();
+        displayedCosts.clear();
+        materialCounts.clear();
+        changedMaterials.clear();
+        pendingResyncs.clear();
+        wallAnchors.clear();
+        anchorRequests.clear();
+        anchorQueue.clear();
         
         if (provider != null) {
             provider.cleanup();
@@ -361,14 +578,14 @@ public final class HologramService {
                 .persistent(false)
                 .build();
             
-            if (provider.updateHologram(existingHologram, updateData)) {
+            if (timedUpdate(existingHologram, updateData)) {
                 // Update successful
                 hologramStates.put(hologramId, new HologramState(location, lines, true, true, getCurrentTick()));
                 ChunklockPlugin.getInstance().getLogger().fine("Updated hologram in place: " + hologramId);
                 return;
             } else {
                 // Update failed, remove and recreate
-                provider.removeHologram(existingHologram);
+                timedRemove(existingHologram);
                 spawnedHolograms.remove(hologramId);
             }
         }
@@ -393,12 +610,12 @@ public final class HologramService {
                 .persistent(false)
                 .build();
             
-            if (provider.updateHologram(hologram, updateData)) {
+            if (timedUpdate(hologram, updateData)) {
                 hologramStates.put(hologramId, currentState.withContent(currentState.getLocation(), newLines, getCurrentTick()));
                 ChunklockPlugin.getInstance().getLogger().fine("Updated hologram lines: " + hologramId);
             } else {
                 // Update failed, recreate
-                provider.removeHologram(hologram);
+                timedRemove(hologram);
                 spawnedHolograms.remove(hologramId);
                 createNewHologram(hologramId, currentState.getLocation(), newLines);
             }
@@ -412,7 +629,7 @@ public final class HologramService {
             .persistent(false)
             .build();
         
-        Optional<me.chunklock.hologram.api.Hologram> result = provider.createHologram(hologramData);
+        Optional<me.chunklock.hologram.api.Hologram> result = timedCreate(hologramData);
         if (result.isPresent()) {
             spawnedHolograms.put(hologramId, result.get());
             hologramStates.put(hologramId, new HologramState(location, lines, true, true, getCurrentTick()));
@@ -422,196 +639,176 @@ public final class HologramService {
         }
     }
     
-    private Set<HologramId> findActiveHologramCandidates(Player player) {
-        Set<HologramId> candidates = new HashSet<>();
-        
-        // Get frontier chunks and unlocked chunks for adjacency checking
-        Set<Chunk> unlockedChunks = findPlayerUnlockedChunks(player);
-        Set<Chunk> frontierChunks = findFrontierChunks(player, unlockedChunks);
-        
-        Location playerLoc = player.getLocation();
-        double maxDistance = config.getMaxViewDistance();
-        
-        // Only create holograms for frontier chunks, and only on sides facing unlocked chunks
-        for (Chunk frontierChunk : frontierChunks) {
-            for (HologramLocationUtils.WallSide side : HologramLocationUtils.WallSide.values()) {
-                // Check if this side faces toward an unlocked chunk
-                if (sideFacesUnlockedChunk(frontierChunk, side, unlockedChunks)) {
-                    Location wallLocation = getOrComputeWallLocation(frontierChunk, side);
-                    
-                    double distance = wallLocation.distanceSquared(playerLoc);
-                    if (distance <= maxDistance * maxDistance) {
-                        HologramId hologramId = HologramId.create(player.getUniqueId(), frontierChunk, side);
-                        candidates.add(hologramId);
-                    }
-                }
-            }
-        }
-        
-        return candidates;
+    /**
+     * Queues a provider operation on the per-tick budget, nearest holograms first.
+     */
+    private void submitOp(HologramId hologramId, HologramOpScheduler.OpType type, Runnable action) {
+        opScheduler.submit(hologramId, type, distanceSquaredToViewer(hologramId), action);
     }
-    
+
     /**
-     * Find unlocked chunks owned by the player in a reasonable scan range
+     * Queues spawning a hologram whose cost was calculated; skipped if it dropped out of the
+     * viewer's active set in the meantime.
      */
-    private Set<Chunk> findPlayerUnlockedChunks(Player player) {
-        Set<Chunk> unlockedChunks = new HashSet<>();
-        World world = player.getWorld();
-        UUID playerId = player.getUniqueId();
-        Chunk playerChunk = player.getLocation().getChunk();
-        
-        // Use a reasonable scan range (not full view distance to avoid performance issues)
-        int scanRange = Math.min(8, player.getClientViewDistance());
-        
-        for (int dx = -scanRange; dx <= scanRange; dx++) {
-            for (int dz = -scanRange; dz <= scanRange; dz++) {
-                try {
-                    Chunk chunk = world.getChunkAt(playerChunk.getX() + dx, playerChunk.getZ() + dz);
-                    chunkLockManager.initializeChunk(chunk, playerId);
-                    
-                    boolean isLocked = chunkLockManager.isLocked(chunk);
-                    UUID owner = chunkLockManager.getChunkOwner(chunk);
-                    
-                    // Include ONLY unlocked chunks that belong to this player
-                    if (!isLocked) {
-                        // Only include chunks actually owned by this player (exclude unowned chunks)
-                        if (owner != null && owner.equals(playerId)) {
-                            unlockedChunks.add(chunk);
-                        }
-                    }
-                } catch (Exception e) {
-                    // Skip problematic chunks
-                    continue;
-                }
+    private void submitSpawn(HologramId hologramId, Location location, List<String> lines) {
+        submitOp(hologramId, HologramOpScheduler.OpType.SPAWN, () -> {
+            Set<HologramId> activeSet = activeHologramSets.get(hologramId.getPlayerId());
+            if (activeSet != null && activeSet.contains(hologramId)) {
+                createNewHologram(hologramId, location, lines);
             }
+        });
+    }
+
+    private double distanceSquaredToViewer(HologramId hologramId) {
+        Location viewer = lastPlayerLocations.get(hologramId.getPlayerId());
+        if (viewer == null || viewer.getWorld() == null || !viewer.getWorld().getName().equals(hologramId.getWorldName())) {
+            return Double.MAX_VALUE;
         }
-        
-        return unlockedChunks;
+        double dx = (hologramId.getChunkX() << 4) + 8 - viewer.getX();
+        double dz = (hologramId.getChunkZ() << 4) + 8 - viewer.getZ();
+        return dx * dx + dz * dz;
     }
-    
+
+    private Optional<me.chunklock.hologram.api.Hologram> timedCreate(HologramData data) {
+        long start = System.nanoTime();
+        Optional<me.chunklock.hologram.api.Hologram> result = provider.createHologram(data);
+        createLatency.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private boolean timedUpdate(me.chunklock.hologram.api.Hologram hologram, HologramData data) {
+        long start = System.nanoTime();
+        boolean updated = provider.updateHologram(hologram, data);
+        updateLatency.record(System.nanoTime() - start);
+        return updated;
+    }
+
+    private boolean timedRemove(me.chunklock.hologram.api.Hologram hologram) {
+        long start = System.nanoTime();
+        boolean removed = provider.removeHologram(hologram);
+        removeLatency.record(System.nanoTime() - start);
+        return removed;
+    }
+
     /**
-     * Find frontier chunks - locked chunks that are adjacent to unlocked chunks
+     * Walls of the player's frontier chunks that face their own unlocked chunks within the scan
+     * range and lie within the maximum view distance. Reads the incrementally kept frontier, so
+     * no chunks are loaded or looked up for chunks that do not end up as candidates.
      */
-    private Set<Chunk> findFrontierChunks(Player player, Set<Chunk> unlockedChunks) {
-        Set<Chunk> frontierChunks = new HashSet<>();
+    private Set<HologramId> findActiveHologramCandidates(Player player) {
+        Set<HologramId> candidates = new HashSet<>();
         World world = player.getWorld();
         UUID playerId = player.getUniqueId();
-        
-        // Check neighbors of each unlocked chunk
-        for (Chunk unlockedChunk : unlockedChunks) {
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dz = -1; dz <= 1; dz++) {
-                    if (dx == 0 && dz == 0) continue; // Skip the center chunk
-                    
-                    try {
-                        Chunk neighbor = world.getChunkAt(
-                            unlockedChunk.getX() + dx, 
-                            unlockedChunk.getZ() + dz
-                        );
-                        
-                        chunkLockManager.initializeChunk(neighbor, playerId);
-                        
-                        boolean isLocked = chunkLockManager.isLocked(neighbor);
-                        UUID owner = chunkLockManager.getChunkOwner(neighbor);
-                        
-                        // Include locked neighbors that can be unlocked by this player
-                        if (isLocked) {
-                            // Include chunks owned by this player or unowned chunks
-                            if (owner == null || owner.equals(playerId)) {
-                                frontierChunks.add(neighbor);
-                            }
-                        }
-                    } catch (Exception e) {
-                        // Skip problematic chunks
-                        continue;
+        Location playerLoc = player.getLocation();
+        int centerX = playerLoc.getBlockX() >> 4;
+        int centerZ = playerLoc.getBlockZ() >> 4;
+
+        // Use a reasonable scan range (not full view distance to avoid performance issues)
+        int scanRange = Math.min(MAX_SCAN_RANGE, player.getClientViewDistance());
+        double maxDistanceSq = config.getMaxViewDistance() * config.getMaxViewDistance();
+
+        // Frontier chunks lie one step outside the owned chunks they face
+        List<long[]> frontierChunks = new ArrayList<>();
+        frontier.forEachFrontierInRange(world.getName(), playerId, centerX, centerZ, scanRange + 1,
+            (chunkX, chunkZ, facingSides) -> frontierChunks.add(new long[] {chunkX, chunkZ, facingSides}));
+
+        for (long[] entry : frontierChunks) {
+            int chunkX = (int) entry[0];
+            int chunkZ = (int) entry[1];
+            int facingSides = (int) entry[2];
+            long anchors = WallAnchorGrid.MISSING;
+            for (HologramLocationUtils.WallSide side : HologramLocationUtils.WallSide.values()) {
+                if ((facingSides & (1 << side.ordinal())) == 0) continue;
+                // The owned chunk this wall faces must itself be within the scan range
+                if (Math.abs(chunkX + side.dx - centerX) > scanRange || Math.abs(chunkZ + side.dz - centerZ) > scanRange) {
+                    continue;
+                }
+
+                // Horizontal distance first: it never exceeds the full distance and needs no chunk
+                double dx = HologramLocationUtils.getWallX(chunkX, side, config.getWallOffset(), config.getCenterOffset()) - playerLoc.getX();
+                double dz = HologramLocationUtils.getWallZ(chunkZ, side, config.getWallOffset(), config.getCenterOffset()) - playerLoc.getZ();
+                if (dx * dx + dz * dz > maxDistanceSq) continue;
+
+                if (anchors == WallAnchorGrid.MISSING) {
+                    anchors = wallAnchors.get(world.getName(), chunkX, chunkZ);
+                    if (anchors == WallAnchorGrid.MISSING) {
+                        // Computed off-thread; nearby players are refreshed once it is known
+                        requestWallAnchors(world.getName(), chunkX, chunkZ);
+                        break;
                     }
                 }
+                double dy = WallAnchorGrid.getY(anchors, side) - playerLoc.getY();
+                if (dx * dx + dy * dy + dz * dz <= maxDistanceSq) {
+                    candidates.add(HologramId.create(playerId, world, chunkX, chunkZ, side));
+                }
             }
         }
-        
-        return frontierChunks;
+
+        return candidates;
     }
     
     /**
-     * Check if a wall side of a frontier chunk faces toward an unlocked chunk
+     * Keeps the configured number of best-ranked candidates: closest first, then walls of the
+     * player's current chunk, then side order, then ID. Distances are computed once per candidate
+     * and the best are picked with a bounded heap rather than a full sort.
      */
-    private boolean sideFacesUnlockedChunk(Chunk frontierChunk, HologramLocationUtils.WallSide side, Set<Chunk> unlockedChunks) {
-        // Calculate the adjacent chunk position based on the wall side
-        int adjX = frontierChunk.getX();
-        int adjZ = frontierChunk.getZ();
-        
-        switch (side) {
-            case NORTH: adjZ -= 1; break;  // North = negative Z
-            case SOUTH: adjZ += 1; break;  // South = positive Z
-            case EAST:  adjX += 1; break;  // East = positive X
-            case WEST:  adjX -= 1; break;  // West = negative X
-        }
-        
-        // Check if the adjacent chunk is in the unlocked set
-        for (Chunk unlockedChunk : unlockedChunks) {
-            if (unlockedChunk.getX() == adjX && unlockedChunk.getZ() == adjZ) {
-                return true; // This side faces an unlocked chunk
-            }
-        }
-        
-        return false; // This side doesn't face any unlocked chunks
-    }
-    
     private Set<HologramId> prioritizeHolograms(Player player, Set<HologramId> candidates) {
         Location playerLoc = player.getLocation();
-        Chunk playerChunk = playerLoc.getChunk();
-        
-        List<HologramId> sorted = candidates.stream()
-            .sorted((a, b) -> {
-                // Get hologram states for distance calculation
-                HologramState stateA = hologramStates.get(a);
-                HologramState stateB = hologramStates.get(b);
-                
-                // If either state is missing, use fallback comparison
-                if (stateA == null && stateB == null) {
-                    return a.getId().compareTo(b.getId()); // Stable fallback
-                }
-                if (stateA == null) return 1;  // b has priority
-                if (stateB == null) return -1; // a has priority
-                
-                // Priority 1: Distance to player (closest first)
-                double distA = stateA.getLocation().distanceSquared(playerLoc);
-                double distB = stateB.getLocation().distanceSquared(playerLoc);
-                int distanceComparison = Double.compare(distA, distB);
-                if (distanceComparison != 0) {
-                    return distanceComparison;
-                }
-                
+        int playerChunkX = playerLoc.getBlockX() >> 4;
+        int playerChunkZ = playerLoc.getBlockZ() >> 4;
+
+        int count = candidates.size();
+        HologramId[] ids = candidates.toArray(new HologramId[0]);
+        double[] distances = new double[count];
+        for (int i = 0; i < count; i++) {
+            HologramState state = hologramStates.get(ids[i]);
+            // Holograms without a state yet rank after all known ones
+            distances[i] = state != null ? state.getLocation().distanceSquared(playerLoc) : Double.POSITIVE_INFINITY;
+        }
+
+        IntBinaryOperator ranking = (a, b) -> {
+            // Priority 1: Distance to player (closest first)
+            int distanceComparison = Double.compare(distances[a], distances[b]);
+            if (distanceComparison != 0) {
+                return distanceComparison;
+            }
+            HologramId idA = ids[a];
+            HologramId idB = ids[b];
+            if (distances[a] != Double.POSITIVE_INFINITY) {
                 // Priority 2: Current chunk walls first (same distance case)
-                boolean aIsCurrentChunk = a.getChunkX() == playerChunk.getX() && a.getChunkZ() == playerChunk.getZ();
-                boolean bIsCurrentChunk = b.getChunkX() == playerChunk.getX() && b.getChunkZ() == playerChunk.getZ();
-                
+                boolean aIsCurrentChunk = idA.getChunkX() == playerChunkX && idA.getChunkZ() == playerChunkZ;
+                boolean bIsCurrentChunk = idB.getChunkX() == playerChunkX && idB.getChunkZ() == playerChunkZ;
                 if (aIsCurrentChunk != bIsCurrentChunk) {
                     return aIsCurrentChunk ? -1 : 1;
                 }
-                
+
                 // Priority 3: Side order (NORTH, EAST, SOUTH, WEST)
-                int sideComparison = getSideOrder(a.getSide()) - getSideOrder(b.getSide());
+                int sideComparison = getSideOrder(idA.getSide()) - getSideOrder(idB.getSide());
                 if (sideComparison != 0) {
                     return sideComparison;
                 }
-                
-                // Priority 4: Stable string ID as final fallback
-                return a.getId().compareTo(b.getId());
-            })
-            .collect(Collectors.toList());
-        
+            }
+            // Priority 4: Stable string ID as final fallback
+            return idA.getId().compareTo(idB.getId());
+        };
+
+        int[] selected = TopKSelector.smallest(count, config.getMaxActiveHologramsPerPlayer(), ranking);
+
         // Debug log for testing
         if (ChunklockPlugin.getInstance().getLogger().isLoggable(Level.FINE)) {
             ChunklockPlugin.getInstance().getLogger().fine(
-                "Hologram priority order for " + player.getName() + ": " + 
-                sorted.stream().limit(5).map(id -> id.getId()).collect(Collectors.joining(", "))
+                "Hologram priority order for " + player.getName() + ": " +
+                Arrays.stream(selected).boxed()
+                    .sorted((a, b) -> ranking.applyAsInt(a, b))
+                    .limit(5).map(i -> ids[i].getId()).collect(Collectors.joining(", "))
             );
         }
-        
-        return sorted.stream()
-            .limit(config.getMaxActiveHologramsPerPlayer())
-            .collect(Collectors.toSet());
+
+        Set<HologramId> prioritized = new HashSet<>(selected.length * 2);
+        for (int index : selected) {
+            prioritized.add(ids[index]);
+        }
+        return prioritized;
     }
     
     /**
@@ -631,7 +828,7 @@ public final class HologramService {
         me.chunklock.hologram.api.Hologram hologram = spawnedHolograms.get(hologramId);
         if (hologram != null) {
             // For now, just despawn. Could implement hide/show if FancyHolograms supports it
-            provider.removeHologram(hologram);
+            timedRemove(hologram);
             spawnedHolograms.remove(hologramId);
             
             HologramState state = hologramStates.get(hologramId);
@@ -728,26 +925,19 @@ public final class HologramService {
                 boolean canAfford = economyManager.canAfford(player, paymentRequirement);
                 String formattedCost = economyManager.getVaultService().format(paymentRequirement.getVaultCost());
                 
-                lines = me.chunklock.hologram.util.HologramTextUtils.createChunkHologramLinesForMoney(
-                    formattedCost, canAfford);
+                lines = lineRenderer.renderMoneyLines(formattedCost, canAfford);
+                displayedCosts.remove(hologramId);
                 
             } else {
                 // Use material-based hologram (default) - use unified cost calculation
-                // Convert PaymentRequirement to display format
-                Material displayMaterial = paymentRequirement.getMaterial();
-                int displayAmount = paymentRequirement.getMaterialAmount();
-                
-                // Check if player has required items using unified calculation
-                boolean hasItems = biomeUnlockRegistry.hasRequiredItems(player, evaluation.biome, evaluation.score);
-                int playerItemCount = countPlayerItems(player, displayMaterial);
-                
-                lines = me.chunklock.hologram.util.HologramTextUtils.createChunkHologramLines(
-                    me.chunklock.hologram.util.HologramTextUtils.formatMaterialName(displayMaterial),
-                    hasItems, playerItemCount, displayAmount);
+                DisplayedCost cost = new DisplayedCost(paymentRequirement.getMaterial(),
+                    paymentRequirement.getMaterialAmount(), evaluation.biome, evaluation.score);
+                displayedCosts.put(hologramId, cost);
+                lines = createMaterialProgressLines(player, cost);
             }
             
             Location location = getOrComputeWallLocation(chunk, hologramId.getSide());
-            createNewHologram(hologramId, location, lines);
+            submitSpawn(hologramId, location, lines);
             
         } catch (Exception e) {
             ChunklockPlugin.getInstance().getLogger().log(Level.WARNING,
@@ -765,12 +955,10 @@ public final class HologramService {
             Material defaultMaterial = Material.DIRT;
             int defaultAmount = 1;
             
-            List<String> lines = me.chunklock.hologram.util.HologramTextUtils.createChunkHologramLines(
-                me.chunklock.hologram.util.HologramTextUtils.formatMaterialName(defaultMaterial),
-                false, 0, defaultAmount);
+            List<String> lines = lineRenderer.renderMaterialLines(defaultMaterial, defaultAmount, false, 0);
             
             Location location = getOrComputeWallLocation(chunk, hologramId.getSide());
-            createNewHologram(hologramId, location, lines);
+            submitSpawn(hologramId, location, lines);
             
         } catch (Exception e) {
             ChunklockPlugin.getInstance().getLogger().log(Level.WARNING,
@@ -841,23 +1029,19 @@ public final class HologramService {
                 boolean canAfford = economyManager.canAfford(player, paymentRequirement);
                 String formattedCost = economyManager.getVaultService().format(paymentRequirement.getVaultCost());
                 
-                newLines = me.chunklock.hologram.util.HologramTextUtils.createChunkHologramLinesForMoney(
-                    formattedCost, canAfford);
+                newLines = lineRenderer.renderMoneyLines(formattedCost, canAfford);
+                displayedCosts.remove(hologramId);
                 
             } else {
                 // Use material-based hologram (default) - use unified cost calculation
-                Material displayMaterial = paymentRequirement.getMaterial();
-                int displayAmount = paymentRequirement.getMaterialAmount();
-                boolean hasItems = biomeUnlockRegistry.hasRequiredItems(player, evaluation.biome, evaluation.score);
-                int playerItemCount = countPlayerItems(player, displayMaterial);
-                
-                newLines = me.chunklock.hologram.util.HologramTextUtils.createChunkHologramLines(
-                    me.chunklock.hologram.util.HologramTextUtils.formatMaterialName(displayMaterial),
-                    hasItems, playerItemCount, displayAmount);
+                DisplayedCost cost = new DisplayedCost(paymentRequirement.getMaterial(),
+                    paymentRequirement.getMaterialAmount(), evaluation.biome, evaluation.score);
+                displayedCosts.put(hologramId, cost);
+                newLines = createMaterialProgressLines(player, cost);
             }
             
             // Update the hologram lines
-            performUpdateLines(hologramId, newLines);
+            submitOp(hologramId, HologramOpScheduler.OpType.UPDATE, () -> performUpdateLines(hologramId, newLines));
             
         } catch (Exception e) {
             ChunklockPlugin.getInstance().getLogger().log(Level.WARNING, 
@@ -865,59 +1049,150 @@ public final class HologramService {
         }
     }
     
-    private Location getOrComputeWallLocation(Chunk chunk, HologramLocationUtils.WallSide side) {
-        String chunkKey = getChunkKey(chunk);
-        Map<HologramLocationUtils.WallSide, Location> wallMap = cachedWallLocations.get(chunkKey);
-        
-        if (wallMap == null) {
-            enforceWallLocationCacheLimit();
-            wallMap = new EnumMap<>(HologramLocationUtils.WallSide.class);
-            cachedWallLocations.put(chunkKey, wallMap);
+    /**
+     * Material progress lines, with the player's count taken from the tracked counts.
+     */
+    private List<String> createMaterialProgressLines(Player player, DisplayedCost cost) {
+        boolean hasItems = biomeUnlockRegistry.hasRequiredItems(player, cost.biome(), cost.score());
+        int playerItemCount = materialCounts.track(player.getUniqueId(), cost.material(),
+            () -> countPlayerItems(player, cost.material()));
+        return lineRenderer.renderMaterialLines(cost.material(), cost.amount(), hasItems, playerItemCount);
+    }
+
+    /**
+     * Re-renders the player's active holograms that show one of the changed materials. The cost
+     * itself does not depend on the inventory, so the displayed cost is reused as is.
+     */
+    private void rerenderMaterialProgress(Player player, Set<Material> changed) {
+        Set<HologramId> activeSet = activeHologramSets.get(player.getUniqueId());
+        if (activeSet == null) return;
+        for (HologramId hologramId : activeSet) {
+            DisplayedCost cost = displayedCosts.get(hologramId);
+            if (cost != null && changed.contains(cost.material())) {
+                List<String> lines = createMaterialProgressLines(player, cost);
+                submitOp(hologramId, HologramOpScheduler.OpType.UPDATE, () -> performUpdateLines(hologramId, lines));
+                progressRerenders++;
+            }
         }
-        
-        Location location = wallMap.get(side);
-        if (location == null) {
-            location = HologramLocationUtils.calculateWallHologramLocation(chunk, side, 
-                config.getWallOffset(), config.getCenterOffset(), 
-                config.getGroundClearance(), config.getMinHeight());
-            wallMap.put(side, location);
+    }
+
+    private void retainShownMaterials(UUID playerId, Set<HologramId> activeSet) {
+        Set<Material> shown = EnumSet.noneOf(Material.class);
+        for (HologramId hologramId : activeSet) {
+            DisplayedCost cost = displayedCosts.get(hologramId);
+            if (cost != null) {
+                shown.add(cost.material());
+            }
         }
-        
-        return location.clone();
+        materialCounts.retain(playerId, shown);
     }
 
-    private void enforceWallLocationCacheLimit() {
-        int cacheSize = cachedWallLocations.size();
-        if (cacheSize < WALL_LOCATION_CACHE_SOFT_LIMIT) {
-            return;
+    /**
+     * Wall hologram location from the anchor grid. Anchors are normally computed ahead by
+     * candidate selection; one evicted in between is recomputed here from the live world.
+     */
+    private Location getOrComputeWallLocation(Chunk chunk, HologramLocationUtils.WallSide side) {
+        World world = chunk.getWorld();
+        long anchors = wallAnchors.get(world.getName(), chunk.getX(), chunk.getZ());
+        if (anchors == WallAnchorGrid.MISSING) {
+            int[] heights = new int[4];
+            for (HologramLocationUtils.WallSide wall : HologramLocationUtils.WallSide.values()) {
+                int x = (int) Math.floor(HologramLocationUtils.getWallX(chunk.getX(), wall, config.getWallOffset(), config.getCenterOffset()));
+                int z = (int) Math.floor(HologramLocationUtils.getWallZ(chunk.getZ(), wall, config.getWallOffset(), config.getCenterOffset()));
+                heights[wall.ordinal()] = HologramLocationUtils.getWallAnchorY(
+                    HologramLocationUtils.getHighestSolidY(world, x, z), config.getGroundClearance(), config.getMinHeight());
+            }
+            anchors = WallAnchorGrid.pack(heights[0], heights[1], heights[2], heights[3]);
+            wallAnchors.put(world.getName(), chunk.getX(), chunk.getZ(), anchors);
         }
+        return HologramLocationUtils.createWallLocation(world, chunk.getX(), chunk.getZ(), side,
+            WallAnchorGrid.getY(anchors, side), config.getWallOffset(), config.getCenterOffset());
+    }
 
-        int removed = 0;
-        Iterator<String> iterator = cachedWallLocations.keySet().iterator();
-        while (iterator.hasNext() && removed < WALL_LOCATION_CACHE_TRIM_BATCH) {
-            iterator.next();
-            iterator.remove();
-            removed++;
+    private void requestWallAnchors(String worldName, int chunkX, int chunkZ) {
+        AnchorRequest request = new AnchorRequest(worldName, chunkX, chunkZ);
+        if (anchorRequests.add(request)) {
+            anchorQueue.add(request);
         }
+    }
 
-        if (removed > 0 && ChunklockPlugin.getInstance().getLogger().isLoggable(Level.FINE)) {
-            ChunklockPlugin.getInstance().getLogger().fine(
-                "Trimmed cached wall locations by " + removed + " entries (size now " + cachedWallLocations.size() + ")");
+    /**
+     * Snapshots the chunks under queued walls (a wall column usually lies in the neighbouring
+     * chunk) and computes their anchor heights asynchronously from the snapshots' heightmaps.
+     * Columns in unloaded chunks are not loaded; the request is dropped and made again by the
+     * next refresh that needs it.
+     */
+    private void dispatchWallAnchorRequests() {
+        if (anchorQueue.isEmpty()) return;
+
+        double wallOffset = config.getWallOffset();
+        double centerOffset = config.getCenterOffset();
+        double groundClearance = config.getGroundClearance();
+        int minHeight = config.getMinHeight();
+        Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        List<Runnable> jobs = new ArrayList<>();
+
+        for (int i = 0; i < WALL_ANCHOR_BATCH && !anchorQueue.isEmpty(); i++) {
+            AnchorRequest request = anchorQueue.poll();
+            World world = Bukkit.getWorld(request.worldName());
+            if (world == null) {
+                anchorRequests.remove(request);
+                continue;
+            }
+
+            ChunkSnapshot[] columns = new ChunkSnapshot[4];
+            int[] localX = new int[4];
+            int[] localZ = new int[4];
+            boolean loaded = true;
+            for (HologramLocationUtils.WallSide side : HologramLocationUtils.WallSide.values()) {
+                int x = (int) Math.floor(HologramLocationUtils.getWallX(request.chunkX(), side, wallOffset, centerOffset));
+                int z = (int) Math.floor(HologramLocationUtils.getWallZ(request.chunkZ(), side, wallOffset, centerOffset));
+                if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                    loaded = false;
+                    break;
+                }
+                columns[side.ordinal()] = snapshots.computeIfAbsent(ChunkLockMemo.pack(x >> 4, z >> 4),
+                    key -> world.getChunkAt(x >> 4, z >> 4).getChunkSnapshot(true, false, false));
+                localX[side.ordinal()] = x & 15;
+                localZ[side.ordinal()] = z & 15;
+            }
+            if (!loaded) {
+                anchorRequests.remove(request);
+                continue;
+            }
+
+            int worldMin = world.getMinHeight();
+            int worldMax = world.getMaxHeight();
+            jobs.add(() -> {
+                int[] heights = new int[4];
+                for (int side = 0; side < 4; side++) {
+                    int groundY = HologramLocationUtils.getHighestSolidY(columns[side], localX[side], localZ[side], worldMin, worldMax);
+                    heights[side] = HologramLocationUtils.getWallAnchorY(groundY, groundClearance, minHeight);
+                }
+                long anchors = WallAnchorGrid.pack(heights[0], heights[1], heights[2], heights[3]);
+                Bukkit.getScheduler().runTask(ChunklockPlugin.getInstance(), () -> {
+                    if (anchorRequests.remove(request)) {
+                        wallAnchors.put(request.worldName(), request.chunkX(), request.chunkZ(), anchors);
+                        wallAnchorsComputed++;
+                        requestRefreshNear(request.worldName(), request.chunkX(), request.chunkZ());
+                    }
+                });
+            });
+        }
+
+        if (!jobs.isEmpty()) {
+            Bukkit.getScheduler().runTaskAsynchronously(ChunklockPlugin.getInstance(), () -> jobs.forEach(Runnable::run));
         }
     }
-    
+
     private void startBackgroundTasks() {
-        // Distance culling task
-        distanceCullingTask = new BukkitRunnable() {
+        // Triggered refreshes plus the staggered safety sweep
+        refreshTask = new BukkitRunnable() {
             @Override
             public void run() {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (worldManager.isWorldEnabled(player.getWorld())) {
-                        updateActiveHologramsForPlayer(player);
-                    }
-                }
+                processRefreshes();
             }
-        }.runTaskTimer(ChunklockPlugin.getInstance(), 20L, config.getCullingSweepPeriod());
+        }.runTaskTimer(ChunklockPlugin.getInstance(), 20L, 1L);
         
         // Cleanup task for invalid holograms
         cleanupTask = new BukkitRunnable() {
@@ -928,9 +1203,31 @@ public final class HologramService {
         }.runTaskTimer(ChunklockPlugin.getInstance(), 200L, 1200L); // Every minute
     }
     
+    /**
+     * Drops holograms the provider no longer backs (e.g. text displays unloaded with their
+     * chunk), so the next sweep spawns them again.
+     */
     private void cleanupInvalidHolograms() {
-        // For now, no cleanup is needed as we don't have a way to validate hologram state
-        // This could be extended to check hologram validity with the provider API
+        Iterator<Map.Entry<HologramId, me.chunklock.hologram.api.Hologram>> iterator = spawnedHolograms.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<HologramId, me.chunklock.hologram.api.Hologram> entry = iterator.next();
+            if (entry.getValue().isValid()) {
+                continue;
+            }
+            HologramId hologramId = entry.getKey();
+            iterator.remove();
+            // Let the provider release anything it still tracks for the hologram
+            timedRemove(entry.getValue());
+            HologramState state = hologramStates.get(hologramId);
+            if (state != null) {
+                hologramStates.put(hologramId, state.withSpawnState(false, false, getCurrentTick()));
+            }
+            Set<HologramId> activeSet = activeHologramSets.get(hologramId.getPlayerId());
+            if (activeSet != null) {
+                activeSet.remove(hologramId);
+            }
+            invalidHologramsDropped++;
+        }
     }
     
     private void cleanupOrphanedHolograms() {
@@ -939,10 +1236,6 @@ public final class HologramService {
         // Implementation would depend on FancyHolograms API to list existing holograms
     }
     
-    private String getChunkKey(Chunk chunk) {
-        return chunk.getWorld().getName() + ":" + chunk.getX() + ":" + chunk.getZ();
-    }
-    
     private int countPlayerItems(Player player, org.bukkit.Material material) {
         int count = 0;
         for (org.bukkit.inventory.ItemStack item : player.getInventory().getContents()) {
@@ -975,6 +1268,13 @@ public final class HologramService {
         switch (config.getProvider().toLowerCase()) {
             case "fancyholograms":
                 return new FancyHologramsProvider();
+            case "native":
+            case "textdisplay":
+                return createNativeProvider();
+            case "auto":
+                return Bukkit.getPluginManager().getPlugin("FancyHolograms") != null
+                    ? new FancyHologramsProvider()
+                    : createNativeProvider();
             default:
                 ChunklockPlugin.getInstance().getLogger().warning(
                     "Unknown hologram provider '" + config.getProvider() + "' - disabling holograms");
@@ -982,6 +1282,12 @@ public final class HologramService {
         }
     }
     
+    private HologramProvider createNativeProvider() {
+        return config.isSharedWalls()
+            ? new SharedWallHologramProvider(HologramLineRenderer.PROGRESS_LINE)
+            : new TextDisplayHologramProvider();
+    }
+
     private HologramProvider createNullProvider() {
         return new HologramProvider() {
             @Override public String getProviderName() { return "None"; }
@@ -1016,7 +1322,23 @@ public final class HologramService {
         stats.put("totalHologramStates", hologramStates.size());
         stats.put("spawnedHolograms", spawnedHolograms.size());
         stats.put("activePlayers", activeHologramSets.size());
-        stats.put("cachedWallLocations", cachedWallLocations.size());
+        stats.put("wallAnchors", wallAnchors.toString());
+        stats.put("pendingWallAnchors", anchorRequests.size());
+        stats.put("wallAnchorsComputed", wallAnchorsComputed);
+        stats.put("frontierChunks", frontier.getFrontierChunkCount());
+        stats.put("provider", provider.getProviderName());
+        stats.put("providerStats", provider.getStatistics());
+        stats.put("createLatency", createLatency.toString());
+        stats.put("updateLatency", updateLatency.toString());
+        stats.put("removeLatency", removeLatency.toString());
+        stats.put("invalidHologramsDropped", invalidHologramsDropped);
+        stats.put("refreshesTriggered", refreshesTriggered);
+        stats.put("refreshesSwept", refreshesSwept);
+        stats.put("refreshesSkipped", refreshesSkipped);
+        stats.put("pendingRefreshes", pendingRefreshes.size());
+        stats.put("trackedMaterialCounts", materialCounts.size());
+        stats.put("progressRerenders", progressRerenders);
+        stats.put("lineRenderer", lineRenderer.toString());
         
         // Per-player stats
         Map<String, Integer> activeCountsPerPlayer = new HashMap<>();
@@ -1027,10 +1349,20 @@ public final class HologramService {
         }
         stats.put("activeHologramsPerPlayer", activeCountsPerPlayer);
         stats.put("debouncer", debouncer.getStatistics());
+        stats.put("operations", opScheduler.getStatistics());
         
         return stats;
     }
     
+    /** Chunk whose wall anchors are waiting to be resolved. */
+    private record AnchorRequest(String worldName, int chunkX, int chunkZ) {}
+
+    /**
+     * Material cost shown on a hologram, kept so progress can be re-rendered without
+     * recalculating the cost.
+     */
+    private record DisplayedCost(Material material, int amount, org.bukkit.block.Biome biome, int score) {}
+    
     static class Builder {
         ChunkLockManager chunkLockManager;
         BiomeUnlockRegistry biomeUnlockRegistry;
@@ -107,9 +107,30 @@ public final class HologramConfiguration {
     }
 
     /**
-     * Gets the culling sweep period in ticks for distance updates.
+     * Gets the maximum number of hologram spawns, despawns and updates applied per tick.
+     */
+    public int getMaxOpsPerTick() {
+        return config != null ? config.getMaxOpsPerTick() : 32;
+    }
+
+    /**
+     * Gets the time in nanoseconds spent applying hologram operations per tick.
+     */
+    public long getOpBudgetNanos() {
+        return config != null ? config.getOpBudgetNanos() : 1_000_000L;
+    }
+
+    /**
+     * Checks if native wall holograms are shared between viewers, with only the progress line per viewer.
+     */
+    public boolean isSharedWalls() {
+        return config != null && config.isSharedWalls();
+    }
+
+    /**
+     * Gets the period in ticks over which every player gets a safety hologram refresh.
      */
     public long getCullingSweepPeriod() {
-        return config != null ? config.getCullingSweepPeriod() : 60L;
+        return config != null ? config.getCullingSweepPeriod() : 200L;
     }
 }
@@ -37,6 +37,10 @@ public final class HologramId {
         return new HologramId(playerId, world.getName(), chunkX, chunkZ, side);
     }
     
+    public static HologramId create(UUID playerId, String worldName, int chunkX, int chunkZ, HologramLocationUtils.WallSide side) {
+        return new HologramId(playerId, worldName, chunkX, chunkZ, side);
+    }
+    
     /**
      * Parse a hologram ID string back into a HologramId object.
      * Format: chunklock:{UUID}:{worldName}:{chunkX}:{chunkZ}:{side}
@@ -0,0 +1,234 @@
+package me.chunklock.hologram.core;
+
+import me.chunklock.util.math.LatencyStats;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs hologram provider operations (spawns, despawns, content updates) within a per-tick
+ * budget, so a teleport or world join that changes dozens of holograms spreads the entity work
+ * over several ticks instead of doing it all at once.
+ *
+ * Operations are coalesced per hologram so only the latest intent runs: a spawn or despawn
+ * replaces whatever was pending, and an update replaces a pending update, runs right after a
+ * pending spawn, and is dropped behind a pending despawn. Each tick despawns go first, since
+ * they only shed work, then spawns and updates nearest to their viewer first, until either the
+ * operation cap or the nanosecond budget is reached. At least one operation runs every tick so
+ * the backlog always drains.
+ *
+ * Main thread only.
+ */
+public final class HologramOpScheduler {
+
+    public enum OpType { DESPAWN, SPAWN, UPDATE }
+
+    private static final Comparator<Op> ORDER = Comparator
+        .comparingInt((Op op) -> op.type == OpType.DESPAWN ? 0 : 1)
+        .thenComparingDouble(op -> op.priority)
+        .thenComparingLong(op -> op.sequence);
+
+    private static final class Op {
+        final HologramId id;
+        final OpType type;
+        final double priority;
+        final long submittedAt;
+        final long sequence;
+        final Runnable action;
+        boolean cancelled;
+
+        Op(HologramId id, OpType type, double priority, long submittedAt, long sequence, Runnable action) {
+            this.id = id;
+            this.type = type;
+            this.priority = priority;
+            this.submittedAt = submittedAt;
+            this.sequence = sequence;
+            this.action = action;
+        }
+    }
+
+    private final Logger logger;
+    private final LongSupplier clock;
+    private final Map<HologramId, Op> pending = new HashMap<>();
+    // May hold cancelled operations; they are skipped when polled
+    private final PriorityQueue<Op> queue = new PriorityQueue<>(ORDER);
+
+    private int maxOpsPerTick;
+    private long budgetNanos;
+    private long sequence;
+
+    // Metrics
+    private final LatencyStats applyLatency = new LatencyStats(512);
+    private final LatencyStats tickTime = new LatencyStats(200);
+    private final long[] executed = new long[OpType.values().length];
+    private long submitted;
+    private long coalesced;
+    private long dropped;
+    private long failures;
+    private long budgetExhaustedTicks;
+
+    public HologramOpScheduler(Logger logger, int maxOpsPerTick, long budgetNanos) {
+        this(logger, maxOpsPerTick, budgetNanos, System::nanoTime);
+    }
+
+    HologramOpScheduler(Logger logger, int maxOpsPerTick, long budgetNanos, LongSupplier clock) {
+        this.logger = logger;
+        this.clock = clock;
+        configure(maxOpsPerTick, budgetNanos);
+    }
+
+    public void configure(int maxOpsPerTick, long budgetNanos) {
+        this.maxOpsPerTick = Math.max(1, maxOpsPerTick);
+        this.budgetNanos = Math.max(1L, budgetNanos);
+    }
+
+    /**
+     * Queues an operation for a hologram, coalescing with any operation still pending for it.
+     *
+     * @param priority lower runs first among spawns and updates, e.g. squared distance to the viewer
+     */
+    public void submit(HologramId id, OpType type, double priority, Runnable action) {
+        submitted++;
+        Op previous = pending.get(id);
+        long submittedAt = clock.getAsLong();
+        OpType mergedType = type;
+        Runnable mergedAction = action;
+
+        if (previous != null) {
+            coalesced++;
+            if (type == OpType.UPDATE && previous.type == OpType.DESPAWN) {
+                dropped++;
+                return;
+            }
+            if (type == OpType.UPDATE && previous.type == OpType.SPAWN) {
+                Runnable spawn = previous.action;
+                mergedType = OpType.SPAWN;
+                mergedAction = () -> {
+                    spawn.run();
+                    action.run();
+                };
+            }
+            // The hologram has been waiting since the first request
+            submittedAt = previous.submittedAt;
+            previous.cancelled = true;
+        }
+
+        Op op = new Op(id, mergedType, priority, submittedAt, sequence++, mergedAction);
+        pending.put(id, op);
+        queue.add(op);
+        if (queue.size() > pending.size() * 2 + 64) {
+            compact();
+        }
+    }
+
+    /**
+     * Drops the pending operation for a hologram, if any.
+     */
+    public void cancel(HologramId id) {
+        Op op = pending.remove(id);
+        if (op != null) {
+            op.cancelled = true;
+        }
+    }
+
+    /**
+     * Drops all pending operations for a player's holograms.
+     */
+    public void cancelPlayer(UUID playerId) {
+        pending.values().removeIf(op -> {
+            if (!op.id.getPlayerId().equals(playerId)) {
+                return false;
+            }
+            op.cancelled = true;
+            return true;
+        });
+    }
+
+    public boolean isPending(HologramId id) {
+        return pending.containsKey(id);
+    }
+
+    /**
+     * Runs pending operations in order until the operation cap or time budget is reached.
+     *
+     * @return operations run
+     */
+    public int tick() {
+        if (pending.isEmpty()) return 0;
+
+        long start = clock.getAsLong();
+        long deadline = start + budgetNanos;
+        int ran = 0;
+
+        while (!pending.isEmpty()) {
+            if (ran >= maxOpsPerTick || (ran > 0 && clock.getAsLong() - deadline >= 0)) {
+                budgetExhaustedTicks++;
+                break;
+            }
+
+            Op op = queue.poll();
+            if (op == null) break;
+            if (op.cancelled) continue;
+            pending.remove(op.id);
+
+            try {
+                op.action.run();
+            } catch (Exception e) {
+                failures++;
+                logger.log(Level.WARNING, "Error applying hologram " + op.type + " for " + op.id, e);
+            }
+            applyLatency.record(clock.getAsLong() - op.submittedAt);
+            executed[op.type.ordinal()]++;
+            ran++;
+        }
+
+        tickTime.record(clock.getAsLong() - start);
+        return ran;
+    }
+
+    /**
+     * Operations waiting to run.
+     */
+    public int getBacklog() {
+        return pending.size();
+    }
+
+    public LatencyStats getApplyLatency() {
+        return applyLatency;
+    }
+
+    public void clear() {
+        pending.clear();
+        queue.clear();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("backlog", pending.size());
+        stats.put("submitted", submitted);
+        stats.put("coalesced", coalesced);
+        stats.put("droppedUpdates", dropped);
+        stats.put("spawns", executed[OpType.SPAWN.ordinal()]);
+        stats.put("despawns", executed[OpType.DESPAWN.ordinal()]);
+        stats.put("updates", executed[OpType.UPDATE.ordinal()]);
+        stats.put("failures", failures);
+        stats.put("overBudgetTicks", budgetExhaustedTicks);
+        stats.put("maxOpsPerTick", maxOpsPerTick);
+        stats.put("budgetNanos", budgetNanos);
+        stats.put("applyLatency", applyLatency.toString());
+        stats.put("applyLatencyP99Ms", applyLatency.getPercentileNanos(99) / 1_000_000.0);
+        stats.put("tickTime", tickTime.toString());
+        return stats;
+    }
+
+    private void compact() {
+        queue.clear();
+        queue.addAll(pending.values());
+    }
+}
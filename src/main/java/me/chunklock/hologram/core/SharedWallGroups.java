@@ -0,0 +1,191 @@
+package me.chunklock.hologram.core;
+
+import me.chunklock.hologram.util.HologramLocationUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bookkeeping for wall holograms shared between viewers.
+ *
+ * A wall hologram is split into two sections rendered at the same spot: the shared section
+ * holds every line except the progress line, and the progress section holds only the progress
+ * line, with the other lines blank so it lines up. All viewers whose section renders the same
+ * text on the same wall share one display, so a wall seen by many players with the same cost
+ * needs one shared display plus one per distinct progress line instead of one per player.
+ *
+ * Each viewer's hologram is a handle (its {@link HologramId} string, one per player, wall and
+ * side). Assigning and releasing handles returns a {@link Transition} naming the sections to
+ * spawn, show, hide or remove, so entities are only touched when membership changes. Not
+ * thread-safe.
+ */
+public final class SharedWallGroups {
+
+    /**
+     * One side of one chunk.
+     */
+    public record WallKey(String worldName, int chunkX, int chunkZ, HologramLocationUtils.WallSide side) {
+        public static WallKey of(HologramId hologramId) {
+            return new WallKey(hologramId.getWorldName(), hologramId.getChunkX(), hologramId.getChunkZ(),
+                hologramId.getSide());
+        }
+    }
+
+    /**
+     * A display on a wall, identified by the text it shows.
+     */
+    public record Section(WallKey wall, String text) {}
+
+    /**
+     * Entity work for one viewer after a change. Spawned sections are shown to all their
+     * viewers at once; shown and hidden sections concern only the changed viewer; removed
+     * sections have no viewers left.
+     */
+    public record Transition(List<Section> spawn, List<Section> show, List<Section> hide, List<Section> remove) {
+        static final Transition NONE = new Transition(List.of(), List.of(), List.of(), List.of());
+
+        public boolean isEmpty() {
+            return spawn.isEmpty() && show.isEmpty() && hide.isEmpty() && remove.isEmpty();
+        }
+    }
+
+    private record Membership(UUID viewerId, Section shared, Section progress) {}
+
+    private final Map<String, Membership> memberships = new HashMap<>();
+    private final Map<Section, Set<UUID>> viewers = new HashMap<>();
+
+    /**
+     * Points a handle at the sections for the given lines, moving it off its previous sections.
+     *
+     * @param progressIndex index of the per-viewer line; without such a line there is no progress section
+     */
+    public Transition assign(String handleId, UUID viewerId, WallKey wall, List<String> lines, int progressIndex) {
+        Section shared = new Section(wall, sharedText(lines, progressIndex));
+        String progressLine = progressIndex < lines.size() ? lines.get(progressIndex) : null;
+        Section progress = progressLine == null || progressLine.isEmpty()
+            ? null : new Section(wall, progressText(lines, progressIndex));
+
+        Membership current = new Membership(viewerId, shared, progress);
+        Membership previous = memberships.put(handleId, current);
+        if (current.equals(previous)) {
+            return Transition.NONE;
+        }
+
+        Transition transition = newTransition();
+        boolean sameViewer = previous != null && previous.viewerId().equals(viewerId);
+        if (!sameViewer || !shared.equals(previous.shared())) {
+            if (previous != null) leave(previous.shared(), previous.viewerId(), transition);
+            join(shared, viewerId, transition);
+        }
+        if (!sameViewer || !Objects.equals(progress, previous.progress())) {
+            if (previous != null) leave(previous.progress(), previous.viewerId(), transition);
+            join(progress, viewerId, transition);
+        }
+        return transition;
+    }
+
+    /**
+     * Takes a handle off its sections.
+     */
+    public Transition release(String handleId) {
+        Membership membership = memberships.remove(handleId);
+        if (membership == null) {
+            return Transition.NONE;
+        }
+        Transition transition = newTransition();
+        leave(membership.shared(), membership.viewerId(), transition);
+        leave(membership.progress(), membership.viewerId(), transition);
+        return transition;
+    }
+
+    /**
+     * Sections a handle currently shows: the shared section, then the progress section if any.
+     */
+    public List<Section> getSections(String handleId) {
+        Membership membership = memberships.get(handleId);
+        if (membership == null) {
+            return List.of();
+        }
+        return membership.progress() != null
+            ? List.of(membership.shared(), membership.progress())
+            : List.of(membership.shared());
+    }
+
+    public Set<UUID> getViewers(Section section) {
+        Set<UUID> sectionViewers = viewers.get(section);
+        return sectionViewers != null ? Collections.unmodifiableSet(sectionViewers) : Set.of();
+    }
+
+    public int getHandleCount() {
+        return memberships.size();
+    }
+
+    public int getSectionCount() {
+        return viewers.size();
+    }
+
+    public void clear() {
+        memberships.clear();
+        viewers.clear();
+    }
+
+    /**
+     * The lines with the progress line blanked.
+     */
+    public static String sharedText(List<String> lines, int progressIndex) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) text.append('\n');
+            if (i != progressIndex) text.append(lines.get(i));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Only the progress line, with blank lines around it so it renders at the same height.
+     */
+    public static String progressText(List<String> lines, int progressIndex) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) text.append('\n');
+            if (i == progressIndex) text.append(lines.get(i));
+        }
+        return text.toString();
+    }
+
+    private static Transition newTransition() {
+        return new Transition(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    private void join(Section section, UUID viewerId, Transition transition) {
+        if (section == null) return;
+        Set<UUID> sectionViewers = viewers.get(section);
+        if (sectionViewers == null) {
+            sectionViewers = new HashSet<>();
+            sectionViewers.add(viewerId);
+            viewers.put(section, sectionViewers);
+            transition.spawn().add(section);
+        } else if (sectionViewers.add(viewerId)) {
+            transition.show().add(section);
+        }
+    }
+
+    private void leave(Section section, UUID viewerId, Transition transition) {
+        if (section == null) return;
+        Set<UUID> sectionViewers = viewers.get(section);
+        if (sectionViewers == null || !sectionViewers.remove(viewerId)) return;
+        if (sectionViewers.isEmpty()) {
+            viewers.remove(section);
+            transition.remove().add(section);
+        } else {
+            transition.hide().add(section);
+        }
+    }
+}
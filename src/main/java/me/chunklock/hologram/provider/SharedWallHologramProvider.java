@@ -0,0 +1,283 @@
+package me.chunklock.hologram.provider;
+
+import me.chunklock.ChunklockPlugin;
+import me.chunklock.hologram.api.Hologram;
+import me.chunklock.hologram.api.HologramProvider;
+import me.chunklock.hologram.core.HologramData;
+import me.chunklock.hologram.core.HologramId;
+import me.chunklock.hologram.core.SharedWallGroups;
+import me.chunklock.hologram.core.SharedWallGroups.Section;
+import me.chunklock.hologram.core.SharedWallGroups.Transition;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Native hologram provider that shares one text display per frontier wall between all its
+ * viewers.
+ *
+ * The service still asks for one hologram per player and wall; each is a lightweight handle
+ * onto {@link SharedWallGroups} sections. The static lines (title, cost, hint) are one display
+ * shown to every viewer with the same cost, and the progress line is a second display at the
+ * same spot shared by viewers whose progress reads the same, so a wall costs one entity plus
+ * one per distinct progress line however many players look at it. Visibility is per player
+ * through Paper's entity visibility: a (re)spawned display is shown to all its viewers at once
+ * and a display whose last viewer leaves is removed rather than hidden. Main thread only.
+ */
+public final class SharedWallHologramProvider implements HologramProvider {
+
+    private static final String PROVIDER_NAME = "Native (shared walls)";
+
+    private final ChunklockPlugin plugin;
+    private final int progressLine;
+    private final SharedWallGroups groups = new SharedWallGroups();
+    private final Map<Section, TextDisplay> displays = new HashMap<>();
+    private final Map<String, WallViewerHologram> handles = new HashMap<>();
+
+    // Metrics
+    private long displaysSpawned;
+    private long displaysRemoved;
+    private long visibilityChanges;
+    private long failed;
+
+    /**
+     * @param progressLine index of the line that differs between viewers
+     */
+    public SharedWallHologramProvider(int progressLine) {
+        this.plugin = ChunklockPlugin.getInstance();
+        this.progressLine = progressLine;
+        plugin.getLogger().info("✅ Native TextDisplay hologram provider initialized (shared walls)");
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Optional<Hologram> createHologram(HologramData hologramData) {
+        HologramId hologramId = hologramData.getId();
+        World world = hologramData.getLocation().getWorld();
+        if (world == null || hologramId.getPlayerId() == null) {
+            failed++;
+            return Optional.empty();
+        }
+
+        WallViewerHologram handle = new WallViewerHologram(hologramId.getId(), hologramId.getPlayerId(), hologramData);
+        if (handles.put(handle.id, handle) != null) {
+            // Recreated without being removed first, e.g. after its display unloaded
+            apply(groups.release(handle.id), handle.viewerId, null);
+        }
+        apply(assign(handle, hologramData), handle.viewerId, hologramData);
+        if (!handle.isValid()) {
+            handles.remove(handle.id);
+            apply(groups.release(handle.id), handle.viewerId, null);
+            failed++;
+            return Optional.empty();
+        }
+        return Optional.of(handle);
+    }
+
+    @Override
+    public boolean removeHologram(Hologram hologram) {
+        if (!(hologram instanceof WallViewerHologram handle) || handles.remove(handle.id) == null) {
+            return false;
+        }
+        apply(groups.release(handle.id), handle.viewerId, null);
+        return true;
+    }
+
+    @Override
+    public boolean updateHologram(Hologram hologram, HologramData newData) {
+        if (!(hologram instanceof WallViewerHologram handle) || !handles.containsKey(handle.id)) {
+            return false;
+        }
+        handle.data = newData;
+        apply(assign(handle, newData), handle.viewerId, newData);
+        // A section that unloaded with its chunk makes the service recreate the handle
+        return handle.isValid();
+    }
+
+    @Override
+    public void cleanup() {
+        for (TextDisplay display : displays.values()) {
+            display.remove();
+        }
+        displays.clear();
+        handles.clear();
+        groups.clear();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new ConcurrentHashMap<>();
+        stats.put("provider", PROVIDER_NAME);
+        stats.put("available", true);
+        stats.put("viewerHolograms", handles.size());
+        stats.put("sharedDisplays", displays.size());
+        stats.put("displaysSpawned", displaysSpawned);
+        stats.put("displaysRemoved", displaysRemoved);
+        stats.put("visibilityChanges", visibilityChanges);
+        stats.put("failed", failed);
+        return stats;
+    }
+
+    private Transition assign(WallViewerHologram handle, HologramData data) {
+        return groups.assign(handle.id, handle.viewerId, SharedWallGroups.WallKey.of(data.getId()),
+            data.getLines() != null ? data.getLines() : List.of(), progressLine);
+    }
+
+    /**
+     * Carries out a transition for one viewer. Sections whose display went away with its chunk
+     * are spawned again for all their viewers.
+     */
+    private void apply(Transition transition, UUID viewerId, HologramData data) {
+        if (transition.isEmpty()) return;
+        Player viewer = Bukkit.getPlayer(viewerId);
+
+        for (Section section : transition.remove()) {
+            TextDisplay display = displays.remove(section);
+            if (display != null) {
+                display.remove();
+                displaysRemoved++;
+            }
+        }
+        for (Section section : transition.hide()) {
+            TextDisplay display = displays.get(section);
+            if (display != null && viewer != null) {
+                viewer.hideEntity(plugin, display);
+                visibilityChanges++;
+            }
+        }
+        for (Section section : transition.show()) {
+            TextDisplay display = displays.get(section);
+            if (display == null || !display.isValid()) {
+                spawn(section, data);
+            } else if (viewer != null) {
+                viewer.showEntity(plugin, display);
+                visibilityChanges++;
+            }
+        }
+        for (Section section : transition.spawn()) {
+            spawn(section, data);
+        }
+    }
+
+    private void spawn(Section section, HologramData data) {
+        if (data == null) return;
+        TextDisplay previous = displays.remove(section);
+        if (previous != null) {
+            previous.remove();
+        }
+
+        try {
+            TextDisplay display = TextDisplayHologramProvider.spawnHidden(data.getLocation().getWorld(), data,
+                TextDisplayHologramProvider.toComponent(section.text()));
+            displays.put(section, display);
+            displaysSpawned++;
+            for (UUID viewerId : groups.getViewers(section)) {
+                Player viewer = Bukkit.getPlayer(viewerId);
+                if (viewer != null && viewer.isOnline()) {
+                    viewer.showEntity(plugin, display);
+                    visibilityChanges++;
+                }
+            }
+        } catch (Exception e) {
+            failed++;
+            plugin.getLogger().log(Level.WARNING, "Failed to spawn shared wall hologram " + data.getId(), e);
+        }
+    }
+
+    /**
+     * One player's view of a wall: the sections it is assigned to.
+     */
+    private final class WallViewerHologram implements Hologram {
+        private final String id;
+        private final UUID viewerId;
+        private HologramData data;
+        private volatile boolean visible = true;
+
+        WallViewerHologram(String id, UUID viewerId, HologramData data) {
+            this.id = id;
+            this.viewerId = viewerId;
+            this.data = data;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Location getLocation() {
+            return data.getLocation().clone();
+        }
+
+        @Override
+        public void setVisible(boolean visible) {
+            this.visible = visible;
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer == null) {
+                return;
+            }
+            for (Section section : groups.getSections(id)) {
+                TextDisplay display = displays.get(section);
+                if (display == null) continue;
+                if (visible) {
+                    viewer.showEntity(plugin, display);
+                } else {
+                    viewer.hideEntity(plugin, display);
+                }
+                visibilityChanges++;
+            }
+        }
+
+        @Override
+        public boolean isVisible() {
+            return visible;
+        }
+
+        @Override
+        public void updateText(List<String> lines) {
+            if (!handles.containsKey(id)) return;
+            data = new HologramData(data.getId(), data.getLocation(), lines, data.getViewDistance(),
+                data.getYaw(), data.getPitch(), false);
+            apply(assign(this, data), viewerId, data);
+        }
+
+        @Override
+        public Object getWrappedHologram() {
+            List<Section> sections = groups.getSections(id);
+            return sections.isEmpty() ? null : displays.get(sections.get(0));
+        }
+
+        @Override
+        public boolean isValid() {
+            List<Section> sections = groups.getSections(id);
+            if (sections.isEmpty()) return false;
+            for (Section section : sections) {
+                TextDisplay display = displays.get(section);
+                if (display == null || !display.isValid()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package me.chunklock.hologram.provider;
+
+import me.chunklock.ChunklockPlugin;
+import me.chunklock.hologram.api.Hologram;
+import me.chunklock.hologram.api.HologramProvider;
+import me.chunklock.hologram.core.HologramData;
+import me.chunklock.hologram.core.HologramId;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.TextDisplay;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Built-in hologram provider using vanilla {@link TextDisplay} entities, no external plugin needed.
+ *
+ * Each hologram is one non-persistent display entity hidden from everyone by default and shown
+ * only to the player in its {@link HologramId}, through Paper's per-player entity visibility.
+ * Spawning costs the viewer a spawn and a metadata packet, a text update a single metadata
+ * packet; nobody else is sent anything. Displays are never saved with the chunk, so nothing
+ * is left behind after a crash; if the chunk unloads the hologram becomes invalid and is
+ * recreated by the service.
+ */
+public final class TextDisplayHologramProvider implements HologramProvider {
+
+    private static final String PROVIDER_NAME = "Native";
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+
+    private final ChunklockPlugin plugin;
+    private final Map<String, NativeHologram> managedHolograms = new ConcurrentHashMap<>();
+
+    // Metrics
+    private long created;
+    private long updated;
+    private long removed;
+    private long failed;
+
+    public TextDisplayHologramProvider() {
+        this.plugin = ChunklockPlugin.getInstance();
+        plugin.getLogger().info("✅ Native TextDisplay hologram provider initialized");
+    }
+
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public Optional<Hologram> createHologram(HologramData hologramData) {
+        Location location = hologramData.getLocation();
+        World world = location.getWorld();
+        UUID viewerId = hologramData.getId().getPlayerId();
+        if (world == null || viewerId == null) {
+            failed++;
+            return Optional.empty();
+        }
+
+        try {
+            TextDisplay display = spawnHidden(world, hologramData, toComponent(hologramData.getLines()));
+
+            NativeHologram hologram = new NativeHologram(plugin, hologramData.getId().getId(), display, viewerId);
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer != null && viewer.isOnline()) {
+                viewer.showEntity(plugin, display);
+            }
+            managedHolograms.put(hologram.getId(), hologram);
+            created++;
+            return Optional.of(hologram);
+
+        } catch (Exception e) {
+            failed++;
+            plugin.getLogger().log(Level.WARNING, "Failed to spawn text display hologram " + hologramData.getId(), e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean removeHologram(Hologram hologram) {
+        if (!(hologram instanceof NativeHologram nativeHologram)) {
+            return false;
+        }
+        managedHolograms.remove(nativeHologram.getId());
+        nativeHologram.display.remove();
+        removed++;
+        return true;
+    }
+
+    @Override
+    public boolean updateHologram(Hologram hologram, HologramData newData) {
+        if (!(hologram instanceof NativeHologram nativeHologram) || !nativeHologram.isValid()) {
+            // Unloaded with its chunk: let the service recreate it
+            return false;
+        }
+        nativeHologram.updateText(newData.getLines());
+        updated++;
+        return true;
+    }
+
+    @Override
+    public void cleanup() {
+        for (NativeHologram hologram : managedHolograms.values()) {
+            hologram.display.remove();
+        }
+        managedHolograms.clear();
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new ConcurrentHashMap<>();
+        stats.put("provider", PROVIDER_NAME);
+        stats.put("available", true);
+        stats.put("managedHolograms", managedHolograms.size());
+        stats.put("created", created);
+        stats.put("updated", updated);
+        stats.put("removed", removed);
+        stats.put("failed", failed);
+        return stats;
+    }
+
+    /**
+     * Spawns a configured display that nobody can see until shown to them.
+     */
+    static TextDisplay spawnHidden(World world, HologramData hologramData, Component text) {
+        return world.spawn(hologramData.getLocation(), TextDisplay.class, entity -> {
+            // Configured before the spawn packet goes out, so nobody ever sees it unconfigured
+            entity.setVisibleByDefault(false);
+            entity.setPersistent(false);
+            entity.setBillboard(Display.Billboard.FIXED);
+            entity.setRotation(hologramData.getYaw(), hologramData.getPitch());
+            entity.setBackgroundColor(Color.fromARGB(0, 0, 0, 0));
+            entity.setShadowed(false);
+            // View range is a multiple of 64 blocks
+            entity.setViewRange((float) Math.max(0.1, hologramData.getViewDistance() / 64.0));
+            entity.text(text);
+        });
+    }
+
+    static Component toComponent(String text) {
+        return LEGACY.deserialize(text == null ? "" : text);
+    }
+
+    private static Component toComponent(List<String> lines) {
+        return toComponent(lines == null ? "" : String.join("\n", lines));
+    }
+
+    /**
+     * A text display shown to a single player.
+     */
+    private static final class NativeHologram implements Hologram {
+        private final ChunklockPlugin plugin;
+        private final String id;
+        private final TextDisplay display;
+        private final UUID viewerId;
+        private volatile boolean visible = true;
+
+        NativeHologram(ChunklockPlugin plugin, String id, TextDisplay display, UUID viewerId) {
+            this.plugin = plugin;
+            this.id = id;
+            this.display = display;
+            this.viewerId = viewerId;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Location getLocation() {
+            return display.getLocation();
+        }
+
+        @Override
+        public void setVisible(boolean visible) {
+            this.visible = visible;
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer == null) {
+                return;
+            }
+            if (visible) {
+                viewer.showEntity(plugin, display);
+            } else {
+                viewer.hideEntity(plugin, display);
+            }
+        }
+
+        @Override
+        public boolean isVisible() {
+            return visible;
+        }
+
+        @Override
+        public void updateText(List<String> lines) {
+            display.text(toComponent(lines));
+        }
+
+        @Override
+        public Object getWrappedHologram() {
+            return display;
+        }
+
+        @Override
+        public boolean isValid() {
+            return display.isValid();
+        }
+    }
+}
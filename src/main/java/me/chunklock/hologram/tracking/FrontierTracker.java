@@ -0,0 +1,240 @@
+package me.chunklock.hologram.tracking;
+
+import me.chunklock.managers.ChunkLockManager;
+import me.chunklock.util.chunk.ChunkLockMemo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hologram frontier per owner: the locked chunks next to an owner's unlocked chunks, with the
+ * wall sides that face that territory. Kept per world and updated incrementally from lock
+ * notifications, so picking hologram candidates is a range query with no lock-state lookups.
+ *
+ * Side bits are {@code 1 << WallSide.ordinal()} (north, east, south, west) on the locked chunk;
+ * the owned chunk a side faces is one step in that side's direction.
+ */
+public final class FrontierTracker implements ChunkLockManager.ChunkLockListener {
+
+    // Owner key for unlocked chunks without an owner
+    public static final UUID UNOWNED = new UUID(0L, 0L);
+
+    private static final int[] SIDE_DX = {0, 1, 0, -1};
+    private static final int[] SIDE_DZ = {-1, 0, 1, 0};
+
+    /**
+     * Receives each frontier chunk with its sides facing the owner's territory.
+     */
+    @FunctionalInterface
+    public interface FrontierVisitor {
+        void visit(int chunkX, int chunkZ, int facingSides);
+    }
+
+    private static final class WorldFrontier {
+        final Map<Long, UUID> unlocked = new HashMap<>();
+        final Map<UUID, Map<Long, Integer>> frontiers = new HashMap<>();
+    }
+
+    private final Map<String, WorldFrontier> worlds = new HashMap<>();
+    private final ChunkLockManager chunkLockManager;
+
+    /**
+     * @param chunkLockManager source for rebuilds after bulk resets; may be null if the caller rebuilds itself
+     */
+    public FrontierTracker(ChunkLockManager chunkLockManager) {
+        this.chunkLockManager = chunkLockManager;
+    }
+
+    /**
+     * Replaces the tracker with the given unlocked chunks ("world:x:z" keys mapped to owners).
+     */
+    public synchronized void rebuild(Map<String, UUID> unlockedChunkOwners) {
+        worlds.clear();
+        for (Map.Entry<String, UUID> entry : unlockedChunkOwners.entrySet()) {
+            String key = entry.getKey();
+            int second = key.lastIndexOf(':');
+            int first = second > 0 ? key.lastIndexOf(':', second - 1) : -1;
+            if (first <= 0) continue;
+            try {
+                String world = key.substring(0, first);
+                int x = Integer.parseInt(key.substring(first + 1, second));
+                int z = Integer.parseInt(key.substring(second + 1));
+                worlds.computeIfAbsent(world, w -> new WorldFrontier()).unlocked
+                    .put(ChunkLockMemo.pack(x, z), ownerKey(entry.getValue()));
+            } catch (NumberFormatException ignored) {
+            }
+        }
+
+        // Frontiers are derived once every unlocked chunk is known
+        for (WorldFrontier frontier : worlds.values()) {
+            for (Map.Entry<Long, UUID> entry : frontier.unlocked.entrySet()) {
+                long key = entry.getKey();
+                int x = (int) (key >> 32);
+                int z = (int) key;
+                for (int side = 0; side < 4; side++) {
+                    long neighbour = ChunkLockMemo.pack(x + SIDE_DX[side], z + SIDE_DZ[side]);
+                    if (!frontier.unlocked.containsKey(neighbour)) {
+                        addSide(frontier, entry.getValue(), neighbour, opposite(side));
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void onChunkLockChanged(String worldName, int chunkX, int chunkZ, boolean locked, UUID ownerId) {
+        if (locked) {
+            lock(worldName, chunkX, chunkZ);
+        } else {
+            unlock(worldName, chunkX, chunkZ, ownerId);
+        }
+    }
+
+    @Override
+    public void onLocksReset() {
+        if (chunkLockManager != null) {
+            rebuild(chunkLockManager.getUnlockedChunkOwners());
+        }
+    }
+
+    public synchronized void unlock(String worldName, int chunkX, int chunkZ, UUID ownerId) {
+        WorldFrontier frontier = worlds.computeIfAbsent(worldName, w -> new WorldFrontier());
+        long key = ChunkLockMemo.pack(chunkX, chunkZ);
+        UUID owner = ownerKey(ownerId);
+        UUID previous = frontier.unlocked.put(key, owner);
+        if (owner.equals(previous)) {
+            return;
+        }
+
+        for (int side = 0; side < 4; side++) {
+            long neighbour = ChunkLockMemo.pack(chunkX + SIDE_DX[side], chunkZ + SIDE_DZ[side]);
+            UUID neighbourOwner = frontier.unlocked.get(neighbour);
+            if (neighbourOwner != null) {
+                // No longer locked, so no longer on the neighbour's frontier
+                if (previous == null) {
+                    clearSide(frontier, neighbourOwner, key, side);
+                }
+            } else {
+                if (previous != null) {
+                    clearSide(frontier, previous, neighbour, opposite(side));
+                }
+                addSide(frontier, owner, neighbour, opposite(side));
+            }
+        }
+    }
+
+    public synchronized void lock(String worldName, int chunkX, int chunkZ) {
+        WorldFrontier frontier = worlds.get(worldName);
+        if (frontier == null) return;
+        long key = ChunkLockMemo.pack(chunkX, chunkZ);
+        UUID previous = frontier.unlocked.remove(key);
+        if (previous == null) return;
+
+        for (int side = 0; side < 4; side++) {
+            long neighbour = ChunkLockMemo.pack(chunkX + SIDE_DX[side], chunkZ + SIDE_DZ[side]);
+            UUID neighbourOwner = frontier.unlocked.get(neighbour);
+            if (neighbourOwner != null) {
+                addSide(frontier, neighbourOwner, key, side);
+            } else {
+                clearSide(frontier, previous, neighbour, opposite(side));
+            }
+        }
+        if (frontier.unlocked.isEmpty()) {
+            worlds.remove(worldName);
+        }
+    }
+
+    /**
+     * Facing-side bits of a locked chunk on an owner's frontier, or 0 if it is not on it.
+     */
+    public synchronized int getFacingSides(String worldName, UUID ownerId, int chunkX, int chunkZ) {
+        WorldFrontier frontier = worlds.get(worldName);
+        Map<Long, Integer> chunks = frontier != null ? frontier.frontiers.get(ownerKey(ownerId)) : null;
+        Integer sides = chunks != null ? chunks.get(ChunkLockMemo.pack(chunkX, chunkZ)) : null;
+        return sides != null ? sides : 0;
+    }
+
+    /**
+     * Visits an owner's frontier chunks within {@code radius} chunks (square) of the centre.
+     * Walks whichever is smaller: the query square or the owner's frontier.
+     *
+     * @return the number of frontier chunks visited
+     */
+    public synchronized int forEachFrontierInRange(String worldName, UUID ownerId, int centerX, int centerZ,
+                                                   int radius, FrontierVisitor visitor) {
+        WorldFrontier frontier = worlds.get(worldName);
+        Map<Long, Integer> chunks = frontier != null ? frontier.frontiers.get(ownerKey(ownerId)) : null;
+        if (chunks == null) return 0;
+
+        int visited = 0;
+        long side = 2L * radius + 1;
+        if (chunks.size() <= side * side) {
+            for (Map.Entry<Long, Integer> entry : chunks.entrySet()) {
+                long key = entry.getKey();
+                int x = (int) (key >> 32);
+                int z = (int) key;
+                if (Math.abs(x - centerX) <= radius && Math.abs(z - centerZ) <= radius) {
+                    visitor.visit(x, z, entry.getValue());
+                    visited++;
+                }
+            }
+        } else {
+            for (int x = centerX - radius; x <= centerX + radius; x++) {
+                for (int z = centerZ - radius; z <= centerZ + radius; z++) {
+                    Integer sides = chunks.get(ChunkLockMemo.pack(x, z));
+                    if (sides != null) {
+                        visitor.visit(x, z, sides);
+                        visited++;
+                    }
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Frontier chunks over all owners and worlds (a chunk bordering two owners counts twice).
+     */
+    public synchronized int getFrontierChunkCount() {
+        int count = 0;
+        for (WorldFrontier frontier : worlds.values()) {
+            for (Map<Long, Integer> chunks : frontier.frontiers.values()) {
+                count += chunks.size();
+            }
+        }
+        return count;
+    }
+
+    public synchronized void clear() {
+        worlds.clear();
+    }
+
+    private static void addSide(WorldFrontier frontier, UUID owner, long chunk, int side) {
+        frontier.frontiers.computeIfAbsent(owner, o -> new HashMap<>()).merge(chunk, 1 << side, (a, b) -> a | b);
+    }
+
+    private static void clearSide(WorldFrontier frontier, UUID owner, long chunk, int side) {
+        Map<Long, Integer> chunks = frontier.frontiers.get(owner);
+        if (chunks == null) return;
+        Integer sides = chunks.get(chunk);
+        if (sides == null) return;
+        int remaining = sides & ~(1 << side);
+        if (remaining != 0) {
+            chunks.put(chunk, remaining);
+        } else {
+            chunks.remove(chunk);
+            if (chunks.isEmpty()) {
+                frontier.frontiers.remove(owner);
+            }
+        }
+    }
+
+    private static UUID ownerKey(UUID ownerId) {
+        return ownerId != null ? ownerId : UNOWNED;
+    }
+
+    private static int opposite(int side) {
+        return (side + 2) & 3;
+    }
+}
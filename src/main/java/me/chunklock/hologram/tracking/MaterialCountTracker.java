@@ -0,0 +1,123 @@
+package me.chunklock.hologram.tracking;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+
+/**
+ * Per-player inventory counts for just the materials shown on that player's holograms.
+ * Counts are seeded by one inventory scan when a material is first shown, then kept current
+ * from inventory event deltas; a resync recounts every tracked material in a single pass for
+ * changes whose delta is not known (inventory clicks, drags, unlock payments).
+ *
+ * Main thread only.
+ */
+public final class MaterialCountTracker {
+
+    private final Map<UUID, Map<Material, Integer>> counts = new HashMap<>();
+
+    /**
+     * Tracked count of a material, starting to track it from {@code fullCount} if needed.
+     */
+    public int track(UUID playerId, Material material, IntSupplier fullCount) {
+        Map<Material, Integer> playerCounts = counts.computeIfAbsent(playerId, id -> new EnumMap<>(Material.class));
+        Integer count = playerCounts.get(material);
+        if (count == null) {
+            count = fullCount.getAsInt();
+            playerCounts.put(material, count);
+        }
+        return count;
+    }
+
+    /**
+     * Applies an inventory change to a tracked material.
+     *
+     * @return true if the material is tracked and its count changed
+     */
+    public boolean applyDelta(UUID playerId, Material material, int delta) {
+        Map<Material, Integer> playerCounts = counts.get(playerId);
+        Integer count = playerCounts != null ? playerCounts.get(material) : null;
+        if (count == null || delta == 0) {
+            return false;
+        }
+        int updated = Math.max(0, count + delta);
+        playerCounts.put(material, updated);
+        return updated != count;
+    }
+
+    /**
+     * Recounts every tracked material from the inventory contents in one pass.
+     *
+     * @return the tracked materials whose count changed
+     */
+    public Set<Material> resync(UUID playerId, ItemStack[] contents) {
+        Map<Material, Integer> playerCounts = counts.get(playerId);
+        if (playerCounts == null || playerCounts.isEmpty()) {
+            return EnumSet.noneOf(Material.class);
+        }
+
+        Map<Material, Integer> recounted = new EnumMap<>(Material.class);
+        for (ItemStack item : contents) {
+            if (item != null && playerCounts.containsKey(item.getType())) {
+                recounted.merge(item.getType(), item.getAmount(), Integer::sum);
+            }
+        }
+
+        Set<Material> changed = EnumSet.noneOf(Material.class);
+        for (Map.Entry<Material, Integer> entry : playerCounts.entrySet()) {
+            int count = recounted.getOrDefault(entry.getKey(), 0);
+            if (count != entry.getValue()) {
+                entry.setValue(count);
+                changed.add(entry.getKey());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Stops tracking materials no longer shown to the player.
+     */
+    public void retain(UUID playerId, Set<Material> shown) {
+        Map<Material, Integer> playerCounts = counts.get(playerId);
+        if (playerCounts == null) return;
+        playerCounts.keySet().retainAll(shown);
+        if (playerCounts.isEmpty()) {
+            counts.remove(playerId);
+        }
+    }
+
+    public boolean isTracking(UUID playerId, Material material) {
+        Map<Material, Integer> playerCounts = counts.get(playerId);
+        return playerCounts != null && playerCounts.containsKey(material);
+    }
+
+    public boolean isTracking(UUID playerId) {
+        return counts.containsKey(playerId);
+    }
+
+    public void remove(UUID playerId) {
+        counts.remove(playerId);
+    }
+
+    public void clear() {
+        counts.clear();
+    }
+
+    /**
+     * Tracked (player, material) pairs.
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Material, Integer> playerCounts : counts.values()) {
+            size += playerCounts.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,165 @@
+package me.chunklock.hologram.util;
+
+import me.chunklock.config.LanguageKeys;
+import me.chunklock.util.message.MessageUtil;
+import org.bukkit.Material;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Renders locked-chunk hologram lines from templates compiled once per instance, with the
+ * rendered lines cached per displayed cost.
+ *
+ * Everything but the player's item count depends only on the cost, and many players look at
+ * chunks with the same cost, so a cost's lines are built once and a render is a cache lookup
+ * plus joining the count into the status line. Create a new instance after a language reload.
+ * Not thread-safe; used from the main thread.
+ */
+public final class HologramLineRenderer {
+
+    public static final int DEFAULT_CACHE_SIZE = 256;
+    /** Index of the status line, the only line that differs between viewers of the same cost. */
+    public static final int PROGRESS_LINE = 4;
+
+    private final LineTemplate lockedTitle;
+    private final LineTemplate materialLine;
+    private final LineTemplate statusHave;
+    private final LineTemplate statusMissing;
+    private final LineTemplate clickToUnlock;
+    private final LineTemplate costLine;
+    private final LineTemplate canAfford;
+    private final LineTemplate cannotAfford;
+
+    private final Map<MaterialCostKey, MaterialCostLines> materialCache;
+    private final Map<String, MoneyCostLines> moneyCache;
+
+    // Metrics
+    private long hits;
+    private long misses;
+
+    private record MaterialCostKey(Material material, int requiredCount) {}
+
+    /**
+     * Lines of one material cost, with only the player's count left to fill in.
+     */
+    private record MaterialCostLines(String title, String materialLine, LineTemplate have,
+                                     LineTemplate missing, String click) {}
+
+    private record MoneyCostLines(List<String> affordable, List<String> unaffordable) {}
+
+    /**
+     * @param messages raw language message per key, placeholders not yet replaced
+     * @param cacheSize costs kept per cache, least recently used evicted first
+     */
+    public HologramLineRenderer(Function<String, String> messages, int cacheSize) {
+        this.lockedTitle = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_LOCKED_TITLE));
+        this.materialLine = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_MATERIAL_LINE));
+        this.statusHave = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_STATUS_HAVE));
+        this.statusMissing = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_STATUS_MISSING));
+        this.clickToUnlock = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_CLICK_TO_UNLOCK));
+        this.costLine = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_COST_LINE));
+        this.canAfford = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_CAN_AFFORD));
+        this.cannotAfford = LineTemplate.compile(messages.apply(LanguageKeys.HOLOGRAM_CANNOT_AFFORD));
+        this.materialCache = boundedMap(cacheSize);
+        this.moneyCache = boundedMap(cacheSize);
+    }
+
+    /**
+     * Renderer over the current language messages.
+     */
+    public static HologramLineRenderer fromLanguage() {
+        return new HologramLineRenderer(MessageUtil::getMessage, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Lines for a material cost, matching {@link HologramTextUtils#createChunkHologramLines}.
+     */
+    public List<String> renderMaterialLines(Material material, int requiredCount, boolean hasItems, int playerCount) {
+        MaterialCostKey key = new MaterialCostKey(material, requiredCount);
+        MaterialCostLines lines = materialCache.get(key);
+        if (lines != null) {
+            hits++;
+        } else {
+            misses++;
+            lines = compileMaterialCost(material, requiredCount);
+            materialCache.put(key, lines);
+        }
+
+        LineTemplate status = hasItems ? lines.have() : lines.missing();
+        return List.of(
+            lines.title(),
+            "",
+            lines.materialLine(),
+            "",
+            status.render("player_count", String.valueOf(playerCount)),
+            lines.click()
+        );
+    }
+
+    /**
+     * Lines for a money cost, matching {@link HologramTextUtils#createChunkHologramLinesForMoney}.
+     * The returned list is shared and must not be modified.
+     */
+    public List<String> renderMoneyLines(String formattedCost, boolean affordable) {
+        MoneyCostLines lines = moneyCache.get(formattedCost);
+        if (lines != null) {
+            hits++;
+        } else {
+            misses++;
+            String title = lockedTitle.render();
+            String cost = costLine.bind("cost", formattedCost).render();
+            String click = clickToUnlock.render();
+            lines = new MoneyCostLines(
+                List.of(title, "", cost, "", canAfford.render(), click),
+                List.of(title, "", cost, "", cannotAfford.render(), click));
+            moneyCache.put(formattedCost, lines);
+        }
+        return affordable ? lines.affordable() : lines.unaffordable();
+    }
+
+    public int getCachedCosts() {
+        return materialCache.size() + moneyCache.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public void clearCache() {
+        materialCache.clear();
+        moneyCache.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "cachedCosts=" + getCachedCosts() + " hits=" + hits + " misses=" + misses;
+    }
+
+    private MaterialCostLines compileMaterialCost(Material material, int requiredCount) {
+        String materialName = HologramTextUtils.formatMaterialName(material);
+        String required = String.valueOf(requiredCount);
+        return new MaterialCostLines(
+            lockedTitle.render(),
+            materialLine.bind("material", materialName).render(),
+            statusHave.bind("material", materialName).bind("required_count", required),
+            statusMissing.bind("material", materialName).bind("required_count", required),
+            clickToUnlock.render());
+    }
+
+    private static <K, V> Map<K, V> boundedMap(int capacity) {
+        int limit = Math.max(1, capacity);
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > limit;
+            }
+        };
+    }
+}
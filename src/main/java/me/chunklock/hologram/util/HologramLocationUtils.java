@@ -1,6 +1,7 @@
 package me.chunklock.hologram.util;
 
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Block;
@@ -56,53 +57,59 @@ public final class HologramLocationUtils {
                                                        double groundClearance, int minHeight) {
         World world = chunk.getWorld();
         
-        // Chunk boundaries - these are the actual chunk coordinate boundaries
-        int chunkMinX = chunk.getX() * 16;      // X coordinate of west edge
-        int chunkMaxX = chunkMinX + 15;         // X coordinate of east edge  
-        int chunkMinZ = chunk.getZ() * 16;      // Z coordinate of north edge
-        int chunkMaxZ = chunkMinZ + 15;         // Z coordinate of south edge
-
-        double x, z;
-        switch (side) {
-            case NORTH -> {
-                // North wall: at the north edge of chunk (minimal Z)
-                x = chunkMinX + centerOffset;       // Position along chunk width (X axis)
-                z = chunkMinZ - wallOffset;         // Just outside north edge (negative Z direction)
-            }
-            case SOUTH -> {
-                // South wall: at the south edge of chunk (maximal Z)  
-                x = chunkMinX + centerOffset;       // Position along chunk width (X axis)
-                z = chunkMaxZ + 1 + wallOffset;     // Just outside south edge (positive Z direction)
-            }
-            case EAST -> {
-                // East wall: at the east edge of chunk (maximal X)
-                x = chunkMaxX + 1 + wallOffset;     // Just outside east edge (positive X direction)
-                z = chunkMinZ + centerOffset;       // Position along chunk depth (Z axis)
-            }
-            case WEST -> {
-                // West wall: at the west edge of chunk (minimal X)
-                x = chunkMinX - wallOffset;         // Just outside west edge (negative X direction)
-                z = chunkMinZ + centerOffset;       // Position along chunk depth (Z axis)
-            }
-            default -> throw new IllegalArgumentException("Unknown wall side: " + side);
-        }
+        double x = getWallX(chunk.getX(), side, wallOffset, centerOffset);
+        double z = getWallZ(chunk.getZ(), side, wallOffset, centerOffset);
 
         // Find ground level at the hologram location
         int groundY = getHighestSolidY(world, (int) Math.floor(x), (int) Math.floor(z));
-        int y = groundY + (int) Math.ceil(groundClearance);
-        
-        // Ensure minimum height
-        if (y < minHeight) {
-            y = minHeight;
-        }
+        int y = getWallAnchorY(groundY, groundClearance, minHeight);
+
+        return createWallLocation(world, chunk.getX(), chunk.getZ(), side, y, wallOffset, centerOffset);
+    }
 
-        Location location = new Location(world, x, y, z);
+    /**
+     * Hologram height above the given ground level, kept at or above the minimum height.
+     */
+    public static int getWallAnchorY(int groundY, double groundClearance, int minHeight) {
+        return Math.max(minHeight, groundY + (int) Math.ceil(groundClearance));
+    }
+
+    /**
+     * Wall hologram location for an already known height.
+     */
+    public static Location createWallLocation(World world, int chunkX, int chunkZ, WallSide side, int y,
+                                              double wallOffset, double centerOffset) {
+        Location location = new Location(world, getWallX(chunkX, side, wallOffset, centerOffset), y,
+            getWallZ(chunkZ, side, wallOffset, centerOffset));
         location.setYaw(getWallFacingYaw(side));
         location.setPitch(0.0f);
-
         return location;
     }
 
+    /**
+     * X coordinate of a wall hologram, without touching the world.
+     */
+    public static double getWallX(int chunkX, WallSide side, double wallOffset, double centerOffset) {
+        int chunkMinX = chunkX * 16;            // X coordinate of west edge
+        return switch (side) {
+            case NORTH, SOUTH -> chunkMinX + centerOffset;   // Position along chunk width (X axis)
+            case EAST -> chunkMinX + 16 + wallOffset;        // Just outside east edge (positive X direction)
+            case WEST -> chunkMinX - wallOffset;             // Just outside west edge (negative X direction)
+        };
+    }
+
+    /**
+     * Z coordinate of a wall hologram, without touching the world.
+     */
+    public static double getWallZ(int chunkZ, WallSide side, double wallOffset, double centerOffset) {
+        int chunkMinZ = chunkZ * 16;            // Z coordinate of north edge
+        return switch (side) {
+            case EAST, WEST -> chunkMinZ + centerOffset;     // Position along chunk depth (Z axis)
+            case SOUTH -> chunkMinZ + 16 + wallOffset;       // Just outside south edge (positive Z direction)
+            case NORTH -> chunkMinZ - wallOffset;            // Just outside north edge (negative Z direction)
+        };
+    }
+
     /**
      * Gets the rotation angle for a hologram to face toward the chunk center.
      */
@@ -133,8 +140,7 @@ public final class HologramLocationUtils {
 
         while (y > world.getMinHeight()) {
             Block block = world.getBlockAt(x, y, z);
-            Material type = block.getType();
-            if (type != Material.BARRIER && !me.chunklock.util.item.MaterialUtil.getMaterialName(type).contains("GLASS") && type.isSolid()) {
+            if (isGround(block.getType())) {
                 return y;
             }
             y--;
@@ -142,6 +148,29 @@ public final class HologramLocationUtils {
         return world.getMinHeight();
     }
 
+    /**
+     * Same as {@link #getHighestSolidY(World, int, int)} but reads a chunk snapshot taken with
+     * its heightmap, so it can run off the main thread.
+     *
+     * @param localX block x within the snapshot's chunk (0-15)
+     * @param localZ block z within the snapshot's chunk (0-15)
+     */
+    public static int getHighestSolidY(ChunkSnapshot snapshot, int localX, int localZ, int minHeight, int maxHeight) {
+        int y = Math.min(snapshot.getHighestBlockYAt(localX, localZ), maxHeight - 1);
+        while (y > minHeight) {
+            if (isGround(snapshot.getBlockType(localX, y, localZ))) {
+                return y;
+            }
+            y--;
+        }
+        return minHeight;
+    }
+
+    // Solid blocks other than barriers and glass (border walls are glass)
+    private static boolean isGround(Material type) {
+        return type != Material.BARRIER && !me.chunklock.util.item.MaterialUtil.getMaterialName(type).contains("GLASS") && type.isSolid();
+    }
+
     /**
      * Generates a unique hologram key for a player and chunk.
      */
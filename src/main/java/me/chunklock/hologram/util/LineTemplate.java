@@ -0,0 +1,135 @@
+package me.chunklock.hologram.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A language message compiled into literal segments and {@code %placeholder%} slots.
+ *
+ * Compiling once and binding the values that do not change between renders leaves a template
+ * whose render is a single pass over a few segments instead of repeated scanning and
+ * {@code String.replace}. Placeholders that are never bound render as their original
+ * {@code %name%} text, the same as the language manager does. Immutable.
+ */
+public final class LineTemplate {
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%([a-zA-Z0-9_]+)%");
+
+    // literals.length == names.length + 1; literal i comes before placeholder i
+    private final String[] literals;
+    private final String[] names;
+    private final int literalLength;
+
+    private LineTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a raw message; a null message compiles to an empty template.
+     */
+    public static LineTemplate compile(String message) {
+        if (message == null || message.isEmpty()) {
+            return new LineTemplate(new String[] {""}, new String[0]);
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER_PATTERN.matcher(message);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(message.substring(last, matcher.start()));
+            names.add(matcher.group(1));
+            last = matcher.end();
+        }
+        literals.add(message.substring(last));
+        return new LineTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     * Returns a template with every occurrence of the placeholder replaced by the value and the
+     * surrounding literals merged, or this template if it does not use the placeholder.
+     */
+    public LineTemplate bind(String name, String value) {
+        if (!hasPlaceholder(name)) {
+            return this;
+        }
+
+        List<String> boundLiterals = new ArrayList<>();
+        List<String> boundNames = new ArrayList<>();
+        StringBuilder current = new StringBuilder(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                current.append(value).append(literals[i + 1]);
+            } else {
+                boundLiterals.add(current.toString());
+                boundNames.add(names[i]);
+                current.setLength(0);
+                current.append(literals[i + 1]);
+            }
+        }
+        boundLiterals.add(current.toString());
+        return new LineTemplate(boundLiterals.toArray(new String[0]), boundNames.toArray(new String[0]));
+    }
+
+    public boolean hasPlaceholder(String name) {
+        for (String placeholder : names) {
+            if (placeholder.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * True when no placeholders are left, so {@link #render()} always returns the same text.
+     */
+    public boolean isConstant() {
+        return names.length == 0;
+    }
+
+    public List<String> getPlaceholders() {
+        return List.copyOf(Arrays.asList(names));
+    }
+
+    /**
+     * Renders with any remaining placeholders left as {@code %name%}.
+     */
+    public String render() {
+        return render(null, null);
+    }
+
+    /**
+     * Renders with one placeholder substituted; any others are left as {@code %name%}.
+     */
+    public String render(String name, String value) {
+        if (names.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + 16);
+        builder.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                builder.append(value);
+            } else {
+                builder.append('%').append(names[i]).append('%');
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
@@ -0,0 +1,232 @@
+package me.chunklock.hologram.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of wall hologram anchor heights per chunk, evicting the least recently used
+ * chunk when full.
+ *
+ * Each chunk's four wall heights are packed into one long (16 bits per side, indexed by
+ * {@link HologramLocationUtils.WallSide#ordinal()}); x, z and yaw follow from the chunk and
+ * side, so no {@code Location} is stored. Entries live in parallel primitive arrays threaded
+ * on an access-ordered doubly linked list, indexed by an open-addressing table, so lookups and
+ * inserts never allocate. Not thread-safe.
+ */
+public final class WallAnchorGrid {
+
+    /** Returned by {@link #get} for chunks that are not cached. */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private static final int NONE = -1;
+    private static final long COORD_MASK = 0x3FFFFFL; // 22 bits, beyond the world border in chunks
+
+    private final int capacity;
+    private final long[] keys;
+    private final long[] values;
+    // Access order: head is the least recently used entry, tail the most recent
+    private final int[] prev;
+    private final int[] next;
+    private final int[] table; // entry index + 1, 0 when empty
+    private final int mask;
+    private final Map<String, Integer> worldIds = new HashMap<>();
+
+    private int head = NONE;
+    private int tail = NONE;
+    private int size;
+    private int freeHead = NONE;
+    private int unused;
+
+    // Metrics
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public WallAnchorGrid(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.keys = new long[this.capacity];
+        this.values = new long[this.capacity];
+        this.prev = new int[this.capacity];
+        this.next = new int[this.capacity];
+        int tableSize = Integer.highestOneBit(Math.max(2, this.capacity * 2 - 1)) << 1;
+        this.table = new int[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    /**
+     * Packed anchor heights of a chunk, or {@link #MISSING}; a hit makes the chunk most recently used.
+     */
+    public long get(String worldName, int chunkX, int chunkZ) {
+        Integer worldId = worldIds.get(worldName);
+        int entry = worldId != null ? findEntry(key(worldId, chunkX, chunkZ)) : NONE;
+        if (entry == NONE) {
+            misses++;
+            return MISSING;
+        }
+        hits++;
+        moveToTail(entry);
+        return values[entry];
+    }
+
+    public void put(String worldName, int chunkX, int chunkZ, long anchors) {
+        long key = key(worldIds.computeIfAbsent(worldName, w -> worldIds.size()), chunkX, chunkZ);
+        int entry = findEntry(key);
+        if (entry != NONE) {
+            values[entry] = anchors;
+            moveToTail(entry);
+            return;
+        }
+
+        if (size == capacity) {
+            entry = head;
+            deleteSlot(findSlot(keys[entry]));
+            unlink(entry);
+            evictions++;
+        } else {
+            entry = allocate();
+            size++;
+        }
+        keys[entry] = key;
+        values[entry] = anchors;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry + 1;
+        linkTail(entry);
+    }
+
+    public void remove(String worldName, int chunkX, int chunkZ) {
+        Integer worldId = worldIds.get(worldName);
+        if (worldId == null) return;
+        int slot = findSlot(key(worldId, chunkX, chunkZ));
+        if (slot == NONE) return;
+        int entry = table[slot] - 1;
+        deleteSlot(slot);
+        unlink(entry);
+        next[entry] = freeHead;
+        freeHead = entry;
+        size--;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        worldIds.clear();
+        head = NONE;
+        tail = NONE;
+        size = 0;
+        freeHead = NONE;
+        unused = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Packs four wall heights, indexed by side ordinal.
+     */
+    public static long pack(int northY, int eastY, int southY, int westY) {
+        return (northY & 0xFFFFL)
+            | (eastY & 0xFFFFL) << 16
+            | (southY & 0xFFFFL) << 32
+            | (westY & 0xFFFFL) << 48;
+    }
+
+    public static int getY(long anchors, HologramLocationUtils.WallSide side) {
+        return (short) (anchors >>> (side.ordinal() * 16));
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size + "/" + capacity + " hits=" + hits + " misses=" + misses + " evictions=" + evictions;
+    }
+
+    private static long key(int worldId, int chunkX, int chunkZ) {
+        return (long) worldId << 44 | (chunkX & COORD_MASK) << 22 | (chunkZ & COORD_MASK);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int findSlot(long key) {
+        int slot = mix(key) & mask;
+        while (table[slot] != 0) {
+            if (keys[table[slot] - 1] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    private int findEntry(long key) {
+        int slot = findSlot(key);
+        return slot == NONE ? NONE : table[slot] - 1;
+    }
+
+    /**
+     * Empties a table slot, shifting later entries of the probe run back so lookups stay correct.
+     */
+    private void deleteSlot(int slot) {
+        int gap = slot;
+        int probe = (slot + 1) & mask;
+        while (table[probe] != 0) {
+            int ideal = mix(keys[table[probe] - 1]) & mask;
+            if (((probe - ideal) & mask) >= ((probe - gap) & mask)) {
+                table[gap] = table[probe];
+                gap = probe;
+            }
+            probe = (probe + 1) & mask;
+        }
+        table[gap] = 0;
+    }
+
+    private int allocate() {
+        if (freeHead != NONE) {
+            int entry = freeHead;
+            freeHead = next[entry];
+            return entry;
+        }
+        return unused++;
+    }
+
+    private void moveToTail(int entry) {
+        if (entry == tail) return;
+        unlink(entry);
+        linkTail(entry);
+    }
+
+    private void unlink(int entry) {
+        int before = prev[entry];
+        int after = next[entry];
+        if (before != NONE) next[before] = after; else head = after;
+        if (after != NONE) prev[after] = before; else tail = before;
+    }
+
+    private void linkTail(int entry) {
+        prev[entry] = tail;
+        next[entry] = NONE;
+        if (tail != NONE) next[tail] = entry; else head = entry;
+        tail = entry;
+    }
+}
@@ -3,9 +3,13 @@ package me.chunklock.listeners;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Chunk;
+import org.bukkit.Location;
 import org.bukkit.Sound;
+import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.entity.EntityType;
+import org.bukkit.entity.FallingBlock;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -13,6 +17,7 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
 import org.bukkit.event.player.PlayerBucketFillEvent;
@@ -21,15 +26,21 @@ import org.bukkit.event.hanging.HangingPlaceEvent;
 import org.bukkit.event.vehicle.VehicleDestroyEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
 import me.chunklock.ChunklockPlugin;
 import me.chunklock.config.LanguageKeys;
 import me.chunklock.managers.ChunkBorderManager;
 import me.chunklock.managers.ChunkLockManager;
 import me.chunklock.managers.WorldManager;
 import me.chunklock.ui.UnlockGui;
+import me.chunklock.util.chunk.ChunkLockMemo;
 import me.chunklock.util.message.MessageUtil;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,6 +60,9 @@ public class BlockProtectionListener implements Listener {
     
     // Rate limiting for messages
     private final Map<UUID, Long> lastProtectionWarning = new ConcurrentHashMap<>();
+
+    // Reused across explosion events (always fired on the main thread)
+    private final ChunkLockMemo explosionLockMemo = new ChunkLockMemo();
     private static final long WARNING_COOLDOWN_MS = 3000L; // 3 seconds between warnings
     
     public BlockProtectionListener(ChunkLockManager chunkLockManager, UnlockGui unlockGui, ChunkBorderManager chunkBorderManager) {
@@ -61,17 +75,7 @@ public class BlockProtectionListener implements Listener {
      * Helper method to check if world is enabled for ChunkLock
      */
     private boolean isWorldEnabled(Player player) {
-        if (player == null || player.getWorld() == null) {
-            return false;
-        }
-        
-        try {
-            WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-            return worldManager.isWorldEnabled(player.getWorld());
-        } catch (Exception e) {
-            ChunklockPlugin.getInstance().getLogger().fine("Could not check world status for protection: " + e.getMessage());
-            return false; // Err on the side of caution - no protection if can't verify
-        }
+        return player != null && WorldManager.isEnabled(player.getWorld());
     }
 
     /**
@@ -92,6 +96,7 @@ public class BlockProtectionListener implements Listener {
 
         if (chunkBorderManager.isBorderBlock(block)) {
             event.setCancelled(true);
+            chunkBorderManager.resendBorderBlock(player, block);
             Chunk target = chunkBorderManager.getBorderChunk(block);
             if (target == null) target = block.getChunk();
             handleProtectionViolation(player, target, "break border");
@@ -122,6 +127,7 @@ public class BlockProtectionListener implements Listener {
 
         if (chunkBorderManager.isBorderBlock(block)) {
             event.setCancelled(true);
+            chunkBorderManager.resendBorderBlock(player, block);
             Chunk target = chunkBorderManager.getBorderChunk(block);
             if (target == null) target = block.getChunk();
             handleProtectionViolation(player, target, "place blocks");
@@ -301,29 +307,12 @@ public class BlockProtectionListener implements Listener {
         if (event.isCancelled()) return;
         
         // NEW: World check for explosion location
-        if (event.getLocation() != null && event.getLocation().getWorld() != null) {
-            try {
-                WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-                if (!worldManager.isWorldEnabled(event.getLocation().getWorld())) {
-                    return; // Allow explosions in disabled worlds
-                }
-            } catch (Exception e) {
-                ChunklockPlugin.getInstance().getLogger().fine("Could not check world status for explosion: " + e.getMessage());
-                return; // Skip protection if can't verify world status
-            }
+        if (event.getLocation() != null && event.getLocation().getWorld() != null
+                && !WorldManager.isEnabled(event.getLocation().getWorld())) {
+            return; // Allow explosions in disabled worlds
         }
         
-        event.blockList().removeIf(block -> {
-            Chunk chunk = block.getChunk();
-            try {
-                chunkLockManager.initializeChunk(chunk);
-                return chunkLockManager.isLocked(chunk);
-            } catch (Exception e) {
-                ChunklockPlugin.getInstance().getLogger().log(Level.WARNING, 
-                    "Error checking chunk lock status during explosion", e);
-                return false;
-            }
-        });
+        removeBlocksInLockedChunks(event.blockList(), event.getLocation().getWorld(), "explosion");
     }
 
     /**
@@ -334,29 +323,162 @@ public class BlockProtectionListener implements Listener {
         if (event.isCancelled()) return;
         
         // NEW: World check for explosion location
-        if (event.getBlock() != null && event.getBlock().getWorld() != null) {
-            try {
-                WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-                if (!worldManager.isWorldEnabled(event.getBlock().getWorld())) {
-                    return; // Allow explosions in disabled worlds
-                }
-            } catch (Exception e) {
-                ChunklockPlugin.getInstance().getLogger().fine("Could not check world status for block explosion: " + e.getMessage());
-                return; // Skip protection if can't verify world status
-            }
+        if (event.getBlock() != null && event.getBlock().getWorld() != null
+                && !WorldManager.isEnabled(event.getBlock().getWorld())) {
+            return; // Allow explosions in disabled worlds
         }
         
-        event.blockList().removeIf(block -> {
-            Chunk chunk = block.getChunk();
-            try {
-                chunkLockManager.initializeChunk(chunk);
-                return chunkLockManager.isLocked(chunk);
-            } catch (Exception e) {
-                ChunklockPlugin.getInstance().getLogger().log(Level.WARNING, 
-                    "Error checking chunk lock status during block explosion", e);
-                return false;
+        removeBlocksInLockedChunks(event.blockList(), event.getBlock().getWorld(), "block explosion");
+    }
+
+    /**
+     * Prevents mob griefing (endermen, ravagers, withers, door-breaking zombies) in locked chunks.
+     * Falling blocks are only stopped when they land in a locked chunk from an unlocked one, so
+     * sand and gravel keep behaving naturally inside locked chunks.
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        if (event.isCancelled()) return;
+        if (event.getEntity() instanceof Player) return;
+
+        Block block = event.getBlock();
+        World world = block.getWorld();
+        if (event.getEntity() instanceof FallingBlock falling) {
+            Location origin = falling.getOrigin();
+            if (origin != null && crossesIntoLockedChunk(world, origin.getBlockX(), origin.getBlockZ(),
+                    block.getX(), block.getZ())) {
+                event.setCancelled(true);
+            }
+            return;
+        }
+
+        if (world == null || !WorldManager.isEnabled(world)) return;
+        try {
+            if (chunkLockManager.isLockedAt(world.getName(), block.getX() >> 4, block.getZ() >> 4)) {
+                event.setCancelled(true);
+            }
+        } catch (Exception e) {
+            ChunklockPlugin.getInstance().getLogger().log(Level.WARNING,
+                "Error checking chunk lock status during entity block change", e);
+        }
+    }
+
+    /**
+     * Prevents liquids (and dragon eggs) from flowing out of unlocked chunks into locked ones
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onBlockFromTo(BlockFromToEvent event) {
+        if (event.isCancelled()) return;
+
+        Block from = event.getBlock();
+        Block to = event.getToBlock();
+        if (crossesIntoLockedChunk(from.getWorld(), from.getX(), from.getZ(), to.getX(), to.getZ())) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Prevents pistons in unlocked chunks from pushing blocks into locked chunks
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        if (event.isCancelled()) return;
+
+        if (pistonTouchesLockedChunk(event.getBlock(), event.getBlocks(), event.getDirection(), true)) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Prevents sticky pistons in unlocked chunks from pulling blocks out of locked chunks
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        if (event.isCancelled()) return;
+
+        if (pistonTouchesLockedChunk(event.getBlock(), event.getBlocks(), event.getDirection(), false)) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Prevents fire, grass, vines, mushrooms etc. spreading from unlocked chunks into locked ones
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onBlockSpread(BlockSpreadEvent event) {
+        if (event.isCancelled()) return;
+
+        Block source = event.getSource();
+        Block target = event.getBlock();
+        if (crossesIntoLockedChunk(target.getWorld(), source.getX(), source.getZ(), target.getX(), target.getZ())) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Checks every block a piston moves, plus where it ends up (and the piston head when extending).
+     * The direction of both piston events is the direction the blocks travel.
+     */
+    private boolean pistonTouchesLockedChunk(Block piston, List<Block> moved, BlockFace direction, boolean extending) {
+        World world = piston.getWorld();
+        int px = piston.getX();
+        int pz = piston.getZ();
+        int dx = direction.getModX();
+        int dz = direction.getModZ();
+
+        if (extending && crossesIntoLockedChunk(world, px, pz, px + dx, pz + dz)) {
+            return true;
+        }
+        for (Block block : moved) {
+            int bx = block.getX();
+            int bz = block.getZ();
+            if (crossesIntoLockedChunk(world, px, pz, bx, bz)
+                    || crossesIntoLockedChunk(world, px, pz, bx + dx, bz + dz)) {
+                return true;
             }
-        });
+        }
+        return false;
+    }
+
+    /**
+     * True when a change originating at block (fromX, fromZ) reaches a locked chunk from a
+     * different, unlocked chunk. Changes within a single chunk (the vast majority of physics
+     * events) return before any lookup, and lookups hit the in-memory lock index.
+     * Locked-to-locked changes are left alone so natural world behaviour is unaffected.
+     */
+    private boolean crossesIntoLockedChunk(World world, int fromX, int fromZ, int toX, int toZ) {
+        int fromChunkX = fromX >> 4;
+        int fromChunkZ = fromZ >> 4;
+        int toChunkX = toX >> 4;
+        int toChunkZ = toZ >> 4;
+        if (fromChunkX == toChunkX && fromChunkZ == toChunkZ) {
+            return false;
+        }
+        if (world == null || !WorldManager.isEnabled(world)) {
+            return false;
+        }
+
+        String worldName = world.getName();
+        return chunkLockManager.isLockedAt(worldName, toChunkX, toChunkZ)
+            && !chunkLockManager.isLockedAt(worldName, fromChunkX, fromChunkZ);
+    }
+
+    /**
+     * Removes blast blocks that lie in locked chunks. Blocks are grouped by chunk coordinate
+     * so each distinct chunk is looked up once, and never-seen chunks are treated as locked
+     * without being evaluated or written to the database.
+     */
+    private void removeBlocksInLockedChunks(List<Block> blocks, World world, String source) {
+        if (blocks.isEmpty() || world == null) return;
+
+        String worldName = world.getName();
+        try {
+            explosionLockMemo.removeBlocksInLockedChunks(blocks,
+                (chunkX, chunkZ) -> chunkLockManager.isLockedAt(worldName, chunkX, chunkZ));
+        } catch (Exception e) {
+            ChunklockPlugin.getInstance().getLogger().log(Level.WARNING,
+                "Error checking chunk lock status during " + source, e);
+        }
     }
 
     /**
@@ -3,6 +3,7 @@ package me.chunklock.listeners;
 import me.chunklock.managers.ChunkBorderManager;
 import me.chunklock.managers.WorldManager;
 import me.chunklock.ChunklockPlugin;
+import io.papermc.paper.event.packet.PlayerChunkLoadEvent;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -28,17 +29,7 @@ public class BorderListener implements Listener {
      * Helper method to check if world is enabled for ChunkLock borders
      */
     private boolean isWorldEnabled(Player player) {
-        if (player == null || player.getWorld() == null) {
-            return false;
-        }
-        
-        try {
-            WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-            return worldManager.isWorldEnabled(player.getWorld());
-        } catch (Exception e) {
-            ChunklockPlugin.getInstance().getLogger().fine("Could not check world status for border interaction: " + e.getMessage());
-            return false; // Err on the side of caution - no border processing if can't verify
-        }
+        return player != null && WorldManager.isEnabled(player.getWorld());
     }
 
     /**
@@ -97,6 +88,24 @@ public class BorderListener implements Listener {
         }
     }
 
+    /**
+     * Re-sends client-side borders when the client receives a chunk
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChunkLoad(PlayerChunkLoadEvent event) {
+        Player player = event.getPlayer();
+        if (!borderManager.isEnabled() || !isWorldEnabled(player)) {
+            return;
+        }
+
+        try {
+            borderManager.handlePlayerChunkLoad(player, event.getChunk());
+        } catch (Exception e) {
+            ChunklockPlugin.getInstance().getLogger().log(Level.FINE,
+                "Error re-sending borders for " + player.getName(), e);
+        }
+    }
+
     /**
      * Handles player quit - cleanup borders regardless of world
      */
@@ -4,6 +4,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import me.chunklock.util.chunk.ChunkUtils;
+import me.chunklock.util.chunk.PlayerChunkTracker;
 import me.chunklock.managers.ChunkLockManager;
 import me.chunklock.managers.PlayerProgressTracker;
 import me.chunklock.managers.PlayerDataManager;
@@ -12,6 +13,7 @@ import me.chunklock.ChunklockPlugin;
 import me.chunklock.managers.ChunkBorderManager;
 import me.chunklock.services.StartingChunkService;
 import me.chunklock.managers.ChunkEvaluator;
+import me.chunklock.managers.ChunkView;
 import me.chunklock.managers.BiomeUnlockRegistry;
 import me.chunklock.managers.WorldManager;
 import org.bukkit.entity.Player;
@@ -38,12 +40,12 @@ public class PlayerListener implements Listener {
     private final Map<UUID, Long> lastWarned = new ConcurrentHashMap<>();
     private final Map<UUID, Long> lastUnlockAttempt = new ConcurrentHashMap<>();
     
-    // Track last border update per player to avoid excessive updates
-    private final Map<UUID, Long> lastBorderUpdate = new ConcurrentHashMap<>();
-    
     // FIX: Track if player is truly new (first time joining)
     private final Set<UUID> newPlayers = new HashSet<>();
     
+    // Last chunk per player as primitives, so onPlayerMove avoids Chunk lookups between transitions
+    private final PlayerChunkTracker chunkTracker = new PlayerChunkTracker();
+    
     private static final long COOLDOWN_MS = 2000L;
     private static final long UNLOCK_COOLDOWN_MS = 1000L; // Rate limiting for unlock attempts
 
@@ -84,7 +86,9 @@ public class PlayerListener implements Listener {
             // Clear any stale data
             lastWarned.remove(playerId);
             lastUnlockAttempt.remove(playerId);
-            lastBorderUpdate.remove(playerId); // Clear border update tracking
+            if (borderRefreshService != null) {
+                borderRefreshService.forget(playerId); // Clear border refresh debounce state
+            }
             
             if (!playerDataManager.hasChunk(playerId)) {
                 // FIX: Mark as new player and assign starting chunk
@@ -146,7 +150,6 @@ public class PlayerListener implements Listener {
                         ChunkBorderManager borderManager = ChunklockPlugin.getInstance().getChunkBorderManager();
                         if (borderManager != null) {
                             borderManager.scheduleBorderUpdate(player);
-                            lastBorderUpdate.put(playerId, System.currentTimeMillis());
                         }
                     } catch (Exception e) {
                         ChunklockPlugin.getInstance().getLogger().warning("Error updating borders for joined player " + player.getName() + ": " + e.getMessage());
@@ -170,8 +173,11 @@ public class PlayerListener implements Listener {
             // Clean up player-specific data to prevent memory leaks (regardless of world)
             lastWarned.remove(playerId);
             lastUnlockAttempt.remove(playerId);
-            lastBorderUpdate.remove(playerId); // Clean up border tracking
+            if (borderRefreshService != null) {
+                borderRefreshService.forget(playerId); // Clean up border refresh debounce state
+            }
             newPlayers.remove(playerId); // Clean up new player tracking
+            chunkTracker.forget(playerId);
             
             // Handle world pool cleanup for player worlds
             WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
@@ -288,48 +294,52 @@ public class PlayerListener implements Listener {
     }
 
     /**
-     * Updates borders when player moves to a different chunk (rate limited)
+     * Updates borders when player moves to a different chunk (debounced by the refresh service)
      */
     private void updateBordersOnChunkChange(Player player) {
         // NEW: Check if player is in enabled world before updating borders
-        try {
-            WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-            if (!worldManager.isWorldEnabled(player.getWorld())) {
-                return; // Skip border updates in disabled worlds
-            }
-        } catch (Exception e) {
-            ChunklockPlugin.getInstance().getLogger().fine("Could not check world status for border update: " + e.getMessage());
-            return;
+        if (!WorldManager.isEnabled(player.getWorld())) {
+            return; // Skip border updates in disabled worlds
         }
         
         if (borderRefreshService != null) {
-            borderRefreshService.refreshBordersOnMove(player, lastBorderUpdate);
+            borderRefreshService.onChunkTransition(player);
+        }
+    }
+
+    /**
+     * Queues a hologram refresh, since the frontier walls in range change with the player's chunk
+     */
+    private void requestHologramRefresh(Player player) {
+        me.chunklock.hologram.HologramService hologramService = ChunklockPlugin.getInstance().getHologramService();
+        if (hologramService != null) {
+            hologramService.requestRefresh(player);
         }
     }
 
     private void handleChunkChange(PlayerMoveEvent event, Player player, Chunk toChunk) {
         try {
             // NEW: Check if player is in enabled world before processing chunk change
-            WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-            if (!worldManager.isWorldEnabled(player.getWorld())) {
+            if (!WorldManager.isEnabled(player.getWorld())) {
                 ChunklockPlugin.getInstance().getLogger().fine("Player " + player.getName() + 
                     " moved in disabled world " + player.getWorld().getName() + " - skipping chunk change processing");
                 return; // Skip chunk change processing in disabled worlds
             }
             
-            chunkLockManager.initializeChunk(toChunk, player.getUniqueId());
+            // Resolve the chunk once; message, GUI and border code all share this view
+            ChunkView view = chunkLockManager.resolveChunkView(toChunk, player.getUniqueId());
             
             if (chunkLockManager.isBypassing(player)) {
                 return;
             }
 
-            if (chunkLockManager.isLocked(toChunk)) {
+            if (view.isLocked()) {
                 long now = System.currentTimeMillis();
                 Long last = lastWarned.get(player.getUniqueId());
 
                 if (last == null || (now - last) >= COOLDOWN_MS) {
                     try {
-                        ChunkEvaluator.ChunkValueData evaluation = chunkLockManager.evaluateChunk(player.getUniqueId(), toChunk);
+                        ChunkEvaluator.ChunkValueData evaluation = view.getEvaluation();
                         player.sendMessage("§cThis chunk is locked!");
                         
                         String biomeName = BiomeUnlockRegistry.getBiomeDisplayName(evaluation.biome);
@@ -338,7 +348,7 @@ public class PlayerListener implements Listener {
                         
                         // Rate limit unlock GUI opening
                         if (canAttemptUnlock(player)) {
-                            unlockGui.open(player, toChunk);
+                            unlockGui.open(player, view);
                         }
                     } catch (Exception e) {
                         ChunklockPlugin.getInstance().getLogger().log(Level.WARNING, "Error showing chunk info to player", e);
@@ -348,8 +358,9 @@ public class PlayerListener implements Listener {
 
                 event.setCancelled(true);
             } else {
-                // Player moved to an unlocked chunk, update borders if needed
+                // Player moved to an unlocked chunk, update borders and holograms if needed
                 updateBordersOnChunkChange(player);
+                requestHologramRefresh(player);
             }
         } catch (Exception e) {
             ChunklockPlugin.getInstance().getLogger().log(Level.WARNING, "Error handling chunk change for player " + player.getName(), e);
@@ -365,15 +376,8 @@ public class PlayerListener implements Listener {
             if (player == null) return;
 
             // NEW: Early world check - exit immediately if not in enabled world
-            try {
-                WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-                if (!worldManager.isWorldEnabled(player.getWorld())) {
-                    // Player is in disabled world - completely skip all ChunkLock processing
-                    return;
-                }
-            } catch (Exception e) {
-                // If we can't check world status, err on the side of caution and skip processing
-                ChunklockPlugin.getInstance().getLogger().fine("Could not check world status for player movement: " + e.getMessage());
+            if (!WorldManager.isEnabled(player.getWorld())) {
+                // Player is in disabled world - completely skip all ChunkLock processing
                 return;
             }
 
@@ -388,14 +392,24 @@ public class PlayerListener implements Listener {
                 return;
             }
 
-            Chunk fromChunk = from.getChunk();
-            Chunk toChunk = to.getChunk();
+            // Compare primitive chunk coordinates against the tracked chunk; the Chunk
+            // object is only resolved on an actual transition
+            UUID playerId = player.getUniqueId();
+            UUID fromWorldId = from.getWorld().getUID();
+            int fromChunkX = from.getBlockX() >> 4;
+            int fromChunkZ = from.getBlockZ() >> 4;
+            // Re-sync if the record is stale (first move, teleport, or a move cancelled after us)
+            if (!chunkTracker.isIn(playerId, fromWorldId, fromChunkX, fromChunkZ)) {
+                chunkTracker.moveTo(playerId, fromWorldId, fromChunkX, fromChunkZ);
+            }
+            if (!chunkTracker.moveTo(playerId, to.getWorld().getUID(), to.getBlockX() >> 4, to.getBlockZ() >> 4)) {
+                return;
+            }
 
-            if (fromChunk == null || toChunk == null) return;
+            Chunk toChunk = to.getChunk();
+            if (toChunk == null) return;
 
-            if (!fromChunk.equals(toChunk)) {
-                handleChunkChange(event, player, toChunk);
-            }
+            handleChunkChange(event, player, toChunk);
         } catch (Exception e) {
             ChunklockPlugin.getInstance().getLogger().log(Level.WARNING, "Error in player move event", e);
         }
@@ -408,8 +422,11 @@ public class PlayerListener implements Listener {
         Map<String, Object> stats = new HashMap<>();
         stats.put("playersWithWarningCooldown", lastWarned.size());
         stats.put("playersWithUnlockCooldown", lastUnlockAttempt.size());
-        stats.put("playersWithBorderUpdateTracking", lastBorderUpdate.size());
+        if (borderRefreshService != null) {
+            stats.put("borderRefresh", borderRefreshService.getStats());
+        }
         stats.put("newPlayersTracked", newPlayers.size());
+        stats.put("playersWithChunkTracking", chunkTracker.size());
         
         // NEW: Add world-related statistics
         try {
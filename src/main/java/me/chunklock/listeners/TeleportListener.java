@@ -66,6 +66,13 @@ public class TeleportListener implements Listener {
             World fromWorld = from.getWorld();
             World toWorld = to.getWorld();
             
+            // Teleports skip the move event, so holograms are refreshed for any of them; a
+            // refresh in a disabled world despawns the player's holograms
+            var hologramService = ChunklockPlugin.getInstance().getHologramService();
+            if (hologramService != null) {
+                hologramService.requestRefresh(player);
+            }
+            
             // Check if player changed worlds
             if (fromWorld == null || toWorld == null || fromWorld.equals(toWorld)) {
                 return;
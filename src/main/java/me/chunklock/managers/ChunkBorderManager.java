@@ -19,13 +19,25 @@ import org.bukkit.event.block.Action;
 
 import me.chunklock.ui.UnlockGui;
 import me.chunklock.ChunklockPlugin;
+import me.chunklock.border.BlockPosMap;
+import me.chunklock.border.BorderColumns;
 import me.chunklock.border.BorderConfig;
 import me.chunklock.border.BorderConfigLoader;
+import me.chunklock.border.BorderDiff;
+import me.chunklock.border.BorderEdgeModel;
+import me.chunklock.border.BorderHeightmapCache;
+import me.chunklock.border.BorderHolder;
+import me.chunklock.border.BorderJournal;
 import me.chunklock.border.BorderPlacementService;
-import me.chunklock.border.BorderUpdateQueue;
+import me.chunklock.border.BorderRenderMode;
+import me.chunklock.border.BorderRenderer;
+import me.chunklock.border.BorderWorkScheduler;
+import me.chunklock.border.ParticleBorderRenderer;
 import me.chunklock.border.BorderStateManager;
-import me.chunklock.util.chunk.ChunkCoordinate;
+import me.chunklock.border.BorderViewerRegistry;
+import me.chunklock.util.chunk.ChunkLockMemo;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.logging.Level;
 
@@ -34,6 +46,10 @@ import java.util.logging.Level;
  * Places glass blocks on the edges of locked chunks that are adjacent to unlocked chunks,
  * creating a visual boundary that players can right-click to open unlock GUIs.
  * Only operates in worlds where ChunkLock is enabled.
+ *
+ * Borders are computed per {@link BorderHolder} and shown to the holder's viewers. When the
+ * border shape does not depend on the player, a holder is one tile of a team territory, built
+ * once and shared by everyone near it; otherwise every player is their own holder.
  */
 public class ChunkBorderManager {
     
@@ -45,7 +61,13 @@ public class ChunkBorderManager {
     private final BorderConfigLoader configLoader = new BorderConfigLoader();
     private BorderPlacementService placementService;
     private final BorderStateManager borderState;
-    private final BorderUpdateQueue updateQueue;
+    private final BorderWorkScheduler workScheduler;
+    private final BorderEdgeModel edgeModel;
+    private final BorderHeightmapCache heightmapCache;
+    private final BorderViewerRegistry viewers = new BorderViewerRegistry();
+    private final ChunkLockManager.ChunkLockListener territoryListener;
+    private ParticleBorderRenderer particleRenderer; // only in PARTICLES mode
+    private final BorderJournal journal; // null if it could not be opened
     
     // Configuration values (loaded from config.yml)
     private boolean enabled;
@@ -53,6 +75,10 @@ public class ChunkBorderManager {
     private int borderHeight;
     private int minYOffset;
     private int maxYOffset;
+    private boolean useHeightmap;
+    private int heightmapBelow;
+    private int heightmapAbove;
+    private boolean shareTeamBorders;
     private int scanRange;
     private long updateDelay;
     private long updateCooldown;
@@ -63,6 +89,17 @@ public class ChunkBorderManager {
     private Material borderMaterial;
     private int borderUpdateDelayTicks = 2;
     private int maxBorderUpdatesPerTick = 10;
+    private long borderTickBudgetNanos = 2_000_000L;
+    private int borderBatchBlocks = 512;
+    private BorderRenderMode renderMode = BorderRenderMode.BLOCKS;
+    private BorderConfig loadedConfig;
+
+    // Client-side borders in chunks the client (re)loaded this tick, re-sent once per player per tick
+    private final Map<UUID, Set<Long>> pendingChunkResends = new HashMap<>();
+
+    // Cumulative incremental update counters (block operations actually applied)
+    private long borderBlocksAdded;
+    private long borderBlocksRemoved;
 
     public ChunkBorderManager(ChunkLockManager chunkLockManager, UnlockGui unlockGui, TeamManager teamManager, PlayerProgressTracker progressTracker) {
         this.chunkLockManager = chunkLockManager;
@@ -73,42 +110,157 @@ public class ChunkBorderManager {
 
         loadConfiguration();
         this.borderState = new BorderStateManager();
-        this.placementService = new BorderPlacementService(chunkLockManager, teamManager, createConfigObject());
-        this.updateQueue = new BorderUpdateQueue(plugin, maxBorderUpdatesPerTick, this::updateBordersForPlayer);
+        this.journal = openJournal();
+        // Players whose borders fell back to the default band get a proper pass once heights arrive
+        this.heightmapCache = new BorderHeightmapCache(plugin, playerIds -> {
+            for (UUID playerId : playerIds) {
+                for (BorderHolder holder : viewers.getHolders(playerId)) {
+                    viewers.markDirty(holder);
+                }
+                Player waiting = Bukkit.getPlayer(playerId);
+                if (waiting != null && waiting.isOnline()) {
+                    scheduleBorderUpdate(waiting);
+                }
+            }
+        });
+        this.placementService = new BorderPlacementService(createConfigObject(), heightmapCache, journal);
+        this.workScheduler = new BorderWorkScheduler(new BorderWorkScheduler.WorkHandler() {
+            @Override
+            public BorderDiff plan(UUID playerId) {
+                return planBorderUpdate(Bukkit.getPlayer(playerId));
+            }
+
+            @Override
+            public int apply(UUID playerId, BorderDiff diff, int maxBlocks) {
+                // The diff belongs to its holders, not the player who planned it
+                return applyBorderBatch(diff, maxBlocks);
+            }
+
+            @Override
+            public void discard(UUID playerId, BorderDiff diff) {
+                // Half-applied holders must be planned again, by whoever still views them
+                for (BorderHolder holder : diff.getPendingHolders()) {
+                    if (!viewers.hasViewers(holder)) continue;
+                    viewers.markDirty(holder);
+                    for (Player viewer : getOnlineViewers(holder)) {
+                        if (!viewer.getUniqueId().equals(playerId)) {
+                            scheduleBorderUpdate(viewer);
+                        }
+                    }
+                }
+            }
+        }, plugin.getLogger(), borderTickBudgetNanos, borderBatchBlocks, maxBorderUpdatesPerTick);
+        workScheduler.start(plugin);
+
+        // Territory outline, kept current by lock/unlock notifications from then on
+        this.edgeModel = new BorderEdgeModel(chunkLockManager);
+        long start = System.currentTimeMillis();
+        edgeModel.rebuild(chunkLockManager.getUnlockedChunkOwners());
+        chunkLockManager.addLockListener(edgeModel);
+        // Registered after the edge model so it sees the updated outline
+        this.territoryListener = new ChunkLockManager.ChunkLockListener() {
+            @Override
+            public void onChunkLockChanged(String worldName, int chunkX, int chunkZ, boolean locked, UUID ownerId) {
+                onTerritoryChanged(worldName, chunkX, chunkZ, ownerId);
+            }
+
+            @Override
+            public void onLocksReset() {
+                if (isSharingBorders()) {
+                    runOnMainThread(() -> {
+                        viewers.markAllDirty();
+                        refreshAllBorders();
+                    });
+                }
+            }
+        };
+        chunkLockManager.addLockListener(territoryListener);
+        configureParticleRenderer();
+        if (debugLogging) {
+            plugin.getLogger().info("Border edge model built: " + edgeModel.getUnlockedChunkCount() + " unlocked chunks, " +
+                edgeModel.getEdgeCount() + " edges in " + (System.currentTimeMillis() - start) + "ms");
+        }
     }
     
     /**
-     * Helper method to check if world is enabled for ChunkLock borders
+     * Opens the border journal and reverts real border blocks a crash left in the world.
+     * Blocks that no longer hold the border material are left alone; borders in worlds that
+     * are not loaded stay in the journal for the next start.
      */
-    private boolean isWorldEnabled(Player player) {
-        if (player == null || player.getWorld() == null) {
-            return false;
-        }
-        
+    private BorderJournal openJournal() {
+        BorderJournal opened = new BorderJournal(plugin.getDataFolder().toPath().resolve("border-journal"), plugin.getLogger());
+        List<BorderJournal.Entry> entries;
         try {
-            WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-            return worldManager.isWorldEnabled(player.getWorld());
-        } catch (Exception e) {
-            plugin.getLogger().fine("Could not check world status for border operations: " + e.getMessage());
-            return false; // Err on the side of caution - no borders if can't verify
+            entries = opened.open();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not open the border journal, borders left by a crash will not be restored", e);
+            opened.close();
+            return null;
+        }
+        if (entries.isEmpty()) {
+            return opened;
         }
+
+        List<BorderJournal.Entry> kept = new ArrayList<>();
+        int restored = 0;
+        for (BorderJournal.Entry entry : entries) {
+            World world = Bukkit.getWorld(entry.worldName);
+            if (world == null) {
+                kept.add(entry);
+                continue;
+            }
+            try {
+                Block block = world.getBlockAt(BlockPosMap.unpackX(entry.pos), BlockPosMap.unpackY(entry.pos),
+                    BlockPosMap.unpackZ(entry.pos));
+                if (!block.getType().name().equals(entry.material)) {
+                    continue;
+                }
+                if (restoreOriginalBlocks && entry.originalData != null) {
+                    block.setBlockData(Bukkit.createBlockData(entry.originalData));
+                } else {
+                    block.setType(Material.AIR);
+                }
+                restored++;
+            } catch (Exception e) {
+                // Unknown block data (e.g. after a version change): leave the block as it is
+            }
+        }
+        // Only now are the old records dropped, so a crash during the restore replays them again
+        opened.compact(kept);
+        plugin.getLogger().info("Restored " + restored + " border blocks left by an unclean shutdown" +
+            (kept.isEmpty() ? "" : " (" + kept.size() + " kept for worlds that are not loaded)"));
+        return opened;
+    }
+
+    /**
+     * Rewrites the journal down to the live borders once removed ones dominate it.
+     */
+    private void compactJournalIfNeeded() {
+        if (journal == null || !journal.needsCompaction()) {
+            return;
+        }
+        List<BorderJournal.Entry> live = new ArrayList<>();
+        String material = borderMaterial.name();
+        borderState.forEachBorder((worldName, pos, originalData) -> {
+            if (originalData != null) {
+                live.add(new BorderJournal.Entry(worldName, pos, material, originalData.getAsString()));
+            }
+        });
+        journal.compact(live);
+    }
+
+    /**
+     * Helper method to check if world is enabled for ChunkLock borders
+     */
+    private boolean isWorldEnabled(Player player) {
+        return player != null && WorldManager.isEnabled(player.getWorld());
     }
 
     /**
      * Helper method to check if world is enabled by World object
      */
     private boolean isWorldEnabled(World world) {
-        if (world == null) {
-            return false;
-        }
-        
-        try {
-            WorldManager worldManager = ChunklockPlugin.getInstance().getWorldManager();
-            return worldManager.isWorldEnabled(world);
-        } catch (Exception e) {
-            plugin.getLogger().fine("Could not check world status for border operations: " + e.getMessage());
-            return false;
-        }
+        return WorldManager.isEnabled(world);
     }
 
     /**
@@ -123,12 +275,17 @@ public class ChunkBorderManager {
      */
     private void loadConfiguration() {
         BorderConfig cfg = configLoader.load(plugin);
+        loadedConfig = cfg;
 
         enabled = cfg.enabled;
         useFullHeight = cfg.useFullHeight;
         borderHeight = cfg.borderHeight;
         minYOffset = cfg.minYOffset;
         maxYOffset = cfg.maxYOffset;
+        useHeightmap = cfg.useHeightmap;
+        heightmapBelow = cfg.heightmapBelow;
+        heightmapAbove = cfg.heightmapAbove;
+        shareTeamBorders = cfg.shareTeamBorders;
         scanRange = cfg.scanRange;
         updateDelay = cfg.updateDelay;
         updateCooldown = cfg.updateCooldown;
@@ -139,19 +296,26 @@ public class ChunkBorderManager {
         borderMaterial = cfg.borderMaterial;
         borderUpdateDelayTicks = cfg.borderUpdateDelayTicks;
         maxBorderUpdatesPerTick = cfg.maxBorderUpdatesPerTick;
+        borderTickBudgetNanos = cfg.borderTickBudgetNanos;
+        borderBatchBlocks = cfg.borderBatchBlocks;
+        renderMode = cfg.renderMode != null ? cfg.renderMode : BorderRenderMode.BLOCKS;
         
         if (debugLogging) {
             plugin.getLogger().info("Glass borders " + (enabled ? "enabled" : "disabled") +
-                " - Material: " + borderMaterial + ", Range: " + scanRange +
-                ", Full Height: " + useFullHeight + (useFullHeight ? "" : ", Height: " + borderHeight));
-            plugin.getLogger().info("Border queue: delay " + borderUpdateDelayTicks + " ticks, max " + maxBorderUpdatesPerTick + " per tick");
+                " - Material: " + borderMaterial + ", Mode: " + renderMode + ", Range: " + scanRange +
+                ", Full Height: " + useFullHeight + (useFullHeight ? "" : ", Height: " + borderHeight) +
+                (useHeightmap ? ", Heightmap band: -" + heightmapBelow + "/+" + heightmapAbove : "") +
+                ", Shared team borders: " + isSharingBorders());
+            plugin.getLogger().info("Border scheduler: budget " + borderTickBudgetNanos + "ns per tick, batches of " +
+                borderBatchBlocks + " blocks, max " + maxBorderUpdatesPerTick + " plans per tick");
         }
     }
 
     public void shutdown() {
-        if (updateQueue != null) {
-            updateQueue.shutdown();
+        if (workScheduler != null) {
+            workScheduler.shutdown();
         }
+        stopParticleRenderer();
         // Clean up existing borders for all players
         for (Player player : Bukkit.getOnlinePlayers()) {
             removeBordersForPlayer(player);
@@ -162,17 +326,62 @@ public class ChunkBorderManager {
      * Reloads configuration (called during plugin reload)
      */
     public void reloadConfiguration() {
+        BorderRenderMode previousMode = renderMode;
+        Material previousMaterial = borderMaterial;
+        boolean previousSharing = isSharingBorders();
         loadConfiguration();
-        this.placementService = new BorderPlacementService(chunkLockManager, teamManager, createConfigObject());
-        
-        // If borders were disabled, clean up all existing borders
-        if (!enabled) {
+
+        // Existing borders must be removed by the renderer (and material) that placed them,
+        // and under the holders they were tracked for
+        boolean rendererChanged = previousMode != renderMode || previousMaterial != borderMaterial
+            || previousSharing != isSharingBorders();
+        if (rendererChanged || !enabled) {
             for (Player player : Bukkit.getOnlinePlayers()) {
                 removeBordersForPlayer(player);
             }
         }
+
+        this.placementService = new BorderPlacementService(createConfigObject(), heightmapCache, journal);
+        workScheduler.configure(borderTickBudgetNanos, borderBatchBlocks, maxBorderUpdatesPerTick);
+        configureParticleRenderer();
+
+        if (rendererChanged && enabled) {
+            refreshAllBorders();
+        }
     }
     
+    /**
+     * Starts the particle renderer in PARTICLES mode (replacing one built from older settings)
+     * and stops it otherwise.
+     */
+    private void configureParticleRenderer() {
+        stopParticleRenderer();
+        if (enabled && renderMode == BorderRenderMode.PARTICLES) {
+            particleRenderer = new ParticleBorderRenderer(plugin, edgeModel, createConfigObject(), this::shouldSeeBorders);
+            particleRenderer.start();
+        }
+    }
+
+    private void stopParticleRenderer() {
+        if (particleRenderer != null) {
+            particleRenderer.stop();
+            particleRenderer = null;
+        }
+    }
+
+    private boolean shouldSeeBorders(Player player) {
+        return player.isOnline() && isWorldEnabled(player)
+            && (showForBypassPlayers || !chunkLockManager.isBypassing(player));
+    }
+
+    /**
+     * Whether territories are built once and shared by their viewers. Only possible when the
+     * border shape does not depend on the player (full height or terrain-following).
+     */
+    private boolean isSharingBorders() {
+        return shareTeamBorders && (useFullHeight || useHeightmap);
+    }
+
     /**
      * Returns whether the border system is enabled
      */
@@ -185,11 +394,27 @@ public class ChunkBorderManager {
      * Now includes world validation - only processes players in enabled worlds
      */
     public void updateBordersForPlayer(Player player) {
+        BorderDiff diff = planBorderUpdate(player);
+        if (diff != null) {
+            applyBorderBatch(diff, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Works out a player's border change without applying it. Players who should not see
+     * borders (disabled world, bypass) have theirs removed right away and get no diff.
+     */
+    private BorderDiff planBorderUpdate(Player player) {
         if (!enabled || player == null || !player.isOnline()) {
             if (debugLogging && !enabled) {
                 plugin.getLogger().info("Border system is disabled, skipping border update for " + (player != null ? player.getName() : "null"));
             }
-            return;
+            return null;
+        }
+
+        // Particle borders are drawn by the particle renderer; there is nothing to place
+        if (renderMode == BorderRenderMode.PARTICLES) {
+            return null;
         }
         
         // NEW: Check if player is in an enabled world
@@ -199,7 +424,7 @@ public class ChunkBorderManager {
                     " is in disabled world " + player.getWorld().getName() + " - removing borders instead of updating");
             }
             removeBordersForPlayer(player);
-            return;
+            return null;
         }
         
         try {
@@ -209,159 +434,100 @@ public class ChunkBorderManager {
                     plugin.getLogger().info("Player " + player.getName() + " is in bypass mode, removing borders");
                 }
                 removeBordersForPlayer(player);
-                return;
+                return null;
             }
             
             if (debugLogging) {
                 plugin.getLogger().info("Updating borders for player " + player.getName() + " in world " + player.getWorld().getName());
             }
             
-            // Remove existing borders first
-            removeBordersForPlayer(player);
-            
-            // Find all unlocked chunks for this player in the nearby area
-            Set<ChunkCoordinate> unlockedChunks = findUnlockedChunks(player);
-            
-            if (debugLogging) {
-                plugin.getLogger().info("Found " + unlockedChunks.size() + " unlocked chunks for " + player.getName());
-                for (ChunkCoordinate coord : unlockedChunks) {
-                    plugin.getLogger().info("  Unlocked chunk: " + coord.x + "," + coord.z + " in world " + coord.world);
-                }
-            }
-            
-            if (!unlockedChunks.isEmpty()) {
-                for (ChunkCoordinate coord : unlockedChunks) {
-                    // NEW: Validate chunk world before processing
-                    World chunkWorld = Bukkit.getWorld(coord.world);
-                    if (chunkWorld == null || !isWorldEnabled(chunkWorld)) {
-                        if (debugLogging) {
-                            plugin.getLogger().info("Skipping chunk " + coord.x + "," + coord.z + 
-                                " in disabled/invalid world " + coord.world);
-                        }
-                        continue;
-                    }
-                    
-                    Chunk chunk = chunkWorld.getChunkAt(coord.x, coord.z);
-                    placementService.createBordersForChunk(player, chunk, borderState);
-                }
+            // Range queries over the precomputed territory outline - no lock lookups here
+            World world = player.getWorld();
+            String worldName = world.getName();
+            Location playerLocation = player.getLocation();
+            int centerX = playerLocation.getBlockX() >> 4;
+            int centerZ = playerLocation.getBlockZ() >> 4;
+            BorderDiff diff = new BorderDiff();
+            int desiredBlocks = 0;
 
-                if (debugLogging) {
-                    plugin.getLogger().info("Placed borders for " + unlockedChunks.size() + " unlocked chunks for player " + player.getName());
-                }
+            if (!isSharingBorders()) {
+                BorderHolder own = new BorderHolder(player.getUniqueId(), worldName);
+                updateSubscriptions(player, world, Set.of(own));
+                viewers.clearDirty(own);
+
+                BorderColumns desired = new BorderColumns();
+                edgeModel.forEachEdgeInRange(worldName, centerX, centerZ, scanRange,
+                    (chunkX, chunkZ, lockedSides, owner) ->
+                        placementService.collectBordersForEdges(player, world, chunkX, chunkZ, lockedSides, desired));
+                placementService.planBorderDiff(own, desired, borderState, diff);
+                desiredBlocks = desired.blockCount();
             } else {
-                if (debugLogging) {
-                    plugin.getLogger().info("No unlocked chunks found for " + player.getName() + ", no borders to place");
+                // Territory tiles with an edge in range; each is built once for all its viewers
+                Map<UUID, UUID> territoryOf = new HashMap<>();
+                Set<BorderHolder> visible = new HashSet<>();
+                edgeModel.forEachEdgeInRange(worldName, centerX, centerZ, scanRange,
+                    (chunkX, chunkZ, lockedSides, owner) -> visible.add(BorderHolder.tile(
+                        territoryOf.computeIfAbsent(owner, this::territoryOf), worldName, chunkX, chunkZ)));
+                updateSubscriptions(player, world, visible);
+
+                for (BorderHolder holder : visible) {
+                    if (!viewers.clearDirty(holder)) continue;
+                    BorderColumns desired = collectTerritoryTile(player, world, holder, territoryOf);
+                    placementService.planBorderDiff(holder, desired, borderState, diff);
+                    desiredBlocks += desired.blockCount();
                 }
             }
+
+            if (debugLogging) {
+                plugin.getLogger().info("Border diff for " + player.getName() + ": " + diff.getTotalBlocks() +
+                    " block changes (" + desiredBlocks + " desired, " + viewers.getHolders(player.getUniqueId()).size() +
+                    " holders)");
+            }
+            return diff;
             
         } catch (Exception e) {
             plugin.getLogger().log(Level.WARNING, 
                 "Error updating borders for player " + player.getName(), e);
+            return null;
         }
     }
-    
+
     /**
-     * Finds all unlocked chunks for a player in the nearby area
-     * Now includes world validation to only scan enabled worlds
+     * Applies up to {@code maxBlocks} positions of a planned diff.
+     *
+     * @return positions processed
      */
-    private Set<ChunkCoordinate> findUnlockedChunks(Player player) {
-        Set<ChunkCoordinate> unlockedChunks = new HashSet<>();
-        World world = player.getWorld();
-        
-        // NEW: Early world validation
-        if (!isWorldEnabled(world)) {
-            if (debugLogging) {
-                plugin.getLogger().info("Player " + player.getName() + " is in disabled world " + world.getName() + 
-                    " - returning empty unlocked chunks set");
-            }
-            return unlockedChunks;
+    private int applyBorderBatch(BorderDiff diff, int maxBlocks) {
+        int addedBefore = diff.getAdded();
+        int removedBefore = diff.getRemoved();
+        int processed = placementService.applyBatch(diff, maxBlocks, borderState, this::getOnlineViewers);
+        borderBlocksAdded += diff.getAdded() - addedBefore;
+        borderBlocksRemoved += diff.getRemoved() - removedBefore;
+        if (diff.getRemoved() > removedBefore) {
+            compactJournalIfNeeded();
         }
-        
-        Chunk playerChunk = player.getLocation().getChunk();
-        
-        // Check chunks in a configurable range around the player
-        for (int dx = -scanRange; dx <= scanRange; dx++) {
-            for (int dz = -scanRange; dz <= scanRange; dz++) {
-                try {
-                    Chunk chunk = world.getChunkAt(playerChunk.getX() + dx, playerChunk.getZ() + dz);
-                    
-                    // NEW: Double-check chunk world (defensive programming)
-                    if (!isWorldEnabled(chunk)) {
-                        continue;
-                    }
-                    
-                    chunkLockManager.initializeChunk(chunk, player.getUniqueId());
-                    
-                    if (!chunkLockManager.isLocked(chunk)) {
-                        unlockedChunks.add(new ChunkCoordinate(chunk.getX(), chunk.getZ(), world.getName()));
-                    }
-                } catch (Exception e) {
-                    // Skip chunks that can't be loaded
-                    continue;
-                }
-            }
-        }
-        
-        return unlockedChunks;
+        return processed;
     }
     
     /**
-     * Removes all borders for a player and restores original blocks
+     * Removes all borders for a player and restores original blocks (or the client's view of them).
+     * Shared territories stay up for their other viewers.
      */
     public void removeBordersForPlayer(Player player) {
-        UUID playerId = player.getUniqueId();
-        Map<Location, BlockData> borders = borderState.removeAllBordersForPlayer(playerId);
-        
-        if (borders.isEmpty()) {
+        Set<BorderHolder> holders = viewers.getHolders(player.getUniqueId());
+        if (holders.isEmpty()) {
             return;
         }
         
         try {
             int restoredCount = 0;
-            int skippedDisabledWorlds = 0;
-            
-            for (Map.Entry<Location, BlockData> entry : borders.entrySet()) {
-                Location location = entry.getKey();
-                BlockData originalData = entry.getValue();
-                
-                // NEW: Check if border location is in an enabled world
-                if (!isWorldEnabled(location.getWorld())) {
-                    skippedDisabledWorlds++;
-                    continue; // Skip restoration in disabled worlds
-                }
-                
-                // Restore original block if configured and it's still our border material
-                if (restoreOriginalBlocks) {
-                    try {
-                        Block block = location.getBlock();
-                        // CHANGED: Only check for the single border material from config
-                        if (block.getType() == borderMaterial) {
-                            block.setBlockData(originalData);
-                            restoredCount++;
-                        }
-                    } catch (Exception e) {
-                        // Skip blocks that can't be restored (chunk might be unloaded)
-                        continue;
-                    }
-                } else {
-                    // Just remove the border block without restoring original
-                    try {
-                        Block block = location.getBlock();
-                        // CHANGED: Only check for the single border material from config
-                        if (block.getType() == borderMaterial) {
-                            block.setType(Material.AIR);
-                            restoredCount++;
-                        }
-                    } catch (Exception e) {
-                        continue;
-                    }
-                }
+            for (BorderHolder holder : holders) {
+                restoredCount += detach(player, holder);
             }
             
             if (debugLogging) {
-                plugin.getLogger().fine("Restored " + restoredCount + "/" + borders.size() + 
-                    " border blocks for player " + player.getName() + 
-                    (skippedDisabledWorlds > 0 ? " (skipped " + skippedDisabledWorlds + " in disabled worlds)" : ""));
+                plugin.getLogger().fine("Restored " + restoredCount + " border blocks after player " +
+                    player.getName() + " stopped viewing " + holders.size() + " holders");
             }
                 
         } catch (Exception e) {
@@ -369,6 +535,135 @@ public class ChunkBorderManager {
                 "Error removing borders for player " + player.getName(), e);
         }
     }
+
+    /**
+     * Points a player's subscriptions at the holders they should see now. Holders they no
+     * longer see are detached; already built holders they start seeing are shown right away,
+     * new ones are built by the caller (they start out dirty).
+     */
+    private void updateSubscriptions(Player player, World world, Set<BorderHolder> visible) {
+        UUID viewerId = player.getUniqueId();
+        for (BorderHolder holder : viewers.getHolders(viewerId)) {
+            if (!visible.contains(holder)) {
+                detach(player, holder);
+            }
+        }
+        for (BorderHolder holder : visible) {
+            if (viewers.subscribe(viewerId, holder) && !viewers.isDirty(holder)) {
+                BlockPosMap<BlockData> borders = borderState.getBorders(holder);
+                if (borders != null) {
+                    placementService.getRenderer().refresh(player, world, borders.keys());
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops showing a holder to a player, tearing the holder down if nobody else views it.
+     *
+     * @return the number of border blocks reverted
+     */
+    private int detach(Player player, BorderHolder holder) {
+        int remaining = viewers.unsubscribe(player.getUniqueId(), holder);
+        if (remaining < 0) {
+            return 0;
+        }
+
+        World world = Bukkit.getWorld(holder.getWorldName());
+        if (remaining > 0) {
+            BlockPosMap<BlockData> borders = borderState.getBorders(holder);
+            if (borders != null && world != null) {
+                placementService.getRenderer().hide(player, world, borders.keys());
+            }
+            return 0;
+        }
+
+        // Last viewer gone: the borders themselves go
+        BlockPosMap<BlockData> borders = borderState.removeBorders(holder);
+        if (borders == null || world == null) {
+            return 0;
+        }
+        borderBlocksRemoved += borders.size();
+        int restored = placementService.getRenderer().clear(List.of(player), world, borders);
+        compactJournalIfNeeded();
+        return restored;
+    }
+
+    /**
+     * Territory key for an edge model owner: the owner's team leader.
+     */
+    private UUID territoryOf(UUID owner) {
+        return owner.equals(BorderEdgeModel.UNOWNED) ? owner : teamManager.getTeamLeader(owner);
+    }
+
+    /**
+     * Desired border columns of one territory tile: every edge of every owner in the team
+     * whose chunk lies in the tile.
+     */
+    private BorderColumns collectTerritoryTile(Player player, World world, BorderHolder holder,
+                                                   Map<UUID, UUID> territoryOf) {
+        BorderColumns desired = new BorderColumns();
+        UUID territory = holder.getOwnerId();
+        int minX = holder.getMinChunkX();
+        int minZ = holder.getMinChunkZ();
+        edgeModel.forEachEdgeInArea(world.getName(), minX, minZ,
+            minX + BorderHolder.TILE_SIZE - 1, minZ + BorderHolder.TILE_SIZE - 1,
+            (chunkX, chunkZ, lockedSides, owner) -> {
+                if (territory.equals(territoryOf.computeIfAbsent(owner, this::territoryOf))) {
+                    placementService.collectBordersForEdges(player, world, chunkX, chunkZ, lockedSides, desired);
+                }
+            });
+        return desired;
+    }
+
+    /**
+     * A lock change moves the outline of the chunk's territory and of the territories of its
+     * four neighbours; the tiles holding those edges are rebuilt once and their viewers rescheduled.
+     */
+    private void onTerritoryChanged(String worldName, int chunkX, int chunkZ, UUID ownerId) {
+        if (!enabled || !isSharingBorders()) return;
+        runOnMainThread(() -> {
+            Set<BorderHolder> holders = new HashSet<>();
+            holders.add(BorderHolder.tile(territoryOf(ownerId != null ? ownerId : BorderEdgeModel.UNOWNED),
+                worldName, chunkX, chunkZ));
+            for (int[] offset : new int[][] {{0, -1}, {1, 0}, {0, 1}, {-1, 0}}) {
+                int neighbourX = chunkX + offset[0];
+                int neighbourZ = chunkZ + offset[1];
+                UUID neighbour = edgeModel.getOwner(worldName, neighbourX, neighbourZ);
+                if (neighbour != null) {
+                    holders.add(BorderHolder.tile(territoryOf(neighbour), worldName, neighbourX, neighbourZ));
+                }
+            }
+
+            for (BorderHolder holder : holders) {
+                if (!viewers.hasViewers(holder)) continue;
+                viewers.markDirty(holder);
+                for (Player viewer : getOnlineViewers(holder)) {
+                    scheduleBorderUpdate(viewer);
+                }
+            }
+        });
+    }
+
+    private List<Player> getOnlineViewers(BorderHolder holder) {
+        Set<UUID> ids = viewers.getViewers(holder);
+        List<Player> online = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Player player = Bukkit.getPlayer(id);
+            if (player != null && player.isOnline()) {
+                online.add(player);
+            }
+        }
+        return online;
+    }
+
+    private void runOnMainThread(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
     
     /**
      * Updates borders after a chunk is unlocked
@@ -403,27 +698,9 @@ public class ChunkBorderManager {
                 return;
             }
 
-            placementService.removeSharedBorders(chunk, player, borderState);
-            placementService.createBordersForChunk(player, chunk, borderState);
-
-            // Refresh neighboring unlocked chunks
-            for (BorderDirection dir : BorderDirection.values()) {
-                try {
-                    Chunk neighbor = chunk.getWorld().getChunkAt(chunk.getX() + dir.dx, chunk.getZ() + dir.dz);
-                    
-                    // NEW: Validate neighbor chunk world
-                    if (!isWorldEnabled(neighbor)) {
-                        continue;
-                    }
-                    
-                    chunkLockManager.initializeChunk(neighbor, player.getUniqueId());
-                    if (!chunkLockManager.isLocked(neighbor)) {
-                        placementService.removeSharedBorders(neighbor, player, borderState);
-                        placementService.createBordersForChunk(player, neighbor, borderState);
-                    }
-                } catch (Exception ignored) {
-                }
-            }
+            // The edge model was updated when the chunk was unlocked, so a diffed update
+            // adds the new chunk's borders and drops the ones it now shares with its neighbours
+            updateBordersForPlayer(player);
         }, updateDelay);
     }
     
@@ -452,8 +729,8 @@ public class ChunkBorderManager {
         if (clickedBlock == null) {
             return;
         }
-        Material type = clickedBlock.getType();
-        if (type != borderMaterial) {
+        // Client-side borders are not in the world, so only tracking can identify them
+        if (placementService.getRenderer().isWorldBacked() && clickedBlock.getType() != borderMaterial) {
             return;
         }
 
@@ -474,15 +751,16 @@ public class ChunkBorderManager {
 
         // Cancel the event to prevent normal block interaction
         event.setCancelled(true);
+        resendBorderBlock(player, clickedBlock);
 
         try {
-            // Ensure chunk data is initialized
-            chunkLockManager.initializeChunk(chunk, player.getUniqueId());
+            // Resolve lock state, owner and evaluation once for the GUI and the info message
+            ChunkView view = chunkLockManager.resolveChunkView(chunk, player.getUniqueId());
             
             // Verify the chunk is still locked
-            if (chunkLockManager.isLocked(chunk)) {
+            if (view.isLocked()) {
                 UUID teamId = teamManager.getTeamLeader(player.getUniqueId());
-                boolean contested = chunkLockManager.isContestedChunk(chunk, teamId);
+                boolean contested = view.isContested(teamId);
 
                 if (contested) {
                     int maxClaims = chunkLockManager.getMaxContestedClaimsPerDay();
@@ -492,10 +770,10 @@ public class ChunkBorderManager {
                     }
                 }
 
-                unlockGui.open(player, chunk);
+                unlockGui.open(player, view);
 
                 // Show chunk info
-                var evaluation = chunkLockManager.evaluateChunk(player.getUniqueId(), chunk);
+                var evaluation = view.getEvaluation();
                 String biomeName = BiomeUnlockRegistry.getBiomeDisplayName(evaluation.biome);
 
                 player.sendMessage("§6🔍 Viewing unlock requirements for chunk " + chunk.getX() + ", " + chunk.getZ());
@@ -554,7 +832,9 @@ public class ChunkBorderManager {
         Player player = event.getPlayer();
         
         // Clean up borders when player leaves (regardless of world)
+        workScheduler.cancel(player.getUniqueId());
         removeBordersForPlayer(player);
+        pendingChunkResends.remove(player.getUniqueId());
     }
     
     /**
@@ -563,13 +843,25 @@ public class ChunkBorderManager {
     public void cleanup() {
         try {
             plugin.getLogger().info("Cleaning up ChunkBorderManager...");
+
+            // Stop the per-tick work before the journal closes; a reload builds a new manager
+            workScheduler.shutdown();
             
             // Remove all borders for all players
             for (Player player : Bukkit.getOnlinePlayers()) {
                 removeBordersForPlayer(player);
             }
             
+            stopParticleRenderer();
+            if (journal != null) {
+                compactJournalIfNeeded();
+                journal.close();
+            }
             borderState.clearAllBorders();
+            viewers.clear();
+            heightmapCache.clear();
+            chunkLockManager.removeLockListener(territoryListener);
+            chunkLockManager.removeLockListener(edgeModel);
             
             plugin.getLogger().info("ChunkBorderManager cleanup completed");
             
@@ -648,6 +940,10 @@ public class ChunkBorderManager {
         cfg.borderHeight = borderHeight;
         cfg.minYOffset = minYOffset;
         cfg.maxYOffset = maxYOffset;
+        cfg.useHeightmap = useHeightmap;
+        cfg.heightmapBelow = heightmapBelow;
+        cfg.heightmapAbove = heightmapAbove;
+        cfg.shareTeamBorders = shareTeamBorders;
         cfg.scanRange = scanRange;
         cfg.updateDelay = updateDelay;
         cfg.updateCooldown = updateCooldown;
@@ -658,6 +954,18 @@ public class ChunkBorderManager {
         cfg.borderMaterial = borderMaterial;
         cfg.borderUpdateDelayTicks = borderUpdateDelayTicks;
         cfg.maxBorderUpdatesPerTick = maxBorderUpdatesPerTick;
+        cfg.borderTickBudgetNanos = borderTickBudgetNanos;
+        cfg.borderBatchBlocks = borderBatchBlocks;
+        cfg.renderMode = renderMode;
+        cfg.particleIntervalTicks = loadedConfig.particleIntervalTicks;
+        cfg.particleViewDistance = loadedConfig.particleViewDistance;
+        cfg.particleFovDegrees = loadedConfig.particleFovDegrees;
+        cfg.particleSegmentsPerEdge = loadedConfig.particleSegmentsPerEdge;
+        cfg.particlesPerSegment = loadedConfig.particlesPerSegment;
+        cfg.particleRows = loadedConfig.particleRows;
+        cfg.particleRowSpacing = loadedConfig.particleRowSpacing;
+        cfg.particleSize = loadedConfig.particleSize;
+        cfg.particleColor = loadedConfig.particleColor;
         return cfg;
     }
     
@@ -669,17 +977,40 @@ public class ChunkBorderManager {
         Map<String, Object> stats = new HashMap<>();
         stats.put("enabled", enabled);
         stats.put("borderMaterial", me.chunklock.util.item.MaterialUtil.getMaterialName(borderMaterial));
+        stats.put("renderMode", renderMode.name());
+        if (particleRenderer != null) {
+            stats.put("particleRenderer", particleRenderer.toString());
+            stats.put("particlePacketsPerTick", particleRenderer.getPacketsPerTick());
+        }
         stats.put("scanRange", scanRange);
         stats.put("useFullHeight", useFullHeight);
         stats.put("borderHeight", borderHeight);
+        stats.put("useHeightmap", useHeightmap);
+        stats.put("sharedTeamBorders", isSharingBorders());
+        stats.put("borderHolders", viewers.getHolderCount());
+        stats.put("borderViewers", viewers.getViewerCount());
+        stats.put("borderSubscriptions", viewers.getSubscriptionCount());
+        if (journal != null) {
+            stats.put("borderJournal", journal.toString());
+        }
+        stats.put("heightmapCachedChunks", heightmapCache.getCachedChunkCount());
+        stats.put("heightmapPendingChunks", heightmapCache.getPendingChunkCount());
+        stats.put("heightmapComputedChunks", heightmapCache.getComputedChunkCount());
         stats.put("debugLogging", debugLogging);
-        stats.put("updateQueue", updateQueue.getStats().toString());
+        BorderWorkScheduler.SchedulerStats schedulerStats = workScheduler.getStats();
+        stats.put("borderScheduler", schedulerStats.toString());
+        stats.put("pendingBorderUpdates", schedulerStats.pendingPlayers);
+        stats.put("borderQueueLatency", schedulerStats.queueLatency);
         
         // Use BorderStateManager for statistics
         BorderStateManager.BorderStateStats borderStats = borderState.getStats();
-        stats.put("playersWithBorders", borderStats.playersWithBorders);
+        stats.put("holdersWithBorders", borderStats.holdersWithBorders);
         stats.put("totalBorderBlocks", borderStats.totalBorderBlocks);
-        stats.put("borderToChunkMappings", borderStats.borderToChunkMappings);
+        stats.put("distinctBorderPositions", borderStats.distinctBorderPositions);
+        stats.put("borderBlocksAdded", borderBlocksAdded);
+        stats.put("borderBlocksRemoved", borderBlocksRemoved);
+        stats.put("edgeModelUnlockedChunks", edgeModel.getUnlockedChunkCount());
+        stats.put("edgeModelEdges", edgeModel.getEdgeCount());
 
         // Configuration summary
         stats.put("config", Map.of(
@@ -688,7 +1019,9 @@ public class ChunkBorderManager {
             "restoreOriginalBlocks", restoreOriginalBlocks,
             "updateCooldown", updateCooldown + "ms",
             "borderUpdateDelayTicks", borderUpdateDelayTicks,
-            "maxBorderUpdatesPerTick", maxBorderUpdatesPerTick
+            "maxBorderUpdatesPerTick", maxBorderUpdatesPerTick,
+            "borderTickBudgetNanos", borderTickBudgetNanos,
+            "borderBatchBlocks", borderBatchBlocks
         ));
         
         // NEW: Add world-related border statistics
@@ -754,7 +1087,7 @@ public class ChunkBorderManager {
             return;
         }
         
-        updateQueue.scheduleBorderUpdate(player);
+        workScheduler.schedule(player.getUniqueId());
     }
 
     /**
@@ -769,20 +1102,16 @@ public class ChunkBorderManager {
             return null;
         }
 
-        // Verify this block belongs to this player's border set
-        Location loc = block.getLocation();
-        if (!borderState.isPlayerBorderBlock(player.getUniqueId(), loc)) {
+        // Verify this block belongs to a border set this player sees
+        World world = block.getWorld();
+        if (!isViewedBorderBlock(player.getUniqueId(), world.getName(),
+                BlockPosMap.pack(block.getX(), block.getY(), block.getZ()))) {
             return null;
         }
 
-        ChunkCoordinate coord = borderState.getChunkForBorder(loc);
-        if (coord == null) return null;
-
-        World world = Bukkit.getWorld(coord.world);
-        if (world == null || !isWorldEnabled(world)) return null;
-
+        // Border blocks sit inside the locked chunk they protect
         try {
-            return world.getChunkAt(coord.x, coord.z);
+            return world.getChunkAt(block.getX() >> 4, block.getZ() >> 4);
         } catch (Exception e) {
             return null;
         }
@@ -799,9 +1128,85 @@ public class ChunkBorderManager {
             return false;
         }
         
+        if (!placementService.getRenderer().isWorldBacked()) {
+            return borderState.isBorderBlock(block.getWorld().getName(), block.getX(), block.getY(), block.getZ());
+        }
         // CHANGED: Only check for the single border material from config
         return borderState.isBorderBlock(block, borderMaterial, null, null);
     }
+
+    /**
+     * Re-sends a client-side border block after an interaction with it was cancelled,
+     * since the server then sends the real block back to the client. No-op for world borders.
+     */
+    public void resendBorderBlock(Player player, Block block) {
+        BorderRenderer renderer = placementService.getRenderer();
+        if (renderer.isWorldBacked() || player == null || block == null) return;
+
+        World world = block.getWorld();
+        long pos = BlockPosMap.pack(block.getX(), block.getY(), block.getZ());
+        if (!isViewedBorderBlock(player.getUniqueId(), world.getName(), pos)) return;
+
+        // Next tick, after the server has sent its own correction for the cancelled action
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (isViewedBorderBlock(player.getUniqueId(), world.getName(), pos)) {
+                renderer.refresh(player, world, new long[] {pos});
+            }
+        });
+    }
+
+    /**
+     * Client-side borders are lost when the client (re)loads a chunk, so re-send the ones
+     * in that chunk. Loads are coalesced so each player gets at most one re-send pass per tick.
+     */
+    public void handlePlayerChunkLoad(Player player, Chunk chunk) {
+        if (!enabled || placementService.getRenderer().isWorldBacked()) return;
+
+        UUID playerId = player.getUniqueId();
+        if (!viewers.hasHolders(playerId)) return;
+
+        Set<Long> chunks = pendingChunkResends.get(playerId);
+        if (chunks == null) {
+            chunks = new HashSet<>();
+            pendingChunkResends.put(playerId, chunks);
+            Bukkit.getScheduler().runTask(plugin, () -> flushChunkResends(player));
+        }
+        chunks.add(ChunkLockMemo.pack(chunk.getX(), chunk.getZ()));
+    }
+
+    private void flushChunkResends(Player player) {
+        Set<Long> chunks = pendingChunkResends.remove(player.getUniqueId());
+        if (chunks == null || !player.isOnline()) return;
+
+        World world = player.getWorld();
+        for (BorderHolder holder : viewers.getHolders(player.getUniqueId())) {
+            if (!holder.getWorldName().equals(world.getName())) continue;
+            BlockPosMap<BlockData> borders = borderState.getBorders(holder);
+            if (borders == null) continue;
+
+            long[] toResend = new long[borders.size()];
+            int[] count = {0};
+            borders.forEach((pos, ignored) -> {
+                if (chunks.contains(ChunkLockMemo.pack(BlockPosMap.unpackX(pos) >> 4, BlockPosMap.unpackZ(pos) >> 4))) {
+                    toResend[count[0]++] = pos;
+                }
+            });
+            placementService.getRenderer().refresh(player, world, Arrays.copyOf(toResend, count[0]));
+        }
+    }
+
+    /**
+     * Whether a position is a border of one of the holders the player sees.
+     */
+    private boolean isViewedBorderBlock(UUID playerId, String worldName, long pos) {
+        for (BorderHolder holder : viewers.getHolders(playerId)) {
+            if (holder.getWorldName().equals(worldName)
+                    && borderState.isHolderBorderBlock(holder, pos)) {
+                return true;
+            }
+        }
+        return false;
+    }
     /**
      * Gets the chunk this border block protects, regardless of player.
      */
@@ -813,32 +1218,16 @@ public class ChunkBorderManager {
             return null;
         }
 
-        ChunkCoordinate coord = borderState.getChunkForBorder(block.getLocation());
-        if (coord == null) return null;
-
-        World world = Bukkit.getWorld(coord.world);
-        if (world == null || !isWorldEnabled(world)) return null;
+        World world = block.getWorld();
+        if (!borderState.isBorderBlock(world.getName(), block.getX(), block.getY(), block.getZ())) {
+            return null;
+        }
 
+        // Border blocks sit inside the locked chunk they protect
         try {
-            return world.getChunkAt(coord.x, coord.z);
+            return world.getChunkAt(block.getX() >> 4, block.getZ() >> 4);
         } catch (Exception e) {
             return null;
         }
     }
-
-    /** Direction for chunk borders */
-    private enum BorderDirection {
-        NORTH(0, -1),
-        EAST(1, 0),
-        SOUTH(0, 1),
-        WEST(-1, 0);
-
-        final int dx;
-        final int dz;
-
-        BorderDirection(int dx, int dz) {
-            this.dx = dx;
-            this.dz = dz;
-        }
-    }
-}
\ No newline at end of file
+}
@@ -7,18 +7,36 @@ import me.chunklock.models.ChunkData;
 import me.chunklock.models.Difficulty;
 import me.chunklock.services.ChunkStore;
 import me.chunklock.ChunklockPlugin;
+import me.chunklock.util.chunk.ChunkLockIndex;
 
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class ChunkLockManager {
 
+    /**
+     * Notified after a chunk's lock state has been saved, so derived models can update incrementally.
+     */
+    public interface ChunkLockListener {
+        void onChunkLockChanged(String worldName, int chunkX, int chunkZ, boolean locked, UUID ownerId);
+
+        /** Bulk changes (resets) that callers should rebuild from {@link #getUnlockedChunkOwners()}. */
+        void onLocksReset();
+    }
+
     private final ChunkStore chunkDatabase;
     private final ChunkEvaluator chunkEvaluator;
     private final JavaPlugin plugin;
     private final TeamManager teamManager;
 
+    // Resident lock-state bitmap for hot paths; the store stays authoritative
+    private final ChunkLockIndex lockIndex = new ChunkLockIndex();
+    private final List<ChunkLockListener> lockListeners = new CopyOnWriteArrayList<>();
+
     private final double contestedCostMultiplier;
     private final int maxContestedClaimsPerDay;
 
@@ -39,9 +57,32 @@ public class ChunkLockManager {
     }
 
     public boolean isLocked(Chunk chunk) {
+        int state = lockIndex.getState(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+        if (state != ChunkLockIndex.UNKNOWN) {
+            return state == ChunkLockIndex.LOCKED;
+        }
         return getChunkData(chunk).isLocked();
     }
 
+    /**
+     * Lock state by coordinates without loading, evaluating or persisting the chunk.
+     * Chunks that have never been seen are reported as locked, which is the state
+     * {@link #initializeChunk(Chunk)} would create them in. Answered from the resident
+     * lock index; misses read the store once and are cached.
+     */
+    public boolean isLockedAt(String worldName, int chunkX, int chunkZ) {
+        int state = lockIndex.getState(worldName, chunkX, chunkZ);
+        if (state != ChunkLockIndex.UNKNOWN) {
+            return state == ChunkLockIndex.LOCKED;
+        }
+
+        int generation = lockIndex.generation();
+        ChunkData data = chunkDatabase.getChunk(chunkDatabase.getChunkKey(worldName, chunkX, chunkZ));
+        boolean locked = data == null || data.isLocked();
+        lockIndex.fill(generation, worldName, chunkX, chunkZ, locked);
+        return locked;
+    }
+
     public Difficulty getDifficulty(Chunk chunk) {
         return getChunkData(chunk).getDifficulty();
     }
@@ -77,6 +118,8 @@ public class ChunkLockManager {
                     .build();
             chunkDatabase.saveChunk(key, newData);
         }
+        lockIndex.set(chunk.getWorld().getName(), chunk.getX(), chunk.getZ(), true);
+        notifyLockChanged(chunk, true, existing != null ? existing.getOwnerId() : null);
     }
 
     public void unlockChunk(Chunk chunk, UUID ownerId) {
@@ -85,6 +128,8 @@ public class ChunkLockManager {
         data.setOwnerId(ownerId);
         data.setUnlockedAt(System.currentTimeMillis());
         chunkDatabase.saveChunk(chunk, data);
+        lockIndex.set(chunk.getWorld().getName(), chunk.getX(), chunk.getZ(), false);
+        notifyLockChanged(chunk, false, ownerId);
     }
 
     // Backwards compatibility
@@ -122,6 +167,10 @@ public class ChunkLockManager {
         startingData.setLocked(false);
         chunkDatabase.saveChunk(newStartingChunk, startingData);
         
+        // Keys are strings here, so drop the index and let it refill from the store
+        lockIndex.clear();
+        notifyLocksReset();
+        
         plugin.getLogger().info("Re-locked " + chunksLocked + " chunks for player " + playerId);
     }
 
@@ -139,6 +188,41 @@ public class ChunkLockManager {
         return unlockedChunks;
     }
 
+    /**
+     * All unlocked chunk keys mapped to their owner, read in one store query
+     */
+    public Map<String, UUID> getUnlockedChunkOwners() {
+        return chunkDatabase.getUnlockedChunkOwners();
+    }
+
+    public void addLockListener(ChunkLockListener listener) {
+        lockListeners.add(listener);
+    }
+
+    public void removeLockListener(ChunkLockListener listener) {
+        lockListeners.remove(listener);
+    }
+
+    private void notifyLockChanged(Chunk chunk, boolean locked, UUID ownerId) {
+        for (ChunkLockListener listener : lockListeners) {
+            try {
+                listener.onChunkLockChanged(chunk.getWorld().getName(), chunk.getX(), chunk.getZ(), locked, ownerId);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error notifying chunk lock listener: " + e.getMessage());
+            }
+        }
+    }
+
+    private void notifyLocksReset() {
+        for (ChunkLockListener listener : lockListeners) {
+            try {
+                listener.onLocksReset();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error notifying chunk lock listener: " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Counts total unlocked chunks in the world
      */
@@ -159,25 +243,14 @@ public class ChunkLockManager {
                 chunkDatabase.saveChunk(chunkKey, data);
             }
         }
+        lockIndex.clear();
+        notifyLocksReset();
         
         plugin.getLogger().info("All chunks have been locked");
     }
 
     public void initializeChunk(Chunk chunk, UUID playerId) {
-        String key = getChunkKey(chunk);
-        ChunkData existing = chunkDatabase.getChunk(key);
-        if (existing == null) {
-            // Use ChunkEvaluator to determine difficulty, biome, score based on actual chunk properties
-            ChunkEvaluator.ChunkValueData evaluation = chunkEvaluator.evaluateChunk(playerId, chunk);
-            ChunkData newData = ChunkData.builder()
-                    .locked(true)
-                    .difficulty(evaluation.difficulty)
-                    .baseValue(evaluation.score) // Store score as baseValue
-                    .biome(evaluation.biome != null ? evaluation.biome.key().asString() : null)
-                    .score(evaluation.score)
-                    .build();
-            chunkDatabase.saveChunk(key, newData);
-        }
+        getOrCreateChunkData(chunk, playerId);
     }
 
     // Overload for backward compatibility
@@ -185,9 +258,46 @@ public class ChunkLockManager {
         initializeChunk(chunk, null); // Will use fallback logic in ChunkEvaluator
     }
 
+    /**
+     * Resolves lock state, owner and (lazily) evaluation and cost for a chunk in a single
+     * store lookup. Use this instead of initializeChunk + isLocked + evaluateChunk chains.
+     */
+    public ChunkView resolveChunkView(Chunk chunk, UUID playerId) {
+        String key = getChunkKey(chunk);
+        ChunkData data = chunkDatabase.getChunk(key);
+        ChunkEvaluator.ChunkValueData evaluation = null;
+        if (data == null) {
+            // Never-seen chunk: the evaluation used to create it doubles as the view's evaluation
+            evaluation = chunkEvaluator.evaluateChunk(playerId, chunk);
+            data = createChunkData(key, evaluation);
+        }
+        return new ChunkView(this, chunk, playerId, data, evaluation);
+    }
+
     private ChunkData getChunkData(Chunk chunk) {
-        initializeChunk(chunk);
-        return chunkDatabase.getChunk(chunk);
+        return getOrCreateChunkData(chunk, null);
+    }
+
+    private ChunkData getOrCreateChunkData(Chunk chunk, UUID playerId) {
+        String key = getChunkKey(chunk);
+        ChunkData existing = chunkDatabase.getChunk(key);
+        if (existing != null) {
+            return existing;
+        }
+        // Use ChunkEvaluator to determine difficulty, biome, score based on actual chunk properties
+        return createChunkData(key, chunkEvaluator.evaluateChunk(playerId, chunk));
+    }
+
+    private ChunkData createChunkData(String key, ChunkEvaluator.ChunkValueData evaluation) {
+        ChunkData newData = ChunkData.builder()
+                .locked(true)
+                .difficulty(evaluation.difficulty)
+                .baseValue(evaluation.score) // Store score as baseValue
+                .biome(evaluation.biome != null ? evaluation.biome.key().asString() : null)
+                .score(evaluation.score)
+                .build();
+        chunkDatabase.saveChunk(key, newData);
+        return newData;
     }
 
     private String getChunkKey(Chunk chunk) {
@@ -213,6 +323,13 @@ public class ChunkLockManager {
         return bypassingPlayers.contains(player.getUniqueId());
     }
 
+    /**
+     * Number of 32x32 chunk regions currently resident in the lock index.
+     */
+    public int getLockIndexRegionCount() {
+        return lockIndex.getRegionCount();
+    }
+
     public TeamManager getTeamManager() {
         return teamManager;
     }
@@ -0,0 +1,85 @@
+package me.chunklock.managers;
+
+import me.chunklock.economy.EconomyManager;
+import me.chunklock.models.ChunkData;
+import me.chunklock.models.Difficulty;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * Resolved view of a single chunk for one viewing player.
+ * Fetched once per chunk transition via {@link ChunkLockManager#resolveChunkView(Chunk, UUID)}
+ * and shared by the chat message, unlock GUI and border code so that lock state,
+ * owner, evaluation and cost are each looked up or computed at most once.
+ */
+public final class ChunkView {
+
+    private final ChunkLockManager chunkLockManager;
+    private final Chunk chunk;
+    private final UUID viewerId;
+    private final ChunkData data;
+
+    // Lazily computed, memoized for the lifetime of this view
+    private ChunkEvaluator.ChunkValueData evaluation;
+    private EconomyManager.PaymentRequirement cost;
+
+    ChunkView(ChunkLockManager chunkLockManager, Chunk chunk, UUID viewerId, ChunkData data,
+              ChunkEvaluator.ChunkValueData evaluation) {
+        this.chunkLockManager = chunkLockManager;
+        this.chunk = chunk;
+        this.viewerId = viewerId;
+        this.data = data;
+        this.evaluation = evaluation;
+    }
+
+    public Chunk getChunk() {
+        return chunk;
+    }
+
+    public UUID getViewerId() {
+        return viewerId;
+    }
+
+    public boolean isLocked() {
+        return data.isLocked();
+    }
+
+    public UUID getOwner() {
+        return data.getOwnerId();
+    }
+
+    public Difficulty getDifficulty() {
+        return data.getDifficulty();
+    }
+
+    /**
+     * Same semantics as {@link ChunkLockManager#isContestedChunk(Chunk, UUID)} without a second lookup.
+     */
+    public boolean isContested(UUID teamId) {
+        UUID owner = data.getOwnerId();
+        return owner != null && !owner.equals(teamId);
+    }
+
+    /**
+     * Evaluation for the viewing player, computed on first access.
+     */
+    public ChunkEvaluator.ChunkValueData getEvaluation() {
+        if (evaluation == null) {
+            evaluation = chunkLockManager.evaluateChunk(viewerId, chunk);
+        }
+        return evaluation;
+    }
+
+    /**
+     * Base unlock cost (before contested multiplier) for the viewing player, computed on first access.
+     */
+    public EconomyManager.PaymentRequirement getCost(Player player, EconomyManager economyManager) {
+        if (cost == null) {
+            ChunkEvaluator.ChunkValueData eval = getEvaluation();
+            cost = economyManager.calculateRequirement(player, chunk, eval.biome, eval);
+        }
+        return cost;
+    }
+}
@@ -3,35 +3,93 @@ package me.chunklock.managers;
 import me.chunklock.ChunklockPlugin;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 
 /**
  * Simplified WorldManager that handles world validation for ChunkLock.
  * Manages world-specific settings and validates which worlds have ChunkLock enabled.
  * Only supports the single dedicated ChunkLock world system.
+ * 
+ * The enabled flag is precomputed per world UID and refreshed on world load/unload
+ * and plugin reload, so event handlers can use {@link #isEnabled(World)} on every event.
  */
-public class WorldManager {
+public class WorldManager implements Listener {
+    
+    // Instance backing the static fast accessor; replaced on reload
+    private static volatile WorldManager activeInstance;
     
     private final ChunklockPlugin plugin;
     
+    // World UID -> enabled flag
+    private final Map<UUID, Boolean> enabledByWorldId = new ConcurrentHashMap<>();
+    
     public WorldManager(ChunklockPlugin plugin) {
         this.plugin = plugin;
         initializeConfig();
+        activeInstance = this;
     }
     
     private void initializeConfig() {
         // Basic world configuration - no per-player worlds needed
     }
     
+    /**
+     * Fast enabled-world check for event handlers.
+     * Returns false if the plugin is not (or no longer) initialized.
+     */
+    public static boolean isEnabled(World world) {
+        WorldManager manager = activeInstance;
+        return manager != null && manager.isWorldEnabled(world);
+    }
+    
     /**
      * Check if ChunkLock is enabled in this world
      */
     public boolean isWorldEnabled(World world) {
         if (world == null) return false;
-        return isWorldEnabled(world.getName());
+        
+        UUID worldId = world.getUID();
+        Boolean cached = enabledByWorldId.get(worldId);
+        if (cached != null) {
+            return cached;
+        }
+        
+        boolean result = isWorldEnabled(world.getName());
+        enabledByWorldId.put(worldId, result);
+        return result;
+    }
+    
+    /**
+     * Recomputes the enabled flag for every loaded world.
+     * Call after the SingleWorldManager is available or the configured world changes.
+     */
+    public void refreshWorldCache() {
+        enabledByWorldId.clear();
+        for (World world : Bukkit.getWorlds()) {
+            enabledByWorldId.put(world.getUID(), isWorldEnabled(world.getName()));
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        World world = event.getWorld();
+        enabledByWorldId.put(world.getUID(), isWorldEnabled(world.getName()));
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        enabledByWorldId.remove(event.getWorld().getUID());
     }
     
     /**
@@ -138,6 +196,9 @@ public class WorldManager {
      * Cleanup method for plugin disable
      */
     public void cleanup() {
-        // Nothing to cleanup for simplified version
+        enabledByWorldId.clear();
+        if (activeInstance == this) {
+            activeInstance = null;
+        }
     }
 }
\ No newline at end of file
@@ -154,6 +154,16 @@ public class ChunkDatabase implements ChunkStore {
         return count;
     }
 
+    public Map<String, UUID> getUnlockedChunkOwners() {
+        Map<String, UUID> owners = new HashMap<>();
+        for (Map.Entry<String, ChunkData> entry : chunkMap.entrySet()) {
+            if (!entry.getValue().isLocked()) {
+                owners.put(entry.getKey(), entry.getValue().getOwnerId());
+            }
+        }
+        return owners;
+    }
+
     public String getChunkKey(Chunk chunk) {
         return chunk.getWorld().getName() + ":" + chunk.getX() + ":" + chunk.getZ();
     }
@@ -3,6 +3,8 @@ package me.chunklock.services;
 import me.chunklock.models.ChunkData;
 import org.bukkit.Chunk;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -30,6 +32,21 @@ public interface ChunkStore {
 
     int getUnlockedChunksCount();
 
+    /**
+     * All unlocked chunk keys mapped to their owner (null if unowned).
+     * The default walks every record; stores should override with a filtered query.
+     */
+    default Map<String, UUID> getUnlockedChunkOwners() {
+        Map<String, UUID> owners = new HashMap<>();
+        for (String chunkKey : getAllChunkKeys()) {
+            ChunkData data = getChunk(chunkKey);
+            if (data != null && !data.isLocked()) {
+                owners.put(chunkKey, data.getOwnerId());
+            }
+        }
+        return owners;
+    }
+
     String getChunkKey(Chunk chunk);
 
     String getChunkKey(String worldName, int x, int z);
@@ -7,6 +7,7 @@ import org.bukkit.Chunk;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -225,6 +226,24 @@ public class MySqlChunkDatabase implements ChunkStore {
         return 0;
     }
 
+    @Override
+    public Map<String, UUID> getUnlockedChunkOwners() {
+        Map<String, UUID> owners = new HashMap<>();
+        String sql = "SELECT world_name, chunk_x, chunk_z, owner_uuid FROM chunk_data WHERE locked = FALSE";
+        try (Connection connection = connectionProvider.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                String owner = resultSet.getString("owner_uuid");
+                owners.put(getChunkKey(resultSet.getString("world_name"), resultSet.getInt("chunk_x"), resultSet.getInt("chunk_z")),
+                    owner != null ? UUID.fromString(owner) : null);
+            }
+        } catch (Exception e) {
+            plugin.getLogger().severe("Failed to load unlocked chunks from MySQL: " + e.getMessage());
+        }
+        return owners;
+    }
+
     @Override
     public String getChunkKey(Chunk chunk) {
         return chunk.getWorld().getName() + ":" + chunk.getX() + ":" + chunk.getZ();
@@ -18,6 +18,7 @@ import org.bukkit.inventory.ItemStack;
 import me.chunklock.ChunklockPlugin;
 import me.chunklock.config.LanguageKeys;
 import me.chunklock.managers.ChunkLockManager;
+import me.chunklock.managers.ChunkView;
 import me.chunklock.managers.BiomeUnlockRegistry;
 import me.chunklock.managers.PlayerProgressTracker;
 import me.chunklock.managers.TeamManager;
@@ -96,19 +97,27 @@ public class UnlockGui {
      * Open the unlock GUI for a player looking at a specific chunk.
      */
     public void open(Player player, Chunk chunk) {
+        open(player, chunkLockManager.resolveChunkView(chunk, player.getUniqueId()));
+    }
+
+    /**
+     * Open the unlock GUI from an already resolved chunk view, reusing its evaluation and cost.
+     */
+    public void open(Player player, ChunkView view) {
         UUID playerId = player.getUniqueId();
+        Chunk chunk = view.getChunk();
         
         // Clean up any existing state first
         stateManager.cleanupPlayer(playerId);
         
         // Evaluate chunk and calculate requirements using unified cost system
-        var evaluation = chunkLockManager.evaluateChunk(playerId, chunk);
+        var evaluation = view.getEvaluation();
         Biome biome = evaluation.biome;
         UUID teamId = teamManager.getTeamLeader(playerId);
-        boolean contested = chunkLockManager.isContestedChunk(chunk, teamId);
+        boolean contested = view.isContested(teamId);
 
         // Use EconomyManager for unified cost calculation (same as validation)
-        var paymentRequirement = economyManager.calculateRequirement(player, chunk, biome, evaluation);
+        var paymentRequirement = view.getCost(player, economyManager);
         
         // Convert PaymentRequirement to UnlockRequirement for backward compatibility with GUI builder
         BiomeUnlockRegistry.UnlockRequirement requirement;
@@ -0,0 +1,202 @@
+package me.chunklock.util.chunk;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory per-world bitmap of chunk lock state, used to answer "is chunk (x,z) locked?"
+ * from hot event handlers without touching the chunk store.
+ *
+ * Chunks are grouped into 32x32 regions; each region stores 2 bits per chunk
+ * (unknown / unlocked / locked) in 32 longs, one long per chunk row, so a lookup is
+ * a world map get, a region probe and one atomic long read, with no allocation.
+ * Lookups are lock-free and may run on any thread; updates are CAS-based and only
+ * region creation takes a per-world lock.
+ */
+public final class ChunkLockIndex {
+
+    public static final int UNKNOWN = 0;
+    public static final int UNLOCKED = 1;
+    public static final int LOCKED = 2;
+
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_MASK = (1 << REGION_SHIFT) - 1;
+
+    private final Map<String, WorldBits> worlds = new ConcurrentHashMap<>();
+
+    // Bumped by clear() so fills that raced with a reset are discarded
+    private volatile int generation;
+
+    /**
+     * @return {@link #UNKNOWN}, {@link #UNLOCKED} or {@link #LOCKED}
+     */
+    public int getState(String worldName, int chunkX, int chunkZ) {
+        WorldBits bits = worlds.get(worldName);
+        if (bits == null) {
+            return UNKNOWN;
+        }
+        AtomicLongArray region = bits.table.find(regionKey(chunkX, chunkZ));
+        if (region == null) {
+            return UNKNOWN;
+        }
+        return (int) (region.get(chunkZ & REGION_MASK) >>> shift(chunkX)) & 3;
+    }
+
+    /**
+     * Records an authoritative lock state change, overwriting whatever was cached.
+     */
+    public void set(String worldName, int chunkX, int chunkZ, boolean locked) {
+        WorldBits bits = worlds.computeIfAbsent(worldName, w -> new WorldBits());
+        AtomicLongArray region = bits.getOrCreate(regionKey(chunkX, chunkZ));
+        int row = chunkZ & REGION_MASK;
+        int shift = shift(chunkX);
+        long value = (long) (locked ? LOCKED : UNLOCKED) << shift;
+        long mask = 3L << shift;
+        long current;
+        do {
+            current = region.get(row);
+        } while (!region.compareAndSet(row, current, (current & ~mask) | value));
+    }
+
+    /**
+     * Caches a state read from the store, but only if nothing newer has been recorded since.
+     * Pass the {@link #generation()} observed before reading the store. Synchronized with
+     * {@link #clear()} so a value read before a reset can never land after it; fills only
+     * happen on misses, so the lock is uncontended in steady state.
+     */
+    public synchronized void fill(int expectedGeneration, String worldName, int chunkX, int chunkZ, boolean locked) {
+        if (generation != expectedGeneration) {
+            return;
+        }
+        WorldBits bits = worlds.computeIfAbsent(worldName, w -> new WorldBits());
+        AtomicLongArray region = bits.getOrCreate(regionKey(chunkX, chunkZ));
+        int row = chunkZ & REGION_MASK;
+        int shift = shift(chunkX);
+        long value = (long) (locked ? LOCKED : UNLOCKED) << shift;
+        long mask = 3L << shift;
+        long current;
+        do {
+            current = region.get(row);
+            if ((current & mask) != 0) {
+                return; // A concurrent set() already recorded the newer state
+            }
+        } while (!region.compareAndSet(row, current, current | value));
+    }
+
+    public int generation() {
+        return generation;
+    }
+
+    /**
+     * Forgets everything; states are re-read from the store on demand.
+     */
+    public synchronized void clear() {
+        generation++;
+        worlds.clear();
+    }
+
+    public int getRegionCount() {
+        int count = 0;
+        for (WorldBits bits : worlds.values()) {
+            count += bits.table.size;
+        }
+        return count;
+    }
+
+    private static long regionKey(int chunkX, int chunkZ) {
+        return ChunkLockMemo.pack(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+    }
+
+    private static int shift(int chunkX) {
+        return (chunkX & REGION_MASK) << 1;
+    }
+
+    private static final class WorldBits {
+        // Replaced wholesale when a region is added, so readers always see a consistent table
+        volatile RegionTable table = new RegionTable(16);
+
+        AtomicLongArray getOrCreate(long key) {
+            AtomicLongArray region = table.find(key);
+            if (region != null) {
+                return region;
+            }
+            synchronized (this) {
+                region = table.find(key);
+                if (region == null) {
+                    region = new AtomicLongArray(1 << REGION_SHIFT);
+                    table = table.with(key, region);
+                }
+                return region;
+            }
+        }
+    }
+
+    /**
+     * Immutable open-addressing map from packed region coordinates to region bits.
+     * Regions are added rarely (one per 32x32 chunks), so copy-on-write is cheap.
+     */
+    private static final class RegionTable {
+        final long[] keys;
+        final AtomicLongArray[] regions;
+        final int mask;
+        final int size;
+
+        RegionTable(int capacity) {
+            this.keys = new long[capacity];
+            this.regions = new AtomicLongArray[capacity];
+            this.mask = capacity - 1;
+            this.size = 0;
+        }
+
+        private RegionTable(long[] keys, AtomicLongArray[] regions, int size) {
+            this.keys = keys;
+            this.regions = regions;
+            this.mask = keys.length - 1;
+            this.size = size;
+        }
+
+        AtomicLongArray find(long key) {
+            int slot = slotFor(key, mask);
+            AtomicLongArray region;
+            while ((region = regions[slot]) != null) {
+                if (keys[slot] == key) {
+                    return region;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        RegionTable with(long key, AtomicLongArray region) {
+            int capacity = keys.length;
+            if ((size + 1) * 2 > capacity) {
+                capacity <<= 1;
+            }
+            long[] newKeys = new long[capacity];
+            AtomicLongArray[] newRegions = new AtomicLongArray[capacity];
+            int newMask = capacity - 1;
+            for (int i = 0; i < keys.length; i++) {
+                if (regions[i] != null) {
+                    insert(newKeys, newRegions, newMask, keys[i], regions[i]);
+                }
+            }
+            insert(newKeys, newRegions, newMask, key, region);
+            return new RegionTable(newKeys, newRegions, size + 1);
+        }
+
+        private static void insert(long[] keys, AtomicLongArray[] regions, int mask, long key, AtomicLongArray region) {
+            int slot = slotFor(key, mask);
+            while (regions[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            regions[slot] = region;
+        }
+
+        private static int slotFor(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package me.chunklock.util.chunk;
+
+import org.bukkit.block.Block;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Short-lived memo of chunk lock state keyed by packed chunk coordinates.
+ * Used to filter large block lists (explosions) with one lock lookup per distinct chunk
+ * instead of one per block. Open addressing on primitive arrays, so lookups do not allocate.
+ * Not thread-safe; intended to be reused by a single main-thread handler.
+ */
+public final class ChunkLockMemo {
+
+    /**
+     * Resolves the lock state of a chunk that has not been seen in the current pass.
+     */
+    @FunctionalInterface
+    public interface LockLookup {
+        boolean isLocked(int chunkX, int chunkZ);
+    }
+
+    private static final byte EMPTY = 0;
+    private static final byte UNLOCKED = 1;
+    private static final byte LOCKED = 2;
+
+    private long[] keys;
+    private byte[] states;
+    private int[] usedSlots;
+    private int used;
+    private int mask;
+
+    public ChunkLockMemo() {
+        this(16);
+    }
+
+    public ChunkLockMemo(int expectedChunks) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedChunks * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Packs chunk coordinates into a single long key.
+     */
+    public static long pack(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the lock state for a chunk, consulting the lookup only the first time
+     * the chunk is seen since the last {@link #clear()}.
+     */
+    public boolean isLocked(int chunkX, int chunkZ, LockLookup lookup) {
+        long key = pack(chunkX, chunkZ);
+        int slot = slotFor(key);
+        while (states[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return states[slot] == LOCKED;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        boolean locked = lookup.isLocked(chunkX, chunkZ);
+        if ((used + 1) * 2 > keys.length) {
+            grow();
+            slot = slotFor(key);
+            while (states[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+        }
+        keys[slot] = key;
+        states[slot] = locked ? LOCKED : UNLOCKED;
+        usedSlots[used++] = slot;
+        return locked;
+    }
+
+    /**
+     * Removes every block that lies in a locked chunk, in a single pass over the list.
+     * The memo is cleared first, so state never leaks between calls.
+     *
+     * @return the number of distinct chunks that were looked up
+     */
+    public int removeBlocksInLockedChunks(List<Block> blocks, LockLookup lookup) {
+        clear();
+        blocks.removeIf(block -> isLocked(block.getX() >> 4, block.getZ() >> 4, lookup));
+        return used;
+    }
+
+    /**
+     * Forgets all memoized chunks. Cost is proportional to the number of chunks seen, not the capacity.
+     */
+    public void clear() {
+        for (int i = 0; i < used; i++) {
+            states[usedSlots[i]] = EMPTY;
+        }
+        used = 0;
+    }
+
+    public int size() {
+        return used;
+    }
+
+    private int slotFor(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        states = new byte[capacity];
+        usedSlots = new int[capacity];
+        mask = capacity - 1;
+        used = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        byte[] oldStates = states;
+        int[] oldUsed = Arrays.copyOf(usedSlots, used);
+
+        allocate(oldKeys.length << 1);
+        for (int oldSlot : oldUsed) {
+            long key = oldKeys[oldSlot];
+            int slot = slotFor(key);
+            while (states[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            states[slot] = oldStates[oldSlot];
+            usedSlots[used++] = slot;
+        }
+    }
+}
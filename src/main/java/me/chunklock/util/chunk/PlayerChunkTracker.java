@@ -0,0 +1,74 @@
+package me.chunklock.util.chunk;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the last chunk each player was seen in as primitive (world id, chunkX, chunkZ).
+ * Lets movement handlers detect chunk transitions from block coordinates alone,
+ * without resolving {@code Chunk} objects on every move.
+ */
+public final class PlayerChunkTracker {
+
+    // One mutable record per player, updated in place so steady-state moves never allocate
+    private static final class Position {
+        UUID worldId;
+        int chunkX;
+        int chunkZ;
+    }
+
+    private final Map<UUID, Position> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Records the player's current chunk.
+     *
+     * @return true if the player was already tracked and this is a different chunk (a transition),
+     *         false if the chunk is unchanged or the player was not tracked yet
+     */
+    public boolean moveTo(UUID playerId, UUID worldId, int chunkX, int chunkZ) {
+        Position pos = positions.get(playerId);
+        if (pos == null) {
+            pos = new Position();
+            pos.worldId = worldId;
+            pos.chunkX = chunkX;
+            pos.chunkZ = chunkZ;
+            positions.put(playerId, pos);
+            return false;
+        }
+
+        if (pos.chunkX == chunkX && pos.chunkZ == chunkZ && sameWorld(pos.worldId, worldId)) {
+            return false;
+        }
+
+        pos.worldId = worldId;
+        pos.chunkX = chunkX;
+        pos.chunkZ = chunkZ;
+        return true;
+    }
+
+    /**
+     * Check whether the player is tracked in the given chunk, without updating anything.
+     */
+    public boolean isIn(UUID playerId, UUID worldId, int chunkX, int chunkZ) {
+        Position pos = positions.get(playerId);
+        return pos != null && pos.chunkX == chunkX && pos.chunkZ == chunkZ && sameWorld(pos.worldId, worldId);
+    }
+
+    public void forget(UUID playerId) {
+        positions.remove(playerId);
+    }
+
+    public void clear() {
+        positions.clear();
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    private static boolean sameWorld(UUID a, UUID b) {
+        // World UIDs are usually the same instance, so the identity check almost always short-circuits
+        return a == b || (a != null && a.equals(b));
+    }
+}
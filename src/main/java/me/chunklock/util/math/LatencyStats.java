@@ -0,0 +1,80 @@
+package me.chunklock.util.math;
+
+import java.util.Arrays;
+
+/**
+ * Rolling latency recorder: keeps the most recent samples in a fixed ring buffer and
+ * reports count, mean, max and percentiles over that window. Recording is O(1) and
+ * allocation-free; percentiles sort a copy and are meant for stats/debug output only.
+ * Not thread-safe.
+ */
+public final class LatencyStats {
+
+    private final long[] samples;
+    private int next;
+    private int filled;
+    private long total;
+    private long max;
+
+    public LatencyStats(int window) {
+        this.samples = new long[Math.max(1, window)];
+    }
+
+    public void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (filled < samples.length) {
+            filled++;
+        }
+        total++;
+        if (nanos > max) {
+            max = nanos;
+        }
+    }
+
+    /** Samples recorded since creation (not just those in the window). */
+    public long getCount() {
+        return total;
+    }
+
+    /** Largest sample since creation. */
+    public long getMaxNanos() {
+        return max;
+    }
+
+    public double getMeanNanos() {
+        if (filled == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < filled; i++) {
+            sum += samples[i];
+        }
+        return (double) sum / filled;
+    }
+
+    /**
+     * @param percentile 0-100, over the samples currently in the window
+     */
+    public long getPercentileNanos(double percentile) {
+        if (filled == 0) return 0;
+        long[] sorted = Arrays.copyOf(samples, filled);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * filled) - 1;
+        return sorted[Math.max(0, Math.min(filled - 1, index))];
+    }
+
+    public void reset() {
+        next = 0;
+        filled = 0;
+        total = 0;
+        max = 0;
+    }
+
+    /**
+     * Compact summary in milliseconds, e.g. {@code n=120 mean=0.41ms p99=3.20ms max=5.02ms}.
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.2fms p99=%.2fms max=%.2fms",
+            total, getMeanNanos() / 1_000_000.0, getPercentileNanos(99) / 1_000_000.0, max / 1_000_000.0);
+    }
+}
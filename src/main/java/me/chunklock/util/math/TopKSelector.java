@@ -0,0 +1,71 @@
+package me.chunklock.util.math;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Bounded top-K selection over indexed items: keeps the {@code k} best of {@code n} in a
+ * fixed-size max-heap of indices, O(n log k) with no boxing, instead of sorting all of them.
+ * Items are compared by index so callers can rank on precomputed primitive keys.
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {
+    }
+
+    /**
+     * Indices of the {@code k} smallest items of {@code 0..n-1} under {@code compare}, in no
+     * particular order. {@code compare} returns a negative number if item {@code a} ranks
+     * before item {@code b}; it must be a total order for the result to be deterministic.
+     */
+    public static int[] smallest(int n, int k, IntBinaryOperator compare) {
+        int size = Math.max(0, Math.min(n, k));
+        int[] heap = new int[size];
+        if (size == 0) {
+            return heap;
+        }
+
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+            siftUp(heap, i, compare);
+        }
+        // Root is the worst kept item; anything ranking before it takes its place
+        for (int i = size; i < n; i++) {
+            if (compare.applyAsInt(i, heap[0]) < 0) {
+                heap[0] = i;
+                siftDown(heap, size, compare);
+            }
+        }
+        return heap;
+    }
+
+    private static void siftUp(int[] heap, int pos, IntBinaryOperator compare) {
+        int item = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (compare.applyAsInt(item, heap[parent]) <= 0) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            pos = parent;
+        }
+        heap[pos] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, IntBinaryOperator compare) {
+        int item = heap[0];
+        int pos = 0;
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && compare.applyAsInt(heap[child + 1], heap[child]) > 0) {
+                child++;
+            }
+            if (compare.applyAsInt(item, heap[child]) >= 0) {
+                break;
+            }
+            heap[pos] = heap[child];
+            pos = child;
+        }
+        heap[pos] = item;
+    }
+}
@@ -0,0 +1,106 @@
+package me.chunklock.border;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the packed border block index (BlockPosMap / BlockPosCounter).
+ */
+class BlockPosMapTest {
+
+    @Test
+    void packRoundTripsWorldCoordinates() {
+        int[][] coords = {{0, 0, 0}, {-1, -64, -1}, {29_999_999, 319, -29_999_999}, {-30_000_000, -2048, 2047}};
+        for (int[] c : coords) {
+            long pos = BlockPosMap.pack(c[0], c[1], c[2]);
+            assertEquals(c[0], BlockPosMap.unpackX(pos));
+            assertEquals(c[1], BlockPosMap.unpackY(pos));
+            assertEquals(c[2], BlockPosMap.unpackZ(pos));
+        }
+        assertNotEquals(BlockPosMap.pack(-1, 0, 0), BlockPosMap.pack(0, 0, -1));
+    }
+
+    @Test
+    void storesNullValuesAsPresent() {
+        BlockPosMap<String> map = new BlockPosMap<>();
+        long pos = BlockPosMap.pack(1, 2, 3);
+        map.put(pos, null);
+
+        assertTrue(map.containsKey(pos));
+        assertNull(map.get(pos));
+        assertEquals(1, map.size());
+        assertNull(map.remove(pos));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        BlockPosMap<Integer> map = new BlockPosMap<>(4);
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            long pos = BlockPosMap.pack(random.nextInt(64) - 32, random.nextInt(16), random.nextInt(64) - 32);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(pos), map.remove(pos));
+            } else {
+                assertEquals(reference.put(pos, i), map.put(pos, i));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (Map.Entry<Long, Integer> entry : reference.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        int[] visited = {0};
+        map.forEach((pos, value) -> {
+            assertEquals(reference.get(pos), value);
+            visited[0]++;
+        });
+        assertEquals(reference.size(), visited[0]);
+        assertEquals(reference.size(), map.keys().length);
+    }
+
+    @Test
+    void counterDropsPositionWhenLastViewerLeaves() {
+        BlockPosCounter counter = new BlockPosCounter();
+        long pos = BlockPosMap.pack(10, 64, -10);
+
+        assertEquals(1, counter.increment(pos));
+        assertEquals(2, counter.increment(pos));
+        assertEquals(1, counter.decrement(pos));
+        assertTrue(counter.contains(pos));
+        assertEquals(0, counter.decrement(pos));
+        assertFalse(counter.contains(pos));
+        assertEquals(0, counter.decrement(pos));
+        assertTrue(counter.isEmpty());
+    }
+
+    @Test
+    void counterSurvivesChurn() {
+        BlockPosCounter counter = new BlockPosCounter();
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 50_000; i++) {
+            long pos = BlockPosMap.pack(random.nextInt(40), random.nextInt(8), random.nextInt(40));
+            if (random.nextBoolean()) {
+                assertEquals(reference.merge(pos, 1, Integer::sum).intValue(), counter.increment(pos));
+            } else {
+                int expected = reference.getOrDefault(pos, 0) > 0 ? reference.get(pos) - 1 : 0;
+                if (expected == 0) reference.remove(pos); else reference.put(pos, expected);
+                assertEquals(expected, counter.decrement(pos));
+            }
+        }
+
+        assertEquals(reference.size(), counter.size());
+        for (Map.Entry<Long, Integer> entry : reference.entrySet()) {
+            assertEquals(entry.getValue().intValue(), counter.count(entry.getKey()));
+        }
+    }
+}
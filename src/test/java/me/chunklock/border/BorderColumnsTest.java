@@ -0,0 +1,81 @@
+package me.chunklock.border;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the column ranges borders are collected into (BorderColumns) and the column runs
+ * a BorderDiff is planned as.
+ */
+class BorderColumnsTest {
+
+    @Test
+    void keepsOneRangePerColumn() {
+        BorderColumns columns = new BorderColumns();
+        columns.add(5, -3, -64, -60);
+        columns.add(5, -3, -62, 10);
+        columns.add(6, -3, 70, 70);
+        columns.add(7, -3, 71, 70);
+
+        assertEquals(2, columns.size());
+        assertEquals(76, columns.blockCount());
+        List<String> visited = new ArrayList<>();
+        columns.forEach((x, z, minY, maxY) -> visited.add(x + "," + z + ":" + minY + ".." + maxY));
+        assertTrue(visited.contains("5,-3:-64..10"));
+        assertTrue(visited.contains("6,-3:70..70"));
+    }
+
+    @Test
+    void containsOnlyBlocksInsideTheBand() {
+        BorderColumns columns = new BorderColumns();
+        for (int i = 0; i < 100; i++) {
+            columns.add(i, -i, -10, 5);
+        }
+
+        assertTrue(columns.contains(BlockPosMap.pack(42, -10, -42)));
+        assertTrue(columns.contains(BlockPosMap.pack(42, 0, -42)));
+        assertTrue(columns.contains(BlockPosMap.pack(42, 5, -42)));
+        assertFalse(columns.contains(BlockPosMap.pack(42, 6, -42)));
+        assertFalse(columns.contains(BlockPosMap.pack(42, -11, -42)));
+        assertFalse(columns.contains(BlockPosMap.pack(42, 0, 42)));
+        assertEquals(100 * 16, columns.blockCount());
+    }
+
+    @Test
+    void offsetYCrossesZeroWithinTheColumn() {
+        long pos = BlockPosMap.pack(-7, -2, 9);
+        long up = BlockPosMap.offsetY(pos, 3);
+
+        assertEquals(-7, BlockPosMap.unpackX(up));
+        assertEquals(1, BlockPosMap.unpackY(up));
+        assertEquals(9, BlockPosMap.unpackZ(up));
+    }
+
+    @Test
+    void loosePositionsBecomeOneRunPerColumnSpan() {
+        long[] positions = {
+            BlockPosMap.pack(1, 0, 1), BlockPosMap.pack(1, -1, 1), BlockPosMap.pack(2, 3, 1),
+            BlockPosMap.pack(1, 1, 1), BlockPosMap.pack(1, -2, 1), BlockPosMap.pack(1, 5, 1)
+        };
+        BorderDiff.Runs runs = new BorderDiff.Runs();
+        runs.addAll(positions, positions.length);
+
+        BorderDiff diff = new BorderDiff();
+        diff.addRemovals(new BorderHolder(new UUID(0, 1), "world"), runs);
+        BorderDiff.Segment segment = diff.current();
+
+        assertEquals(6, diff.getTotalBlocks());
+        assertEquals(3, segment.starts.length);
+        assertEquals(BlockPosMap.pack(1, -2, 1), segment.starts[0]);
+        assertEquals(4, segment.heights[0]);
+        assertEquals(BlockPosMap.pack(1, 5, 1), segment.starts[1]);
+        assertEquals(1, segment.heights[1]);
+        assertEquals(BlockPosMap.pack(2, 3, 1), segment.starts[2]);
+        assertEquals(1, segment.heights[2]);
+    }
+}
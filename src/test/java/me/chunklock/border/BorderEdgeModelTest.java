@@ -0,0 +1,175 @@
+package me.chunklock.border;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BorderEdgeModel: incremental updates must always match a full rebuild.
+ */
+class BorderEdgeModelTest {
+
+    private static final String WORLD = "world";
+    private static final int ALL = BorderEdgeModel.NORTH | BorderEdgeModel.EAST | BorderEdgeModel.SOUTH | BorderEdgeModel.WEST;
+
+    @Test
+    void isolatedChunkHasFourLockedSides() {
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        model.unlock(WORLD, 0, 0, UUID.randomUUID());
+
+        assertEquals(ALL, model.getLockedSides(WORLD, 0, 0));
+        assertEquals(4, model.getEdgeCount());
+    }
+
+    @Test
+    void adjacentUnlockRemovesSharedEdge() {
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        UUID owner = UUID.randomUUID();
+        model.unlock(WORLD, 0, 0, owner);
+        model.unlock(WORLD, 1, 0, owner);
+
+        assertEquals(ALL & ~BorderEdgeModel.EAST, model.getLockedSides(WORLD, 0, 0));
+        assertEquals(ALL & ~BorderEdgeModel.WEST, model.getLockedSides(WORLD, 1, 0));
+        assertEquals(6, model.getEdgeCount());
+    }
+
+    @Test
+    void relockRestoresNeighbourEdge() {
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        UUID owner = UUID.randomUUID();
+        model.unlock(WORLD, 0, 0, owner);
+        model.unlock(WORLD, 0, 1, owner);
+        model.lock(WORLD, 0, 1);
+
+        assertFalse(model.isUnlocked(WORLD, 0, 1));
+        assertEquals(ALL, model.getLockedSides(WORLD, 0, 0));
+    }
+
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+        BorderEdgeModel incremental = new BorderEdgeModel(null);
+        Map<String, UUID> unlocked = new HashMap<>();
+        UUID[] owners = {UUID.randomUUID(), UUID.randomUUID(), null};
+
+        Random random = new Random(42);
+        for (int i = 0; i < 2_000; i++) {
+            int x = random.nextInt(21) - 10;
+            int z = random.nextInt(21) - 10;
+            String key = WORLD + ":" + x + ":" + z;
+            if (random.nextInt(4) == 0) {
+                incremental.lock(WORLD, x, z);
+                unlocked.remove(key);
+            } else {
+                UUID owner = owners[random.nextInt(owners.length)];
+                incremental.unlock(WORLD, x, z, owner);
+                unlocked.put(key, owner);
+            }
+        }
+
+        BorderEdgeModel rebuilt = new BorderEdgeModel(null);
+        rebuilt.rebuild(unlocked);
+
+        assertEquals(rebuilt.getUnlockedChunkCount(), incremental.getUnlockedChunkCount());
+        assertEquals(rebuilt.getEdgeCount(), incremental.getEdgeCount());
+        for (int x = -11; x <= 11; x++) {
+            for (int z = -11; z <= 11; z++) {
+                assertEquals(rebuilt.getLockedSides(WORLD, x, z), incremental.getLockedSides(WORLD, x, z),
+                    "sides of " + x + "," + z);
+            }
+        }
+        for (UUID owner : owners) {
+            assertEquals(rebuilt.forEachEdgeOfOwner(WORLD, owner, (x, z, sides, o) -> { }),
+                incremental.forEachEdgeOfOwner(WORLD, owner, (x, z, sides, o) -> { }), "territory of " + owner);
+        }
+    }
+
+    @Test
+    void rangeQueryOnlyVisitsBoundaryChunksInRange() {
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        UUID owner = UUID.randomUUID();
+        // 5x5 block of unlocked chunks centred on the origin, plus one far away
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                model.unlock(WORLD, x, z, owner);
+            }
+        }
+        model.unlock(WORLD, 100, 100, owner);
+
+        List<String> visited = new ArrayList<>();
+        int count = model.forEachEdgeInRange(WORLD, 0, 0, 8, (x, z, sides, o) -> visited.add(x + "," + z));
+
+        assertEquals(16, count, "Only the ring of the 5x5 block has locked sides");
+        assertFalse(visited.contains("0,0"));
+        assertFalse(visited.contains("100,100"));
+
+        // Small radius takes the square-scan path instead of walking every unlocked chunk
+        assertEquals(3, model.forEachEdgeInRange(WORLD, 2, 2, 1, (x, z, sides, o) -> { }));
+        assertEquals(0, model.forEachEdgeInRange("world_nether", 0, 0, 8, (x, z, sides, o) -> fail("other world")));
+    }
+
+    @Test
+    void areaQueriesSplitTerritoryIntoTiles() {
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        UUID owner = UUID.randomUUID();
+        for (int x = -2; x <= 2; x++) {
+            for (int z = -2; z <= 2; z++) {
+                model.unlock(WORLD, x, z, owner);
+            }
+        }
+
+        // The 5x5 block straddles the four tiles around the origin; each edge lands in exactly one
+        Map<BorderHolder, Integer> perTile = new HashMap<>();
+        model.forEachEdgeInRange(WORLD, 0, 0, 8, (x, z, sides, o) ->
+            perTile.merge(BorderHolder.tile(o, WORLD, x, z), 1, Integer::sum));
+        assertEquals(4, perTile.size());
+
+        int total = 0;
+        for (Map.Entry<BorderHolder, Integer> entry : perTile.entrySet()) {
+            BorderHolder tile = entry.getKey();
+            int minX = tile.getMinChunkX();
+            int minZ = tile.getMinChunkZ();
+            int inTile = model.forEachEdgeInArea(WORLD, minX, minZ,
+                minX + BorderHolder.TILE_SIZE - 1, minZ + BorderHolder.TILE_SIZE - 1, (x, z, sides, o) -> {
+                    assertEquals(tile, BorderHolder.tile(o, WORLD, x, z));
+                });
+            assertEquals(entry.getValue().intValue(), inTile, "tile " + tile);
+            total += inTile;
+        }
+        assertEquals(16, total);
+        assertEquals(5, model.forEachEdgeInArea(WORLD, 0, 0, 7, 7, (x, z, sides, o) -> { }));
+    }
+
+    @Test
+    void ownerQueryFollowsOwnerChange() {
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        model.unlock(WORLD, 0, 0, alice);
+        model.unlock(WORLD, 5, 5, bob);
+        model.unlock(WORLD, 5, 5, alice);
+
+        assertEquals(2, model.forEachEdgeOfOwner(WORLD, alice, (x, z, sides, o) -> assertEquals(alice, o)));
+        assertEquals(0, model.forEachEdgeOfOwner(WORLD, bob, (x, z, sides, o) -> fail("bob owns nothing")));
+    }
+
+    @Test
+    void rebuildParsesKeysAndUnownedChunks() {
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        Map<String, UUID> unlocked = new HashMap<>();
+        unlocked.put("world:-3:4", null);
+        unlocked.put("world:-3:5", null);
+        unlocked.put("broken-key", null);
+        model.rebuild(unlocked);
+
+        assertEquals(2, model.getUnlockedChunkCount());
+        assertEquals(ALL & ~BorderEdgeModel.SOUTH, model.getLockedSides(WORLD, -3, 4));
+        assertEquals(2, model.forEachEdgeOfOwner(WORLD, null, (x, z, sides, o) -> assertEquals(BorderEdgeModel.UNOWNED, o)));
+    }
+}
@@ -0,0 +1,131 @@
+package me.chunklock.border;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the border journal: replay after a crash, torn writes and compaction.
+ */
+class BorderJournalTest {
+
+    private static final Logger LOGGER = Logger.getLogger("test");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void replaysBordersThatWereStillUp() throws IOException {
+        BorderJournal journal = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        assertTrue(journal.open().isEmpty());
+        journal.recordPlaced("world", BlockPosMap.pack(1, 64, 2), "GLASS", "minecraft:stone");
+        journal.recordPlaced("world", BlockPosMap.pack(1, 65, 2), "GLASS", null);
+        journal.recordPlaced("world_nether", BlockPosMap.pack(-5, 30, 9), "GLASS", "minecraft:netherrack");
+        journal.recordRemoved("world", BlockPosMap.pack(1, 64, 2));
+        journal.flush(); // No close: the server "crashes" here
+
+        BorderJournal reopened = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        List<BorderJournal.Entry> entries = reopened.open();
+        reopened.close();
+
+        assertEquals(2, entries.size());
+        assertEquals("world", entries.get(0).worldName);
+        assertEquals(BlockPosMap.pack(1, 65, 2), entries.get(0).pos);
+        assertEquals("GLASS", entries.get(0).material);
+        assertNull(entries.get(0).originalData);
+        assertEquals("world_nether", entries.get(1).worldName);
+        assertEquals("minecraft:netherrack", entries.get(1).originalData);
+    }
+
+    @Test
+    void tornRecordEndsTheJournal() throws IOException {
+        BorderJournal journal = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        journal.open();
+        journal.recordPlaced("w", BlockPosMap.pack(0, 0, 0), "GLASS", "minecraft:stone");
+        journal.recordPlaced("w", BlockPosMap.pack(0, 1, 0), "GLASS", "minecraft:stone");
+        journal.close();
+
+        // Header 16, strings "w" (10) and "GLASS" (14), first place record (36): the second
+        // record starts at 76. Give it a data length running past the end of the file.
+        try (FileChannel channel = FileChannel.open(tempDir.resolve("journal-a.dat"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, 10_000_000), 76 + 17);
+        }
+
+        BorderJournal reopened = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        List<BorderJournal.Entry> entries = reopened.open();
+        reopened.close();
+
+        assertEquals(1, entries.size());
+        assertEquals(BlockPosMap.pack(0, 0, 0), entries.get(0).pos);
+    }
+
+    @Test
+    void compactionKeepsLiveBordersAndLaterRecords() throws IOException {
+        BorderJournal journal = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        journal.open();
+        List<BorderJournal.Entry> live = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            long pos = BlockPosMap.pack(i, 64, 0);
+            journal.recordPlaced("world", pos, "GLASS", "minecraft:grass_block[snowy=false]");
+            if (i % 100 == 0) {
+                live.add(new BorderJournal.Entry("world", pos, "GLASS", "minecraft:grass_block[snowy=false]"));
+            } else {
+                journal.recordRemoved("world", pos);
+            }
+        }
+        journal.flush();
+        assertTrue(journal.needsCompaction());
+
+        journal.compact(live);
+        journal.recordPlaced("world", BlockPosMap.pack(0, 70, 0), "GLASS", null);
+        journal.flush();
+        assertFalse(journal.needsCompaction());
+        assertEquals(1, journal.getCompactionCount());
+        assertEquals(51, journal.getRecordCount());
+        journal.close();
+
+        BorderJournal reopened = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        List<BorderJournal.Entry> entries = reopened.open();
+        reopened.close();
+
+        Set<Long> positions = new HashSet<>();
+        entries.forEach(entry -> positions.add(entry.pos));
+        assertEquals(51, positions.size());
+        assertTrue(positions.contains(BlockPosMap.pack(100, 64, 0)));
+        assertTrue(positions.contains(BlockPosMap.pack(0, 70, 0)));
+        assertFalse(positions.contains(BlockPosMap.pack(1, 64, 0)));
+    }
+
+    @Test
+    void unfinishedCompactionFallsBackToTheOldFile() throws IOException {
+        BorderJournal journal = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        journal.open();
+        journal.recordPlaced("world", BlockPosMap.pack(3, 64, 3), "GLASS", "minecraft:dirt");
+        journal.close();
+
+        // A rewrite that crashed before its generation was set: valid magic, generation 0
+        ByteBuffer header = ByteBuffer.allocate(16).putInt(0x434C424A).putInt(1).putLong(0L);
+        header.flip();
+        Files.write(tempDir.resolve("journal-b.dat"), header.array());
+
+        BorderJournal reopened = new BorderJournal(tempDir.resolve("journal"), LOGGER);
+        List<BorderJournal.Entry> entries = reopened.open();
+        reopened.close();
+
+        assertEquals(1, entries.size());
+        assertEquals("minecraft:dirt", entries.get(0).originalData);
+    }
+}
@@ -0,0 +1,98 @@
+package me.chunklock.border;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BorderViewerRegistry: reference counting of shared border holders and dirty tracking.
+ */
+class BorderViewerRegistryTest {
+
+    private final UUID leader = new UUID(0, 1);
+    private final UUID alice = new UUID(0, 2);
+    private final UUID bob = new UUID(0, 3);
+    private final BorderHolder base = new BorderHolder(leader, "world");
+    private final BorderHolder netherBase = new BorderHolder(leader, "world_nether");
+
+    @Test
+    void holdersAreKeyedByOwnerAndWorld() {
+        assertEquals(new BorderHolder(leader, "world"), base);
+        assertNotEquals(base, netherBase);
+    }
+
+    @Test
+    void tilesAreKeyedByTerritoryAndTile() {
+        BorderHolder tile = BorderHolder.tile(leader, "world", 3, -5);
+        assertEquals(tile, BorderHolder.tile(leader, "world", 0, -8), "same 8x8 tile");
+        assertNotEquals(tile, BorderHolder.tile(leader, "world", 8, -5));
+        assertNotEquals(tile, BorderHolder.tile(alice, "world", 3, -5));
+        assertNotEquals(base, BorderHolder.tile(leader, "world", 0, 0), "whole-world holder is not a tile");
+        assertEquals(0, tile.getMinChunkX());
+        assertEquals(-8, tile.getMinChunkZ());
+    }
+
+    @Test
+    void lastViewerLeavingReleasesTheHolder() {
+        BorderViewerRegistry registry = new BorderViewerRegistry();
+        assertTrue(registry.subscribe(alice, base));
+        assertTrue(registry.subscribe(bob, base));
+        assertFalse(registry.subscribe(bob, base));
+        assertEquals(Set.of(alice, bob), registry.getViewers(base));
+        assertEquals(2, registry.getSubscriptionCount());
+
+        assertEquals(1, registry.unsubscribe(alice, base));
+        assertTrue(registry.hasViewers(base));
+        assertEquals(0, registry.unsubscribe(bob, base));
+        assertFalse(registry.hasViewers(base));
+        assertEquals(-1, registry.unsubscribe(bob, base));
+        assertEquals(0, registry.getHolderCount());
+        assertEquals(0, registry.getViewerCount());
+    }
+
+    @Test
+    void onlyTheFirstViewerMarksAHolderForBuilding() {
+        BorderViewerRegistry registry = new BorderViewerRegistry();
+        registry.subscribe(alice, base);
+        assertTrue(registry.clearDirty(base));
+
+        // A second viewer reuses what was built
+        registry.subscribe(bob, base);
+        assertFalse(registry.isDirty(base));
+
+        registry.markDirty(base);
+        assertTrue(registry.clearDirty(base));
+        assertFalse(registry.clearDirty(base));
+    }
+
+    @Test
+    void unviewedHoldersAreNeverDirty() {
+        BorderViewerRegistry registry = new BorderViewerRegistry();
+        registry.markDirty(base);
+        assertFalse(registry.isDirty(base));
+
+        registry.subscribe(alice, base);
+        registry.unsubscribe(alice, base);
+        assertFalse(registry.isDirty(base));
+
+        // Rebuilt from scratch when someone looks again
+        registry.subscribe(bob, base);
+        assertTrue(registry.isDirty(base));
+    }
+
+    @Test
+    void holdersOfAViewerAreACopy() {
+        BorderViewerRegistry registry = new BorderViewerRegistry();
+        registry.subscribe(alice, base);
+        registry.subscribe(alice, netherBase);
+
+        for (BorderHolder holder : registry.getHolders(alice)) {
+            registry.unsubscribe(alice, holder);
+        }
+        assertFalse(registry.hasHolders(alice));
+        assertTrue(registry.getHolders(alice).isEmpty());
+    }
+}
@@ -0,0 +1,222 @@
+package me.chunklock.border;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BorderWorkScheduler using a fake clock: each unit of work advances it by a fixed cost.
+ */
+class BorderWorkSchedulerTest {
+
+    private static final long UNIT_COST = 100_000L; // 0.1 ms per plan or batch
+
+    private final long[] now = {0L};
+    private final List<String> log = new ArrayList<>();
+    private int diffSize = 1_000;
+    private BorderDiff lastDiscarded;
+
+    private final BorderWorkScheduler.WorkHandler handler = new BorderWorkScheduler.WorkHandler() {
+        @Override
+        public BorderDiff plan(UUID playerId) {
+            now[0] += UNIT_COST;
+            log.add("plan:" + name(playerId));
+            BorderDiff diff = new BorderDiff();
+            diff.addAdditions(new BorderHolder(playerId, "world"), singleBlocks(diffSize));
+            return diff;
+        }
+
+        @Override
+        public int apply(UUID playerId, BorderDiff diff, int maxBlocks) {
+            now[0] += UNIT_COST;
+            log.add("batch:" + name(playerId));
+            int from = diff.offset();
+            int to = Math.min(diff.current().starts.length, from + maxBlocks);
+            diff.advance(to, to - from, 0);
+            return to - from;
+        }
+
+        @Override
+        public void discard(UUID playerId, BorderDiff diff) {
+            log.add("discard:" + name(playerId) + ":" + diff.getAdded());
+            lastDiscarded = diff;
+        }
+    };
+
+    private final UUID alice = new UUID(0, 1);
+    private final UUID bob = new UUID(0, 2);
+
+    // One run per block, so runs and blocks count the same
+    private static BorderDiff.Runs singleBlocks(int count) {
+        BorderDiff.Runs runs = new BorderDiff.Runs();
+        for (int i = 0; i < count; i++) {
+            runs.addRun(BlockPosMap.pack(i, 0, 0), 1);
+        }
+        return runs;
+    }
+
+    private String name(UUID id) {
+        return id.equals(alice) ? "alice" : "bob";
+    }
+
+    private BorderWorkScheduler scheduler(long budgetNanos, int batchBlocks, int maxPlansPerTick) {
+        return new BorderWorkScheduler(handler, Logger.getAnonymousLogger(), budgetNanos, batchBlocks, maxPlansPerTick,
+            () -> now[0]);
+    }
+
+    @Test
+    void coalescesDuplicateRequests() {
+        BorderWorkScheduler scheduler = scheduler(10_000_000L, 1_000, 10);
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(alice);
+        }
+        scheduler.tick();
+
+        assertEquals(List.of("plan:alice", "batch:alice"), log);
+        assertEquals(4, scheduler.getStats().coalescedRequests);
+        assertFalse(scheduler.isPending(alice));
+    }
+
+    @Test
+    void playersTakeTurnsOneUnitAtATime() {
+        BorderWorkScheduler scheduler = scheduler(10_000_000L, 250, 10);
+        scheduler.schedule(alice);
+        scheduler.schedule(bob);
+        scheduler.tick();
+
+        assertEquals(List.of(
+            "plan:alice", "plan:bob",
+            "batch:alice", "batch:bob", "batch:alice", "batch:bob",
+            "batch:alice", "batch:bob", "batch:alice", "batch:bob"), log);
+        assertEquals(0, scheduler.getPendingPlayers());
+        assertEquals(2_000, scheduler.getStats().blocks);
+    }
+
+    @Test
+    void stopsAtBudgetButAlwaysMakesProgress() {
+        // Budget smaller than a single unit: exactly one unit per tick
+        BorderWorkScheduler scheduler = scheduler(UNIT_COST / 2, 500, 10);
+        scheduler.schedule(alice);
+
+        scheduler.tick();
+        assertEquals(List.of("plan:alice"), log);
+        scheduler.tick();
+        scheduler.tick();
+        assertEquals(List.of("plan:alice", "batch:alice", "batch:alice"), log);
+        assertFalse(scheduler.isPending(alice));
+        assertEquals(2, scheduler.getStats().budgetExhaustedTicks);
+    }
+
+    @Test
+    void requestDuringApplyReplansAfterABatch() {
+        BorderWorkScheduler scheduler = scheduler(UNIT_COST * 2, 100, 10);
+        scheduler.schedule(alice);
+        scheduler.tick(); // plan + first batch
+
+        // Constant re-requests must still let batches through
+        for (int i = 0; i < 3; i++) {
+            scheduler.schedule(alice);
+            scheduler.tick();
+        }
+
+        assertEquals(List.of(
+            "plan:alice", "batch:alice",
+            "discard:alice:100", "plan:alice", "batch:alice",
+            "discard:alice:100", "plan:alice", "batch:alice",
+            "discard:alice:100", "plan:alice", "batch:alice"), log);
+    }
+
+    @Test
+    void replanMidDiffHandsBackTheUnappliedHolders() {
+        BorderWorkScheduler scheduler = scheduler(UNIT_COST * 2, 100, 10);
+        scheduler.schedule(alice);
+        scheduler.tick(); // plan + one batch of 1000
+        scheduler.schedule(alice);
+        scheduler.tick(); // replans on top of the unfinished diff
+
+        assertNotNull(lastDiscarded);
+        assertFalse(lastDiscarded.isDone());
+        assertEquals(100, lastDiscarded.getAdded());
+        assertEquals(Set.of(new BorderHolder(alice, "world")), lastDiscarded.getPendingHolders());
+        assertEquals(1, scheduler.getStats().discardedDiffs);
+    }
+
+    @Test
+    void cancelMidDiffHandsBackTheDiff() {
+        BorderWorkScheduler scheduler = scheduler(UNIT_COST * 2, 100, 10);
+        scheduler.schedule(alice);
+        scheduler.tick(); // plan + one batch
+
+        scheduler.cancel(alice);
+        assertEquals(List.of("plan:alice", "batch:alice", "discard:alice:100"), log);
+        assertFalse(scheduler.isPending(alice));
+
+        // Finished diffs are not handed back
+        log.clear();
+        diffSize = 100;
+        scheduler.schedule(bob);
+        scheduler.tick();
+        scheduler.cancel(bob);
+        assertEquals(List.of("plan:bob", "batch:bob"), log);
+    }
+
+    @Test
+    void planCapDefersRemainingPlansToLaterTicks() {
+        diffSize = 10;
+        BorderWorkScheduler scheduler = scheduler(10_000_000L, 100, 1);
+        scheduler.schedule(alice);
+        scheduler.schedule(bob);
+        scheduler.tick();
+
+        assertEquals(List.of("plan:alice", "batch:alice"), log);
+        scheduler.tick();
+        assertEquals(List.of("plan:alice", "batch:alice", "plan:bob", "batch:bob"), log);
+    }
+
+    @Test
+    void cancelAndZeroProgressDropWork() {
+        BorderWorkScheduler scheduler = new BorderWorkScheduler(new BorderWorkScheduler.WorkHandler() {
+            @Override
+            public BorderDiff plan(UUID playerId) {
+                BorderDiff diff = new BorderDiff();
+                diff.addAdditions(new BorderHolder(playerId, "world"), singleBlocks(10));
+                return diff;
+            }
+
+            @Override
+            public int apply(UUID playerId, BorderDiff diff, int maxBlocks) {
+                return 0; // player went offline
+            }
+
+            @Override
+            public void discard(UUID playerId, BorderDiff diff) {
+                log.add("discard:" + name(playerId));
+            }
+        }, Logger.getAnonymousLogger(), 10_000_000L, 100, 10, () -> now[0]);
+
+        scheduler.schedule(alice);
+        scheduler.schedule(bob);
+        scheduler.cancel(bob);
+        scheduler.tick();
+
+        assertEquals(0, scheduler.getPendingPlayers());
+        assertEquals(1, scheduler.getStats().plans);
+        assertEquals(List.of("discard:alice"), log, "Bob's diff was never planned");
+    }
+
+    @Test
+    void recordsQueueLatency() {
+        BorderWorkScheduler scheduler = scheduler(10_000_000L, 1_000, 10);
+        scheduler.schedule(alice);
+        now[0] += 5_000_000L; // request waits 5 ms for the next tick
+        scheduler.tick();
+
+        assertTrue(scheduler.getStats().queueLatency.contains("max=5.00ms"), scheduler.getStats().queueLatency);
+    }
+}
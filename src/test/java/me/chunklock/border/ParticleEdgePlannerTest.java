@@ -0,0 +1,86 @@
+package me.chunklock.border;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for particle border planning and view culling.
+ */
+class ParticleEdgePlannerTest {
+
+    private static final String WORLD = "world";
+
+    @Test
+    void segmentsLieOnTheChunkBoundary() {
+        ParticleEdgePlanner planner = new ParticleEdgePlanner(4);
+        BorderViewFrustum everywhere = new BorderViewFrustum(0, 0, 0f, 360, 1_000, 0);
+        List<double[]> segments = new ArrayList<>();
+
+        int visible = planner.planEdges(everywhere, 1, 2, BorderEdgeModel.NORTH | BorderEdgeModel.EAST,
+            (x, z, alongX) -> segments.add(new double[] {x, z, alongX ? 1 : 0}));
+
+        assertEquals(8, visible);
+        // North side: z = 32, x from 16 to 32 in 4-block segments
+        assertArrayEquals(new double[] {18, 32, 1}, segments.get(0));
+        assertArrayEquals(new double[] {30, 32, 1}, segments.get(3));
+        // East side: x = 32, z from 32 to 48
+        assertArrayEquals(new double[] {32, 34, 0}, segments.get(4));
+        assertArrayEquals(new double[] {32, 46, 0}, segments.get(7));
+    }
+
+    @Test
+    void frustumCullsBehindAndFarButKeepsNear() {
+        // Yaw 180 looks north (-Z)
+        BorderViewFrustum frustum = new BorderViewFrustum(0, 0, 180f, 90, 48, 6);
+
+        assertTrue(frustum.contains(0, -20));   // ahead
+        assertTrue(frustum.contains(15, -20));  // within 45 degrees
+        assertFalse(frustum.contains(25, -20)); // outside the cone
+        assertFalse(frustum.contains(0, 20));   // behind
+        assertTrue(frustum.contains(0, 4));     // behind but near
+        assertFalse(frustum.contains(0, -60));  // too far
+    }
+
+    @Test
+    void yawFollowsMinecraftConvention() {
+        // Yaw 90 looks west (-X), yaw -90 east (+X)
+        assertTrue(new BorderViewFrustum(0, 0, 90f, 60, 48, 0).contains(-20, 0));
+        assertFalse(new BorderViewFrustum(0, 0, 90f, 60, 48, 0).contains(20, 0));
+        assertTrue(new BorderViewFrustum(0, 0, -90f, 60, 48, 0).contains(20, 0));
+    }
+
+    @Test
+    void cullingDropsSegmentsBehindThePlayer() {
+        // A 9x9 chunk base, player in the middle looking north
+        BorderEdgeModel model = new BorderEdgeModel(null);
+        UUID owner = UUID.randomUUID();
+        for (int x = -4; x <= 4; x++) {
+            for (int z = -4; z <= 4; z++) {
+                model.unlock(WORLD, x, z, owner);
+            }
+        }
+
+        int segmentsPerEdge = 4;
+        ParticleEdgePlanner planner = new ParticleEdgePlanner(segmentsPerEdge);
+        BorderViewFrustum frustum = new BorderViewFrustum(8, 8, 180f, 140, 96, 6);
+        BorderViewFrustum unculled = new BorderViewFrustum(8, 8, 180f, 360, 1_000, 0);
+
+        int[] visible = {0};
+        int[] all = {0};
+        model.forEachEdgeInRange(WORLD, 0, 0, 6, (chunkX, chunkZ, sides, ignored) -> {
+            visible[0] += planner.planEdges(frustum, chunkX, chunkZ, sides, (x, z, alongX) -> { });
+            all[0] += planner.planEdges(unculled, chunkX, chunkZ, sides, (x, z, alongX) -> { });
+        });
+
+        assertEquals(36, model.getEdgeCount());
+        assertEquals(36 * segmentsPerEdge, all[0]);
+        // The north side ahead plus the near ends of the east and west sides: about a third
+        assertEquals(50, visible[0]);
+        assertTrue(visible[0] * 2 < all[0], "culling should drop at least half the segments");
+    }
+}
@@ -0,0 +1,110 @@
+package me.chunklock.hologram.core;
+
+import me.chunklock.hologram.core.HologramOpScheduler.OpType;
+import me.chunklock.hologram.util.HologramLocationUtils.WallSide;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for HologramOpScheduler: ordering, coalescing and the per-tick limits, driven by a
+ * fake clock.
+ */
+class HologramOpSchedulerTest {
+
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+    private static final Logger LOGGER = Logger.getLogger("test");
+
+    private final long[] now = {0L};
+
+    private HologramOpScheduler scheduler(int maxOps, long budgetNanos) {
+        return new HologramOpScheduler(LOGGER, maxOps, budgetNanos, () -> now[0]);
+    }
+
+    private static HologramId id(UUID player, int chunkX) {
+        return HologramId.create(player, "world", chunkX, 0, WallSide.NORTH);
+    }
+
+    @Test
+    void runsDespawnsFirstThenNearestWithinOpCap() {
+        HologramOpScheduler scheduler = scheduler(3, Long.MAX_VALUE / 4);
+        List<String> ran = new ArrayList<>();
+        scheduler.submit(id(ALICE, 1), OpType.SPAWN, 400, () -> ran.add("far"));
+        scheduler.submit(id(ALICE, 2), OpType.UPDATE, 25, () -> ran.add("near"));
+        scheduler.submit(id(ALICE, 3), OpType.DESPAWN, 900, () -> ran.add("despawn"));
+        scheduler.submit(id(ALICE, 4), OpType.SPAWN, 100, () -> ran.add("middle"));
+
+        assertEquals(3, scheduler.tick());
+        assertEquals(List.of("despawn", "near", "middle"), ran);
+        assertEquals(1, scheduler.getBacklog());
+
+        assertEquals(1, scheduler.tick());
+        assertEquals("far", ran.get(3));
+        assertEquals(0, scheduler.tick());
+    }
+
+    @Test
+    void coalescesPerHologram() {
+        HologramOpScheduler scheduler = scheduler(10, Long.MAX_VALUE / 4);
+        List<String> ran = new ArrayList<>();
+        HologramId hologram = id(ALICE, 0);
+
+        scheduler.submit(hologram, OpType.SPAWN, 0, () -> ran.add("spawn"));
+        scheduler.submit(hologram, OpType.UPDATE, 0, () -> ran.add("update"));
+        assertEquals(1, scheduler.getBacklog());
+        scheduler.tick();
+        assertEquals(List.of("spawn", "update"), ran, "An update after a pending spawn runs right after it");
+
+        ran.clear();
+        scheduler.submit(hologram, OpType.UPDATE, 0, () -> ran.add("old update"));
+        scheduler.submit(hologram, OpType.UPDATE, 0, () -> ran.add("new update"));
+        scheduler.tick();
+        assertEquals(List.of("new update"), ran);
+
+        ran.clear();
+        scheduler.submit(hologram, OpType.SPAWN, 0, () -> ran.add("spawn"));
+        scheduler.submit(hologram, OpType.DESPAWN, 0, () -> ran.add("despawn"));
+        scheduler.submit(hologram, OpType.UPDATE, 0, () -> ran.add("update"));
+        scheduler.tick();
+        assertEquals(List.of("despawn"), ran, "Updates behind a pending despawn are dropped");
+    }
+
+    @Test
+    void stopsAtTimeBudgetButAlwaysRunsOne() {
+        HologramOpScheduler scheduler = scheduler(100, 1_000);
+        for (int i = 0; i < 5; i++) {
+            scheduler.submit(id(ALICE, i), OpType.SPAWN, i, () -> now[0] += 600);
+        }
+
+        assertEquals(2, scheduler.tick(), "The second operation crosses the budget");
+        assertEquals(3, scheduler.getBacklog());
+
+        scheduler.configure(100, 1);
+        assertEquals(1, scheduler.tick(), "One operation runs even when a single one exceeds the budget");
+        assertTrue(scheduler.getApplyLatency().getPercentileNanos(99) >= 1_800);
+    }
+
+    @Test
+    void cancelsPerHologramAndPlayer() {
+        HologramOpScheduler scheduler = scheduler(100, Long.MAX_VALUE / 4);
+        List<String> ran = new ArrayList<>();
+        scheduler.submit(id(ALICE, 0), OpType.SPAWN, 0, () -> ran.add("alice 0"));
+        scheduler.submit(id(ALICE, 1), OpType.SPAWN, 0, () -> ran.add("alice 1"));
+        scheduler.submit(id(BOB, 0), OpType.SPAWN, 0, () -> ran.add("bob 0"));
+        scheduler.submit(id(BOB, 1), OpType.SPAWN, 0, () -> { throw new IllegalStateException("provider failed"); });
+
+        scheduler.cancel(id(BOB, 0));
+        scheduler.cancelPlayer(ALICE);
+        assertFalse(scheduler.isPending(id(ALICE, 1)));
+
+        assertEquals(1, scheduler.tick(), "A failing operation still counts and does not stop the tick");
+        assertTrue(ran.isEmpty());
+        assertEquals(0, scheduler.getBacklog());
+    }
+}
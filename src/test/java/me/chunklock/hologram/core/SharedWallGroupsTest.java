@@ -0,0 +1,82 @@
+package me.chunklock.hologram.core;
+
+import me.chunklock.hologram.core.SharedWallGroups.Section;
+import me.chunklock.hologram.core.SharedWallGroups.Transition;
+import me.chunklock.hologram.core.SharedWallGroups.WallKey;
+import me.chunklock.hologram.util.HologramLocationUtils.WallSide;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for SharedWallGroups: section sharing, moves between progress sections and removal of
+ * sections without viewers.
+ */
+class SharedWallGroupsTest {
+
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+    private static final WallKey WALL = new WallKey("world", 3, -2, WallSide.NORTH);
+
+    private static List<String> lines(String progress) {
+        return List.of("LOCKED", "", "Oak Log", "", progress, "CLICK");
+    }
+
+    @Test
+    void splitsLinesIntoAlignedSections() {
+        assertEquals("LOCKED\n\nOak Log\n\n\nCLICK", SharedWallGroups.sharedText(lines("3/16"), 4));
+        assertEquals("\n\n\n\n3/16\n", SharedWallGroups.progressText(lines("3/16"), 4));
+    }
+
+    @Test
+    void viewersShareSectionsWithTheSameText() {
+        SharedWallGroups groups = new SharedWallGroups();
+
+        Transition first = groups.assign("alice", ALICE, WALL, lines("3/16"), 4);
+        assertEquals(2, first.spawn().size());
+
+        Transition second = groups.assign("bob", BOB, WALL, lines("3/16"), 4);
+        assertTrue(second.spawn().isEmpty(), "Both sections already exist");
+        assertEquals(2, second.show().size());
+        assertEquals(2, groups.getSectionCount());
+        assertEquals(Set.of(ALICE, BOB), groups.getViewers(groups.getSections("bob").get(1)));
+
+        assertTrue(groups.assign("bob", BOB, WALL, lines("3/16"), 4).isEmpty(), "Unchanged lines touch nothing");
+    }
+
+    @Test
+    void progressChangesMoveOnlyTheProgressSection() {
+        SharedWallGroups groups = new SharedWallGroups();
+        groups.assign("alice", ALICE, WALL, lines("3/16"), 4);
+        groups.assign("bob", BOB, WALL, lines("3/16"), 4);
+        Section shared = groups.getSections("bob").get(0);
+
+        Transition moved = groups.assign("bob", BOB, WALL, lines("5/16"), 4);
+        assertEquals(1, moved.spawn().size());
+        assertEquals(1, moved.hide().size(), "Alice still sees the old progress");
+        assertTrue(moved.remove().isEmpty());
+        assertEquals(Set.of(ALICE, BOB), groups.getViewers(shared));
+
+        Transition released = groups.release("alice");
+        assertEquals(1, released.hide().size(), "Bob still sees the shared section");
+        assertEquals(1, released.remove().size(), "Nobody else sees 3/16");
+        assertEquals(2, groups.getSectionCount());
+
+        Transition last = groups.release("bob");
+        assertEquals(2, last.remove().size());
+        assertEquals(0, groups.getSectionCount());
+        assertEquals(0, groups.getHandleCount());
+        assertTrue(groups.release("bob").isEmpty());
+    }
+
+    @Test
+    void linesWithoutProgressLineHaveOnlyTheSharedSection() {
+        SharedWallGroups groups = new SharedWallGroups();
+        groups.assign("alice", ALICE, WALL, List.of("LOCKED", "CLICK"), 4);
+        assertEquals(1, groups.getSections("alice").size());
+    }
+}
@@ -0,0 +1,147 @@
+package me.chunklock.hologram.tracking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for FrontierTracker: incremental updates must always match the frontier computed
+ * from scratch, the way hologram candidates used to be found.
+ */
+class FrontierTrackerTest {
+
+    private static final String WORLD = "world";
+    private static final int NORTH = 1;
+    private static final int EAST = 1 << 1;
+    private static final int SOUTH = 1 << 2;
+    private static final int WEST = 1 << 3;
+
+    @Test
+    void isolatedChunkHasFourFrontierChunksFacingIt() {
+        FrontierTracker tracker = new FrontierTracker(null);
+        UUID owner = UUID.randomUUID();
+        tracker.unlock(WORLD, 0, 0, owner);
+
+        assertEquals(SOUTH, tracker.getFacingSides(WORLD, owner, 0, -1));
+        assertEquals(WEST, tracker.getFacingSides(WORLD, owner, 1, 0));
+        assertEquals(NORTH, tracker.getFacingSides(WORLD, owner, 0, 1));
+        assertEquals(EAST, tracker.getFacingSides(WORLD, owner, -1, 0));
+        assertEquals(4, tracker.getFrontierChunkCount());
+    }
+
+    @Test
+    void frontierChunkBetweenTwoOwnedChunksFacesBoth() {
+        FrontierTracker tracker = new FrontierTracker(null);
+        UUID owner = UUID.randomUUID();
+        tracker.unlock(WORLD, 0, 0, owner);
+        tracker.unlock(WORLD, 2, 0, owner);
+
+        assertEquals(EAST | WEST, tracker.getFacingSides(WORLD, owner, 1, 0));
+
+        // Unlocking the gap removes it from the frontier
+        tracker.unlock(WORLD, 1, 0, owner);
+        assertEquals(0, tracker.getFacingSides(WORLD, owner, 1, 0));
+        assertEquals(SOUTH, tracker.getFacingSides(WORLD, owner, 1, -1));
+    }
+
+    @Test
+    void frontiersAreKeptPerOwner() {
+        FrontierTracker tracker = new FrontierTracker(null);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        tracker.unlock(WORLD, 0, 0, alice);
+        tracker.unlock(WORLD, 2, 0, bob);
+
+        assertEquals(WEST, tracker.getFacingSides(WORLD, alice, 1, 0));
+        assertEquals(EAST, tracker.getFacingSides(WORLD, bob, 1, 0));
+
+        // Changing hands moves the frontier with it
+        tracker.unlock(WORLD, 0, 0, bob);
+        assertEquals(0, tracker.getFacingSides(WORLD, alice, 1, 0));
+        assertEquals(EAST | WEST, tracker.getFacingSides(WORLD, bob, 1, 0));
+    }
+
+    @Test
+    void incrementalUpdatesMatchRecomputation() {
+        FrontierTracker incremental = new FrontierTracker(null);
+        Map<String, UUID> unlocked = new HashMap<>();
+        UUID[] owners = {UUID.randomUUID(), UUID.randomUUID(), null};
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            int x = random.nextInt(12) - 6;
+            int z = random.nextInt(12) - 6;
+            String key = WORLD + ":" + x + ":" + z;
+            if (random.nextInt(3) == 0) {
+                incremental.lock(WORLD, x, z);
+                unlocked.remove(key);
+            } else {
+                UUID owner = owners[random.nextInt(owners.length)];
+                incremental.unlock(WORLD, x, z, owner);
+                unlocked.put(key, owner);
+            }
+        }
+
+        FrontierTracker rebuilt = new FrontierTracker(null);
+        rebuilt.rebuild(unlocked);
+        for (UUID owner : owners) {
+            for (int x = -8; x <= 8; x++) {
+                for (int z = -8; z <= 8; z++) {
+                    int expected = expectedFacingSides(unlocked, owner, x, z);
+                    assertEquals(expected, incremental.getFacingSides(WORLD, owner, x, z), "incremental " + x + "," + z);
+                    assertEquals(expected, rebuilt.getFacingSides(WORLD, owner, x, z), "rebuilt " + x + "," + z);
+                }
+            }
+        }
+        assertEquals(rebuilt.getFrontierChunkCount(), incremental.getFrontierChunkCount());
+    }
+
+    @Test
+    void rangeQueryVisitsOnlyNearbyFrontierOfTheOwner() {
+        FrontierTracker tracker = new FrontierTracker(null);
+        UUID owner = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        for (int x = 0; x < 40; x++) {
+            tracker.unlock(WORLD, x, 0, owner);
+        }
+        tracker.unlock(WORLD, 5, 5, other);
+
+        List<int[]> visited = new ArrayList<>();
+        int count = tracker.forEachFrontierInRange(WORLD, owner, 0, 0, 2,
+            (x, z, sides) -> visited.add(new int[] {x, z, sides}));
+
+        // x -2..2 on rows z = -1 and z = 1 (x >= 0), plus the west end at (-1, 0)
+        assertEquals(7, count);
+        for (int[] chunk : visited) {
+            assertTrue(Math.abs(chunk[0]) <= 2 && Math.abs(chunk[1]) <= 2);
+            assertNotEquals(0, chunk[2]);
+        }
+    }
+
+    /**
+     * Frontier the way HologramService used to find it: locked neighbours of owned chunks,
+     * with each side that faces an owned chunk.
+     */
+    private static int expectedFacingSides(Map<String, UUID> unlocked, UUID owner, int x, int z) {
+        if (unlocked.containsKey(WORLD + ":" + x + ":" + z)) {
+            return 0;
+        }
+        int[][] offsets = {{0, -1}, {1, 0}, {0, 1}, {-1, 0}};
+        int sides = 0;
+        for (int side = 0; side < 4; side++) {
+            String neighbour = WORLD + ":" + (x + offsets[side][0]) + ":" + (z + offsets[side][1]);
+            if (unlocked.containsKey(neighbour) && Objects.equals(unlocked.get(neighbour), owner)) {
+                sides |= 1 << side;
+            }
+        }
+        return sides;
+    }
+}
@@ -0,0 +1,84 @@
+package me.chunklock.hologram.tracking;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for MaterialCountTracker: seeding, deltas, resyncs and retention.
+ */
+class MaterialCountTrackerTest {
+
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    @Test
+    void seedsOnceThenFollowsDeltas() {
+        MaterialCountTracker tracker = new MaterialCountTracker();
+        int[] scans = {0};
+
+        assertEquals(5, tracker.track(PLAYER, Material.OAK_LOG, () -> { scans[0]++; return 5; }));
+        assertEquals(5, tracker.track(PLAYER, Material.OAK_LOG, () -> { scans[0]++; return 99; }));
+        assertEquals(1, scans[0], "Tracked materials are not rescanned");
+
+        assertTrue(tracker.applyDelta(PLAYER, Material.OAK_LOG, 3));
+        assertFalse(tracker.applyDelta(PLAYER, Material.OAK_LOG, 0));
+        assertEquals(8, tracker.track(PLAYER, Material.OAK_LOG, () -> 0));
+
+        assertTrue(tracker.applyDelta(PLAYER, Material.OAK_LOG, -20));
+        assertFalse(tracker.applyDelta(PLAYER, Material.OAK_LOG, -1), "Clamped at zero, so no change");
+        assertEquals(0, tracker.track(PLAYER, Material.OAK_LOG, () -> 0));
+    }
+
+    @Test
+    void untrackedMaterialsIgnoreDeltas() {
+        MaterialCountTracker tracker = new MaterialCountTracker();
+        assertFalse(tracker.applyDelta(PLAYER, Material.DIAMOND, 4));
+        assertFalse(tracker.isTracking(PLAYER));
+
+        tracker.track(PLAYER, Material.STONE, () -> 2);
+        assertFalse(tracker.applyDelta(PLAYER, Material.DIAMOND, 4));
+        assertFalse(tracker.isTracking(PLAYER, Material.DIAMOND));
+    }
+
+    @Test
+    void resyncReportsOnlyChangedTrackedMaterials() {
+        MaterialCountTracker tracker = new MaterialCountTracker();
+        tracker.track(PLAYER, Material.STONE, () -> 10);
+        tracker.track(PLAYER, Material.DIRT, () -> 3);
+        tracker.track(PLAYER, Material.OAK_LOG, () -> 7);
+
+        ItemStack[] contents = {
+            new ItemStack(Material.STONE, 64), null, new ItemStack(Material.DIRT, 3),
+            new ItemStack(Material.DIAMOND, 1), new ItemStack(Material.STONE, 6)
+        };
+        Set<Material> changed = tracker.resync(PLAYER, contents);
+
+        assertEquals(EnumSet.of(Material.STONE, Material.OAK_LOG), changed);
+        assertEquals(70, tracker.track(PLAYER, Material.STONE, () -> -1));
+        assertEquals(0, tracker.track(PLAYER, Material.OAK_LOG, () -> -1));
+        assertFalse(tracker.isTracking(PLAYER, Material.DIAMOND));
+        assertTrue(tracker.resync(UUID.randomUUID(), contents).isEmpty());
+    }
+
+    @Test
+    void retainDropsMaterialsNoLongerShown() {
+        MaterialCountTracker tracker = new MaterialCountTracker();
+        tracker.track(PLAYER, Material.STONE, () -> 1);
+        tracker.track(PLAYER, Material.DIRT, () -> 1);
+        assertEquals(2, tracker.size());
+
+        tracker.retain(PLAYER, EnumSet.of(Material.DIRT));
+        assertFalse(tracker.isTracking(PLAYER, Material.STONE));
+        assertTrue(tracker.isTracking(PLAYER, Material.DIRT));
+
+        tracker.retain(PLAYER, EnumSet.noneOf(Material.class));
+        assertFalse(tracker.isTracking(PLAYER));
+        assertEquals(0, tracker.size());
+    }
+}
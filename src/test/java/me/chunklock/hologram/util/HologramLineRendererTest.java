@@ -0,0 +1,73 @@
+package me.chunklock.hologram.util;
+
+import me.chunklock.config.LanguageKeys;
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for HologramLineRenderer: rendered lines per cost type and the cost cache.
+ */
+class HologramLineRendererTest {
+
+    private static final Map<String, String> MESSAGES = Map.of(
+        LanguageKeys.HOLOGRAM_LOCKED_TITLE, "LOCKED",
+        LanguageKeys.HOLOGRAM_MATERIAL_LINE, "§7%material%",
+        LanguageKeys.HOLOGRAM_STATUS_HAVE, "✓ %player_count%/%required_count%",
+        LanguageKeys.HOLOGRAM_STATUS_MISSING, "✗ %player_count%/%required_count% %material%",
+        LanguageKeys.HOLOGRAM_CLICK_TO_UNLOCK, "CLICK",
+        LanguageKeys.HOLOGRAM_COST_LINE, "Cost: %cost%",
+        LanguageKeys.HOLOGRAM_CAN_AFFORD, "yes",
+        LanguageKeys.HOLOGRAM_CANNOT_AFFORD, "no");
+
+    private static HologramLineRenderer renderer(int cacheSize) {
+        return new HologramLineRenderer(key -> MESSAGES.getOrDefault(key, key), cacheSize);
+    }
+
+    @Test
+    void rendersMaterialLinesPerPlayerCount() {
+        HologramLineRenderer renderer = renderer(8);
+
+        assertEquals(List.of("LOCKED", "", "§7Oak Log", "", "✗ 3/16 Oak Log", "CLICK"),
+            renderer.renderMaterialLines(Material.OAK_LOG, 16, false, 3));
+        assertEquals(List.of("LOCKED", "", "§7Oak Log", "", "✓ 20/16", "CLICK"),
+            renderer.renderMaterialLines(Material.OAK_LOG, 16, true, 20));
+        assertEquals("✗ 0/4 Diamond", renderer.renderMaterialLines(Material.DIAMOND, 4, false, 0).get(4));
+
+        assertEquals(1, renderer.getHits());
+        assertEquals(2, renderer.getMisses());
+    }
+
+    @Test
+    void sharesMoneyLinesPerCost() {
+        HologramLineRenderer renderer = renderer(8);
+
+        List<String> affordable = renderer.renderMoneyLines("$100", true);
+        assertEquals(List.of("LOCKED", "", "Cost: $100", "", "yes", "CLICK"), affordable);
+        assertEquals("no", renderer.renderMoneyLines("$100", false).get(4));
+        assertSame(affordable, renderer.renderMoneyLines("$100", true));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedCosts() {
+        HologramLineRenderer renderer = renderer(2);
+        renderer.renderMaterialLines(Material.STONE, 1, false, 0);
+        renderer.renderMaterialLines(Material.DIRT, 1, false, 0);
+        renderer.renderMaterialLines(Material.STONE, 1, false, 0); // Now most recently used
+        renderer.renderMaterialLines(Material.DIAMOND, 1, false, 0);
+        assertEquals(2, renderer.getCachedCosts());
+
+        long misses = renderer.getMisses();
+        renderer.renderMaterialLines(Material.STONE, 1, false, 0);
+        assertEquals(misses, renderer.getMisses());
+        renderer.renderMaterialLines(Material.DIRT, 1, false, 0);
+        assertEquals(misses + 1, renderer.getMisses());
+
+        renderer.clearCache();
+        assertEquals(0, renderer.getCachedCosts());
+    }
+}
@@ -0,0 +1,37 @@
+package me.chunklock.hologram.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for LineTemplate: compilation, partial binding and rendering of unbound placeholders.
+ */
+class LineTemplateTest {
+
+    @Test
+    void bindsRepeatedPlaceholdersAndMergesLiterals() {
+        LineTemplate template = LineTemplate.compile("§a%count%§7/%required% (%count%)");
+        assertEquals(List.of("count", "required", "count"), template.getPlaceholders());
+
+        LineTemplate bound = template.bind("required", "16");
+        assertEquals(List.of("count", "count"), bound.getPlaceholders());
+        assertEquals("§a3§7/16 (3)", bound.render("count", "3"));
+        assertEquals("§a%count%§7/16 (%count%)", bound.render());
+        assertSame(bound, bound.bind("missing", "x"), "Unused placeholders leave the template as is");
+
+        LineTemplate constant = bound.bind("count", "5");
+        assertTrue(constant.isConstant());
+        assertEquals("§a5§7/16 (5)", constant.render());
+    }
+
+    @Test
+    void leavesTextThatIsNotAPlaceholderAlone() {
+        assertEquals("100% done", LineTemplate.compile("100% done").render());
+        assertEquals("%a-b% x", LineTemplate.compile("%a-b% %v%").render("v", "x"));
+        assertEquals("", LineTemplate.compile(null).render());
+        assertTrue(LineTemplate.compile("plain").isConstant());
+    }
+}
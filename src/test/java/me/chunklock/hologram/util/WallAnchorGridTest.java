@@ -0,0 +1,82 @@
+package me.chunklock.hologram.util;
+
+import me.chunklock.hologram.util.HologramLocationUtils.WallSide;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for WallAnchorGrid: packing, access-ordered eviction and removal, checked against a
+ * LinkedHashMap in access order.
+ */
+class WallAnchorGridTest {
+
+    @Test
+    void packsFourSignedHeights() {
+        long anchors = WallAnchorGrid.pack(-64, 319, 0, -1);
+        assertEquals(-64, WallAnchorGrid.getY(anchors, WallSide.NORTH));
+        assertEquals(319, WallAnchorGrid.getY(anchors, WallSide.EAST));
+        assertEquals(0, WallAnchorGrid.getY(anchors, WallSide.SOUTH));
+        assertEquals(-1, WallAnchorGrid.getY(anchors, WallSide.WEST));
+        assertNotEquals(WallAnchorGrid.MISSING, anchors);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        WallAnchorGrid grid = new WallAnchorGrid(3);
+        grid.put("world", 0, 0, 10);
+        grid.put("world", 1, 0, 11);
+        grid.put("world_nether", 0, 0, 12);
+        assertEquals(10, grid.get("world", 0, 0)); // Now most recently used
+
+        grid.put("world", -5, 7, 13);
+
+        assertEquals(3, grid.size());
+        assertEquals(WallAnchorGrid.MISSING, grid.get("world", 1, 0));
+        assertEquals(10, grid.get("world", 0, 0));
+        assertEquals(12, grid.get("world_nether", 0, 0));
+        assertEquals(13, grid.get("world", -5, 7));
+        assertEquals(1, grid.getEvictions());
+    }
+
+    @Test
+    void matchesAccessOrderedMapUnderRandomOperations() {
+        int capacity = 64;
+        WallAnchorGrid grid = new WallAnchorGrid(capacity);
+        Map<String, Long> reference = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            String world = random.nextBoolean() ? "world" : "world_nether";
+            int x = random.nextInt(40) - 20;
+            int z = random.nextInt(40) - 20;
+            String key = world + ":" + x + ":" + z;
+            int op = random.nextInt(10);
+            if (op < 4) {
+                long value = random.nextLong() & 0xFFFFFFFFL;
+                grid.put(world, x, z, value);
+                reference.put(key, value);
+            } else if (op < 9) {
+                Long expected = reference.get(key);
+                assertEquals(expected != null ? expected : WallAnchorGrid.MISSING, grid.get(world, x, z), key);
+            } else {
+                grid.remove(world, x, z);
+                reference.remove(key);
+            }
+            assertEquals(reference.size(), grid.size());
+        }
+
+        grid.clear();
+        assertEquals(0, grid.size());
+        assertEquals(WallAnchorGrid.MISSING, grid.get("world", 0, 0));
+    }
+}
@@ -0,0 +1,65 @@
+package me.chunklock.util.chunk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ChunkLockIndex.
+ */
+class ChunkLockIndexTest {
+
+    @Test
+    void unseenChunksAreUnknown() {
+        ChunkLockIndex index = new ChunkLockIndex();
+        assertEquals(ChunkLockIndex.UNKNOWN, index.getState("world", 0, 0));
+
+        index.set("world", 0, 0, true);
+        assertEquals(ChunkLockIndex.UNKNOWN, index.getState("world", 1, 0), "Neighbour in same region");
+        assertEquals(ChunkLockIndex.UNKNOWN, index.getState("world_nether", 0, 0), "Other world");
+    }
+
+    @Test
+    void setOverwritesAndKeepsNeighboursIntact() {
+        ChunkLockIndex index = new ChunkLockIndex();
+        for (int x = -40; x < 40; x++) {
+            for (int z = -40; z < 40; z++) {
+                index.set("world", x, z, ((x + z) & 1) == 0);
+            }
+        }
+        index.set("world", 3, -7, false);
+        index.set("world", 3, -7, true);
+
+        for (int x = -40; x < 40; x++) {
+            for (int z = -40; z < 40; z++) {
+                int expected = ((x + z) & 1) == 0 ? ChunkLockIndex.LOCKED : ChunkLockIndex.UNLOCKED;
+                assertEquals(expected, index.getState("world", x, z), "chunk " + x + "," + z);
+            }
+        }
+        assertEquals(16, index.getRegionCount(), "Chunks -40..39 span regions -2..1 on each axis");
+    }
+
+    @Test
+    void fillNeverOverridesAnAuthoritativeSet() {
+        ChunkLockIndex index = new ChunkLockIndex();
+        int generation = index.generation();
+
+        index.set("world", 5, 5, false);
+        index.fill(generation, "world", 5, 5, true);
+
+        assertEquals(ChunkLockIndex.UNLOCKED, index.getState("world", 5, 5));
+    }
+
+    @Test
+    void fillFromBeforeClearIsDiscarded() {
+        ChunkLockIndex index = new ChunkLockIndex();
+        int generation = index.generation();
+
+        index.clear();
+        index.fill(generation, "world", 1, 1, false);
+        assertEquals(ChunkLockIndex.UNKNOWN, index.getState("world", 1, 1));
+
+        index.fill(index.generation(), "world", 1, 1, false);
+        assertEquals(ChunkLockIndex.UNLOCKED, index.getState("world", 1, 1));
+    }
+}
@@ -0,0 +1,139 @@
+package me.chunklock.util.chunk;
+
+import org.bukkit.block.Block;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ChunkLockMemo.
+ */
+class ChunkLockMemoTest {
+
+    @Test
+    void looksUpEachDistinctChunkOnce() {
+        ChunkLockMemo memo = new ChunkLockMemo();
+        AtomicInteger lookups = new AtomicInteger();
+        ChunkLockMemo.LockLookup lookup = (x, z) -> {
+            lookups.incrementAndGet();
+            return x < 0;
+        };
+
+        assertTrue(memo.isLocked(-1, 5, lookup));
+        assertTrue(memo.isLocked(-1, 5, lookup));
+        assertFalse(memo.isLocked(0, 5, lookup));
+        assertFalse(memo.isLocked(0, 5, lookup));
+
+        assertEquals(2, lookups.get());
+        assertEquals(2, memo.size());
+    }
+
+    @Test
+    void clearForgetsPreviousPass() {
+        ChunkLockMemo memo = new ChunkLockMemo();
+        memo.isLocked(1, 1, (x, z) -> true);
+        memo.clear();
+
+        assertEquals(0, memo.size());
+        assertFalse(memo.isLocked(1, 1, (x, z) -> false), "State must be looked up again after clear");
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        ChunkLockMemo memo = new ChunkLockMemo(2);
+        for (int x = -50; x < 50; x++) {
+            for (int z = -5; z < 5; z++) {
+                memo.isLocked(x, z, (cx, cz) -> ((cx ^ cz) & 1) == 0);
+            }
+        }
+        assertEquals(1000, memo.size());
+
+        for (int x = -50; x < 50; x++) {
+            for (int z = -5; z < 5; z++) {
+                boolean expected = ((x ^ z) & 1) == 0;
+                assertEquals(expected, memo.isLocked(x, z, (cx, cz) -> {
+                    throw new AssertionError("Already memoized");
+                }));
+            }
+        }
+    }
+
+    @Test
+    void packDistinguishesNegativeCoordinates() {
+        assertNotEquals(ChunkLockMemo.pack(-1, 0), ChunkLockMemo.pack(0, -1));
+        assertNotEquals(ChunkLockMemo.pack(-1, -1), ChunkLockMemo.pack(1, 1));
+    }
+
+    @Test
+    void removesOnlyBlocksInLockedChunks() {
+        List<Block> blocks = new ArrayList<>();
+        blocks.add(block(-1, 64, 0));   // chunk (-1, 0)
+        blocks.add(block(-16, 64, 15)); // chunk (-1, 0)
+        blocks.add(block(0, 64, 0));    // chunk (0, 0)
+        blocks.add(block(15, 64, -1));  // chunk (0, -1)
+
+        ChunkLockMemo memo = new ChunkLockMemo();
+        int distinct = memo.removeBlocksInLockedChunks(blocks, (x, z) -> x < 0 || z < 0);
+
+        assertEquals(3, distinct);
+        assertEquals(1, blocks.size());
+        assertEquals(0, blocks.get(0).getX());
+    }
+
+    /**
+     * Filters a 10k-block blast centred on a chunk corner (so it spans four chunks) and checks it
+     * keeps the same blocks as a per-block lookup while asking the store once per chunk.
+     */
+    @Test
+    void tenThousandBlockBlastLooksUpEachChunkOnce() {
+        List<Block> blast = syntheticBlast(10_000);
+        ChunkLockMemo memo = new ChunkLockMemo();
+        AtomicInteger storeLookups = new AtomicInteger();
+        ChunkLockMemo.LockLookup lookup = (x, z) -> {
+            storeLookups.incrementAndGet();
+            return x < 0;
+        };
+
+        List<Block> filtered = new ArrayList<>(blast);
+        memo.removeBlocksInLockedChunks(filtered, lookup);
+        int memoLookups = storeLookups.getAndSet(0);
+
+        List<Block> perBlock = new ArrayList<>(blast);
+        perBlock.removeIf(b -> lookup.isLocked(b.getX() >> 4, b.getZ() >> 4));
+
+        assertEquals(perBlock, filtered, "Both approaches must keep the same blocks");
+        assertEquals(4, memoLookups, "One store lookup per distinct chunk");
+        assertEquals(blast.size(), storeLookups.get());
+    }
+
+    private static List<Block> syntheticBlast(int size) {
+        List<Block> blocks = new ArrayList<>(size);
+        int side = (int) Math.ceil(Math.cbrt(size));
+        int half = side / 2;
+        for (int i = 0; blocks.size() < size; i++) {
+            int x = i % side - half;
+            int z = (i / side) % side - half;
+            int y = 64 + i / (side * side);
+            blocks.add(block(x, y, z));
+        }
+        return blocks;
+    }
+
+    private static Block block(int x, int y, int z) {
+        return (Block) Proxy.newProxyInstance(Block.class.getClassLoader(), new Class<?>[]{Block.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getX" -> x;
+                case "getY" -> y;
+                case "getZ" -> z;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "Block[" + x + "," + y + "," + z + "]";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
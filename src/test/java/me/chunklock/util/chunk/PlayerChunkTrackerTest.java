@@ -0,0 +1,50 @@
+package me.chunklock.util.chunk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PlayerChunkTracker: transition detection and forgetting players.
+ */
+class PlayerChunkTrackerTest {
+
+    private final UUID world = UUID.randomUUID();
+
+    @Test
+    void firstSightingIsNotATransition() {
+        PlayerChunkTracker tracker = new PlayerChunkTracker();
+        UUID player = UUID.randomUUID();
+
+        assertFalse(tracker.moveTo(player, world, 3, 4));
+        assertTrue(tracker.isIn(player, world, 3, 4));
+    }
+
+    @Test
+    void detectsChunkAndWorldTransitions() {
+        PlayerChunkTracker tracker = new PlayerChunkTracker();
+        UUID player = UUID.randomUUID();
+        UUID otherWorld = UUID.randomUUID();
+
+        tracker.moveTo(player, world, 0, 0);
+        assertFalse(tracker.moveTo(player, world, 0, 0), "Same chunk is not a transition");
+        assertTrue(tracker.moveTo(player, world, 1, 0), "Crossing X is a transition");
+        assertTrue(tracker.moveTo(player, world, 1, -1), "Crossing Z is a transition");
+        assertTrue(tracker.moveTo(player, otherWorld, 1, -1), "Same coordinates in another world is a transition");
+        assertTrue(tracker.isIn(player, otherWorld, 1, -1));
+    }
+
+    @Test
+    void forgetRemovesPlayer() {
+        PlayerChunkTracker tracker = new PlayerChunkTracker();
+        UUID player = UUID.randomUUID();
+
+        tracker.moveTo(player, world, 0, 0);
+        tracker.forget(player);
+
+        assertFalse(tracker.isIn(player, world, 0, 0));
+        assertEquals(0, tracker.size());
+    }
+}
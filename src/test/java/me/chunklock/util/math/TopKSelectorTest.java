@@ -0,0 +1,55 @@
+package me.chunklock.util.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TopKSelector against a full sort.
+ */
+class TopKSelectorTest {
+
+    @Test
+    void emptyAndOversizedLimits() {
+        assertEquals(0, TopKSelector.smallest(0, 5, Integer::compare).length);
+        assertEquals(0, TopKSelector.smallest(5, 0, Integer::compare).length);
+
+        int[] all = TopKSelector.smallest(3, 10, Integer::compare);
+        Arrays.sort(all);
+        assertArrayEquals(new int[] {0, 1, 2}, all);
+    }
+
+    @Test
+    void matchesFullSortWithTies() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(300);
+            int k = random.nextInt(40);
+            double[] keys = new double[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt(50); // Plenty of ties, broken by index
+            }
+
+            int[] selected = TopKSelector.smallest(n, k, (a, b) -> {
+                int c = Double.compare(keys[a], keys[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            });
+
+            Integer[] sorted = new Integer[n];
+            for (int i = 0; i < n; i++) sorted[i] = i;
+            Arrays.sort(sorted, (a, b) -> {
+                int c = Double.compare(keys[a], keys[b]);
+                return c != 0 ? c : Integer.compare(a, b);
+            });
+            int[] expected = new int[Math.min(n, k)];
+            for (int i = 0; i < expected.length; i++) expected[i] = sorted[i];
+
+            Arrays.sort(selected);
+            Arrays.sort(expected);
+            assertArrayEquals(expected, selected, "round " + round);
+        }
+    }
+}